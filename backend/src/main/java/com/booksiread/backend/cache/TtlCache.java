@@ -0,0 +1,199 @@
+package com.booksiread.backend.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * TtlCache - Small in-process LRU cache with TTL and stale-while-revalidate
+ *
+ * Lifecycle of an entry:
+ * - fresh   (age < ttl)              : served directly (hit)
+ * - stale   (ttl <= age < ttl+stale) : served directly, refresh scheduled in background
+ * - expired (age >= ttl+stale)       : reloaded synchronously (miss)
+ *
+ * Concurrent misses for the same key share a single loader call.
+ * A loader returning null means "nothing worth caching" and is passed through uncached.
+ * Counters are exported to Micrometer with TtlCacheMetrics.monitor.
+ */
+public class TtlCache<K, V> {
+
+    private static final Logger logger = LoggerFactory.getLogger(TtlCache.class);
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final Executor refreshExecutor;
+
+    /** Access-ordered map gives us LRU eviction; guarded by its own monitor */
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    public TtlCache(String name, int maxSize, Duration ttl, Duration staleWindow, Executor refreshExecutor) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.staleNanos = staleWindow.toNanos();
+        this.refreshExecutor = refreshExecutor;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Return the cached value for key, loading it with loader on a miss.
+     */
+    public V get(K key, Supplier<V> loader) {
+        long now = System.nanoTime();
+        Entry<V> entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+
+        if (entry != null) {
+            long age = now - entry.loadedAt;
+            if (age < ttlNanos) {
+                hits.increment();
+                return entry.value;
+            }
+            if (age < ttlNanos + staleNanos) {
+                staleHits.increment();
+                scheduleRefresh(key, loader);
+                return entry.value;
+            }
+        }
+
+        misses.increment();
+        return load(key, loader);
+    }
+
+    /**
+     * Drop a single key (e.g. when the underlying data changed).
+     */
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public String getName() { return name; }
+    long hitCount() { return hits.sum(); }
+    long staleHitCount() { return staleHits.sum(); }
+    long missCount() { return misses.sum(); }
+    long evictionCount() { return evictions.sum(); }
+    long refreshFailureCount() { return refreshFailures.sum(); }
+
+    /**
+     * Snapshot of counters, suitable for returning from a REST endpoint.
+     */
+    public Map<String, Object> stats() {
+        long h = hits.sum();
+        long s = staleHits.sum();
+        long m = misses.sum();
+        long total = h + s + m;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("name", name);
+        stats.put("size", size());
+        stats.put("maxSize", maxSize);
+        stats.put("hits", h);
+        stats.put("staleHits", s);
+        stats.put("misses", m);
+        stats.put("evictions", evictions.sum());
+        stats.put("refreshFailures", refreshFailures.sum());
+        stats.put("hitRate", total == 0 ? 0.0 : Math.round((h + s) * 1000.0 / total) / 1000.0);
+        return stats;
+    }
+
+    // ============================================
+    // Internals
+    // ============================================
+
+    private V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            // Someone else is already loading this key - wait for their result
+            return existing.join();
+        }
+
+        try {
+            V value = loader.get();
+            if (value != null) {
+                put(key, value);
+            }
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private void scheduleRefresh(K key, Supplier<V> loader) {
+        if (!refreshing.add(key)) {
+            return; // refresh already queued for this key
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    V value = loader.get();
+                    if (value != null) {
+                        put(key, value);
+                    }
+                } catch (Exception e) {
+                    refreshFailures.increment();
+                    logger.warn("Background refresh failed for cache '{}': {}", name, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            // Executor saturated - keep serving stale data, try again on a later request
+            refreshing.remove(key);
+            refreshFailures.increment();
+        }
+    }
+
+    private void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, System.nanoTime()));
+            while (entries.size() > maxSize) {
+                K eldest = entries.keySet().iterator().next();
+                entries.remove(eldest);
+                evictions.increment();
+            }
+        }
+    }
+
+    private record Entry<V>(V value, long loadedAt) {}
+}
@@ -0,0 +1,61 @@
+package com.booksiread.backend.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * TtlCacheMetrics - Publishes a TtlCache's counters under Micrometer's standard cache names
+ *
+ *   cache.gets{result=hit|stale|miss}, cache.evictions, cache.refresh.failures, cache.size
+ *
+ * all tagged cache=<name>, so hit rate is cache.gets{result!="miss"} / cache.gets.
+ * The meters read the cache's own counters; nothing extra is done on the get() path.
+ */
+public class TtlCacheMetrics implements MeterBinder {
+
+    private final TtlCache<?, ?> cache;
+
+    public TtlCacheMetrics(TtlCache<?, ?> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Register the cache's meters and return the cache, for use in constructors
+     */
+    public static <K, V> TtlCache<K, V> monitor(MeterRegistry registry, TtlCache<K, V> cache) {
+        new TtlCacheMetrics(cache).bindTo(registry);
+        return cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        gets(registry, "hit", TtlCache::hitCount);
+        gets(registry, "stale", TtlCache::staleHitCount);
+        gets(registry, "miss", TtlCache::missCount);
+
+        FunctionCounter.builder("cache.evictions", cache, c -> c.evictionCount())
+                .description("Entries evicted to stay within max size")
+                .tag("cache", cache.getName())
+                .register(registry);
+        FunctionCounter.builder("cache.refresh.failures", cache, c -> c.refreshFailureCount())
+                .description("Background refreshes that failed or were rejected")
+                .tag("cache", cache.getName())
+                .register(registry);
+        Gauge.builder("cache.size", cache, TtlCache::size)
+                .description("Entries currently cached")
+                .tag("cache", cache.getName())
+                .register(registry);
+    }
+
+    private void gets(MeterRegistry registry, String result, ToDoubleFunction<TtlCache<?, ?>> count) {
+        FunctionCounter.builder("cache.gets", cache, count)
+                .description("Cache lookups by result (stale = served while refreshing)")
+                .tag("cache", cache.getName())
+                .tag("result", result)
+                .register(registry);
+    }
+}
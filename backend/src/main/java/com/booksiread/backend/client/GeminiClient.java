@@ -3,11 +3,15 @@ package com.booksiread.backend.client;
 import com.booksiread.backend.dto.GeminiResponse;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
@@ -18,6 +22,15 @@ import java.util.Map;
  * Gemini API Client - Handles direct communication with Google Gemini API
  * 
  * Uses: v1beta API with gemini-pro (most stable, widely supported model)
+ *
+ * Metrics (tagged operation=notes|recommendations):
+ * - gemini.requests{outcome}: call latency, success or failure
+ * - gemini.tokens{type=prompt|completion}: tokens billed, from the response's usageMetadata
+ * - gemini.failures{reason}: http_<status>, unparseable, or the exception type
+ *
+ * The RestTemplate comes from Boot's builder, so each call is also an HTTP client span
+ * (and http.client.requests timer). The API key travels in the x-goog-api-key header
+ * rather than the query string, keeping it out of span attributes and metric tags.
  */
 @Component
 public class GeminiClient {
@@ -29,12 +42,17 @@ public class GeminiClient {
     @Value("${gemini.api.key}")
     private String apiKey;
 
+    private static final String NOTES = "notes";
+    private static final String RECOMMENDATIONS = "recommendations";
+
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
-    public GeminiClient() {
-        this.restTemplate = new RestTemplate();
+    public GeminiClient(RestTemplateBuilder restTemplateBuilder, MeterRegistry meterRegistry) {
+        this.restTemplate = restTemplateBuilder.build();
         this.objectMapper = new ObjectMapper();
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -44,41 +62,86 @@ public class GeminiClient {
      * @return Parsed response or null if failed
      */
     public GeminiResponse generateBookNotes(String prompt) {
-        try {
-            logger.info("Calling Gemini API for book notes generation");
+        logger.info("Calling Gemini API for book notes generation");
+        JsonNode root = call(NOTES, prompt);
+        if (root == null) {
+            return null;
+        }
+        GeminiResponse parsed = parseGeminiResponse(root);
+        if (parsed == null) {
+            recordFailure(NOTES, "unparseable");
+        }
+        return parsed;
+    }
 
+    /**
+     * POST the prompt and return the response tree, or null if the call failed.
+     * Records latency, token usage and failures for the operation.
+     */
+    private JsonNode call(String operation, String prompt) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
             // Build request body
             Map<String, Object> requestBody = buildRequestBody(prompt);
 
             // Set headers
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.set("x-goog-api-key", apiKey);
 
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
 
             // Make API call
-            String url = GEMINI_API_URL + "?key=" + apiKey;
             ResponseEntity<String> response = restTemplate.exchange(
-                    url,
+                    GEMINI_API_URL,
                     HttpMethod.POST,
                     entity,
                     String.class
             );
 
-            // Parse response
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return parseGeminiResponse(response.getBody());
-            } else {
-                logger.error("Gemini API returned non-OK status: {}", response.getStatusCode());
-                return null;
+                JsonNode root = objectMapper.readTree(response.getBody());
+                recordTokens(operation, root.path("usageMetadata"));
+                outcome = "success";
+                return root;
             }
+            logger.error("Gemini API returned non-OK status: {}", response.getStatusCode());
+            recordFailure(operation, "http_" + response.getStatusCode().value());
+            return null;
 
+        } catch (RestClientResponseException e) {
+            logger.error("Gemini API call ({}) failed with {}: {}", operation, e.getStatusCode(), e.getMessage());
+            recordFailure(operation, "http_" + e.getStatusCode().value());
+            return null;
         } catch (Exception e) {
-            logger.error("Error calling Gemini API: {}", e.getMessage(), e);
+            logger.error("Error calling Gemini API ({}): {}", operation, e.getMessage(), e);
+            recordFailure(operation, e.getClass().getSimpleName());
             return null;
+        } finally {
+            sample.stop(Timer.builder("gemini.requests")
+                    .description("Gemini generateContent calls")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
         }
     }
 
+    private void recordTokens(String operation, JsonNode usage) {
+        if (usage.isMissingNode()) {
+            return;
+        }
+        meterRegistry.counter("gemini.tokens", "operation", operation, "type", "prompt")
+                .increment(usage.path("promptTokenCount").asLong());
+        meterRegistry.counter("gemini.tokens", "operation", operation, "type", "completion")
+                .increment(usage.path("candidatesTokenCount").asLong());
+    }
+
+    private void recordFailure(String operation, String reason) {
+        meterRegistry.counter("gemini.failures", "operation", operation, "reason", reason).increment();
+    }
+
     /**
      * Build request body for Gemini API
      */
@@ -106,10 +169,8 @@ public class GeminiClient {
     /**
      * Parse Gemini API response and extract JSON content with robust error handling
      */
-    private GeminiResponse parseGeminiResponse(String responseBody) {
+    private GeminiResponse parseGeminiResponse(JsonNode root) {
         try {
-            JsonNode root = objectMapper.readTree(responseBody);
-            
             // Navigate Gemini's response structure
             JsonNode candidates = root.path("candidates");
             if (candidates.isEmpty()) {
@@ -149,8 +210,9 @@ public class GeminiClient {
 
     /**
      * Extract and clean JSON from Gemini response with robust handling
+     * (package-private for the benchmarks module)
      */
-    private String extractAndCleanJson(String text) {
+    static String extractAndCleanJson(String text) {
         if (text == null || text.trim().isEmpty()) {
             return null;
         }
@@ -200,46 +262,22 @@ public class GeminiClient {
      * @return JSON string with recommendations or null if failed
      */
     public String generateRecommendations(String prompt) {
-        try {
-            logger.info("Calling Gemini API for book recommendations");
-
-            // Build request body
-            Map<String, Object> requestBody = buildRequestBody(prompt);
-
-            // Set headers
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-            // Make API call
-            String url = GEMINI_API_URL + "?key=" + apiKey;
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-            );
-
-            // Extract text from response
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return extractTextFromResponse(response.getBody());
-            } else {
-                logger.error("Gemini API returned non-OK status: {}", response.getStatusCode());
-                return null;
-            }
-
-        } catch (Exception e) {
-            logger.error("Error calling Gemini API for recommendations: {}", e.getMessage(), e);
+        logger.info("Calling Gemini API for book recommendations");
+        JsonNode root = call(RECOMMENDATIONS, prompt);
+        if (root == null) {
             return null;
         }
+        String text = extractTextFromResponse(root);
+        if (text == null) {
+            recordFailure(RECOMMENDATIONS, "unparseable");
+        }
+        return text;
     }
 
     /**
      * Extract text content from Gemini API response
      */
-    private String extractTextFromResponse(String responseBody) throws Exception {
-        JsonNode root = objectMapper.readTree(responseBody);
+    private String extractTextFromResponse(JsonNode root) {
         JsonNode candidates = root.path("candidates");
 
         if (candidates.isArray() && candidates.size() > 0) {
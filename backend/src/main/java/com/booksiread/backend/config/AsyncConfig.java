@@ -1,19 +1,42 @@
 package com.booksiread.backend.config;
 
+import com.booksiread.backend.observability.TracingTaskDecorator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Async Configuration - Enables asynchronous processing for AI note generation
+ *
+ * Pool size, active threads and queue depth of every executor below are published by
+ * Actuator as executor.*{name=<bean name>} (aiNotesExecutor, cacheRefreshExecutor, ...);
+ * rejected tasks are counted here as executor.rejected tagged with the same bean name,
+ * so the two can be joined on name.
+ *
+ * Tasks continue the submitting request's trace (TracingTaskDecorator), so work handed
+ * to aiNotesExecutor and the others is traced as part of the request that queued it.
  */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+
+    public AsyncConfig(MeterRegistry meterRegistry, ObjectProvider<Tracer> tracer) {
+        this.meterRegistry = meterRegistry;
+        this.tracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+    }
+
     /**
      * Thread pool executor for AI notes generation
      * 
@@ -31,10 +54,111 @@ public class AsyncConfig {
         executor.setMaxPoolSize(5);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("ai-notes-");
+        executor.setRejectedExecutionHandler(countingRejections("aiNotesExecutor"));
+        executor.setTaskDecorator(new TracingTaskDecorator(tracer, "aiNotes"));
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
         
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Small executor for background cache refreshes (stale-while-revalidate)
+     *
+     * Refreshes are best-effort: when the queue is full the caller keeps
+     * serving the stale value and a later request retries.
+     */
+    @Bean(name = "cacheRefreshExecutor")
+    public Executor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setRejectedExecutionHandler(countingRejections("cacheRefreshExecutor"));
+        executor.setTaskDecorator(new TracingTaskDecorator(tracer, "cacheRefresh"));
+
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Bounded executor for the unified search fan-out (one task per source per request)
+     *
+     * Sized for short DB/index lookups; when saturated the search endpoint reports the
+     * rejected sources as errors instead of queueing behind slow ones.
+     */
+    @Bean(name = "searchExecutor")
+    public Executor searchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("search-");
+        executor.setRejectedExecutionHandler(countingRejections("searchExecutor"));
+        executor.setTaskDecorator(new TracingTaskDecorator(tracer, "search"));
+
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor that writes streaming export bodies (StreamingResponseBody)
+     *
+     * Each running export holds a database connection for its whole duration, so the pool
+     * is kept small; excess exports queue instead of draining the connection pool.
+     */
+    @Bean(name = "exportExecutor")
+    public ThreadPoolTaskExecutor exportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("export-");
+        executor.setRejectedExecutionHandler(countingRejections("exportExecutor"));
+        executor.setTaskDecorator(new TracingTaskDecorator(tracer, "export"));
+
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor for library imports (Goodreads / StoryGraph CSV)
+     *
+     * One thread: imports are long, batched writes and there is no hurry - a second
+     * import waits in the queue rather than competing for connections.
+     */
+    @Bean(name = "importExecutor")
+    public Executor importExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("library-import-");
+        executor.setRejectedExecutionHandler(countingRejections("importExecutor"));
+        executor.setTaskDecorator(new TracingTaskDecorator(tracer, "import"));
+
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Count each rejected task as executor.rejected{name=beanName}, then reject it as usual (AbortPolicy)
+     */
+    private RejectedExecutionHandler countingRejections(String beanName) {
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("Tasks rejected because the pool and queue were full")
+                .tag("name", beanName)
+                .register(meterRegistry);
+        RejectedExecutionHandler abort = new ThreadPoolExecutor.AbortPolicy();
+        return (task, pool) -> {
+            rejected.increment();
+            abort.rejectedExecution(task, pool);
+        };
+    }
 }
@@ -0,0 +1,64 @@
+package com.booksiread.backend.config;
+
+import com.booksiread.backend.observability.QueryBudgetInterceptor;
+import com.booksiread.backend.observability.QueryCountingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Query Budget Configuration - Per-request SQL instrumentation
+ *
+ * Wraps the DataSource so every statement is counted, and times each controller call's
+ * share. Budgets per handler ("Controller.method") are read from
+ * query-budget.endpoints[...]; the rest use query-budget.default-max-statements (0 = none).
+ */
+@Configuration
+@ConditionalOnProperty(name = "query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetConfig implements WebMvcConfigurer {
+
+    private final QueryBudgetInterceptor interceptor;
+
+    public QueryBudgetConfig(MeterRegistry meterRegistry, Environment environment) {
+        Binder binder = Binder.get(environment);
+        int defaultBudget = binder.bind("query-budget.default-max-statements", Integer.class).orElse(25);
+        Map<String, Integer> budgets = binder
+                .bind("query-budget.endpoints", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Map.of());
+        this.interceptor = new QueryBudgetInterceptor(meterRegistry, defaultBudget, budgets);
+    }
+
+    /** static: post-processors must not wait for this configuration's own dependencies */
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public QueryBudgetInterceptor queryBudgetInterceptor() {
+        return interceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor);
+    }
+}
@@ -0,0 +1,13 @@
+package com.booksiread.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration - Enables @Scheduled background jobs
+ * (e.g. rebuilding the collaborative-filtering model)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,9 +1,14 @@
 package com.booksiread.backend.config;
 
 import com.booksiread.backend.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
@@ -13,15 +18,20 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
 /**
  * SecurityConfig - Spring Security configuration
+ *
+ * Two chains: actuator endpoints (/actuator/**) use HTTP Basic with a dedicated scrape
+ * account, everything else uses JWT. A user's JWT never grants access to metrics.
  */
 @Configuration
 @EnableWebSecurity
@@ -49,6 +59,43 @@ public class SecurityConfig {
         return authConfig.getAuthenticationManager();
     }
 
+    /**
+     * Actuator chain - health is public, Prometheus and the rest need the scrape account
+     * (metrics.scrape.username / metrics.scrape.password). With no password configured,
+     * everything but health is denied.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http,
+                                                   @Value("${metrics.scrape.username:prometheus}") String username,
+                                                   @Value("${metrics.scrape.password:}") String password) throws Exception {
+        boolean scrapeEnabled = !password.isBlank();
+        InMemoryUserDetailsManager scrapeUsers = new InMemoryUserDetailsManager();
+        if (scrapeEnabled) {
+            scrapeUsers.createUser(User.withUsername(username)
+                    .password(passwordEncoder().encode(password))
+                    .roles("METRICS")
+                    .build());
+        }
+
+        http
+            .securityMatcher(EndpointRequest.toAnyEndpoint())
+            .csrf(AbstractHttpConfigurer::disable)
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .userDetailsService(scrapeUsers)
+            .httpBasic(Customizer.withDefaults())
+            .authorizeHttpRequests(auth -> {
+                auth.requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll();
+                if (scrapeEnabled) {
+                    auth.anyRequest().hasRole("METRICS");
+                } else {
+                    auth.anyRequest().denyAll();
+                }
+            });
+
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
@@ -61,6 +108,9 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(org.springframework.http.HttpMethod.OPTIONS, "/**").permitAll()
+                // Async re-dispatch of an already authorized request (streaming exports) - the JWT
+                // filter doesn't run again on it, so it would otherwise be rejected after the body is sent
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                 .requestMatchers("/api/auth/register", "/api/auth/login", "/api/auth/reset-password", "/api/auth/reset-password/confirm", "/api/auth/check-username/**", "/api/health").permitAll()
                 .requestMatchers("/api/books/**", "/api/activities/**", "/api/ai/**").authenticated()
                 .anyRequest().authenticated()
@@ -0,0 +1,50 @@
+package com.booksiread.backend.config;
+
+import com.booksiread.backend.observability.RepositorySpanInterceptor;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Tracing Configuration - Spans beyond what Spring Boot instruments by itself
+ *
+ * Boot already traces incoming requests and RestTemplateBuilder-built clients (Gemini,
+ * Brevo). Added here:
+ * - a span per repository method call (RepositorySpanInterceptor)
+ * - the logging exporter (tracing.logging-exporter.enabled), so traces can be read
+ *   offline without a collector; set management.otlp.tracing.endpoint to send them to one
+ *
+ * Executor handoffs are traced by the task decorator set in AsyncConfig.
+ */
+@Configuration
+public class TracingConfig {
+
+    /** static: post-processors must not wait for this configuration's own dependencies */
+    @Bean
+    public static BeanPostProcessor repositorySpanPostProcessor(ObjectProvider<Tracer> tracer) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // Before init: the factory bean creates the repository proxy in afterPropertiesSet
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(
+                                    new RepositorySpanInterceptor(tracer, information.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.logging-exporter.enabled", havingValue = "true")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
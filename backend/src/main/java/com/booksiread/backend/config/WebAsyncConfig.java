@@ -0,0 +1,35 @@
+package com.booksiread.backend.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Web Async Configuration - Executor and timeout for async MVC responses
+ *
+ * Without this Spring MVC writes StreamingResponseBody on an unbounded SimpleAsyncTaskExecutor
+ * and gives up after the container's default async timeout, which large exports exceed.
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor exportExecutor;
+    private final Duration timeout;
+
+    public WebAsyncConfig(@Qualifier("exportExecutor") ThreadPoolTaskExecutor exportExecutor,
+                          @Value("${export.timeout:PT10M}") Duration timeout) {
+        this.exportExecutor = exportExecutor;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(exportExecutor);
+        configurer.setDefaultTimeout(timeout.toMillis());
+    }
+}
@@ -1,9 +1,15 @@
 package com.booksiread.backend.controller;
 
+import com.booksiread.backend.entity.User;
+import com.booksiread.backend.security.CustomUserDetailsService;
 import com.booksiread.backend.service.AiNotesService;
+import com.booksiread.backend.service.CollaborativeFilteringService;
+import com.booksiread.backend.service.LibraryDigestService;
 import com.booksiread.backend.service.RecommendationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -18,13 +24,39 @@ import java.util.Map;
 @RequestMapping("/api/ai")
 public class AiController {
 
+    /** Upper bound for the limit parameter of the collaborative-filtering endpoints */
+    private static final int MAX_RECOMMENDATIONS = 50;
+
     private final AiNotesService aiNotesService;
     private final RecommendationService recommendationService;
+    private final LibraryDigestService libraryDigestService;
+    private final CollaborativeFilteringService collaborativeFilteringService;
+    private final CustomUserDetailsService userDetailsService;
 
     @Autowired
-    public AiController(AiNotesService aiNotesService, RecommendationService recommendationService) {
+    public AiController(AiNotesService aiNotesService, RecommendationService recommendationService,
+                        LibraryDigestService libraryDigestService,
+                        CollaborativeFilteringService collaborativeFilteringService,
+                        CustomUserDetailsService userDetailsService) {
         this.aiNotesService = aiNotesService;
         this.recommendationService = recommendationService;
+        this.libraryDigestService = libraryDigestService;
+        this.collaborativeFilteringService = collaborativeFilteringService;
+        this.userDetailsService = userDetailsService;
+    }
+
+    /** Keep limit within 1..MAX_RECOMMENDATIONS (0 or negative values would reach the model) */
+    private static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_RECOMMENDATIONS));
+    }
+
+    /**
+     * Get the currently authenticated user
+     */
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getName();
+        return userDetailsService.loadUserEntityByUsername(username);
     }
 
     /**
@@ -48,7 +80,24 @@ public class AiController {
     }
 
     /**
-     * POST /api/ai/recommendations/library - Get recommendations based on user's library
+     * GET /api/ai/recommendations/library - Get recommendations based on the current user's library
+     * 
+     * The library digest is built server-side from the user's books, so no payload is needed.
+     * 
+     * @return List of recommended books
+     */
+    @GetMapping("/recommendations/library")
+    public ResponseEntity<Map<String, Object>> getMyLibraryRecommendations() {
+        User currentUser = getCurrentUser();
+        List<Map<String, String>> recommendations = recommendationService.getLibraryBasedRecommendations(currentUser.getId());
+        
+        return ResponseEntity.ok(Map.of("recommendations", recommendations));
+    }
+
+    /**
+     * POST /api/ai/recommendations/library - Get recommendations based on a client-supplied book list
+     * 
+     * Kept for older clients; prefer GET /api/ai/recommendations/library.
      * 
      * @param request - Contains the list of books the user has read
      * @return List of recommended books
@@ -73,5 +122,45 @@ public class AiController {
         
         return ResponseEntity.ok(Map.of("recommendations", recommendations));
     }
-}
 
+    /**
+     * GET /api/ai/recommendations/similar?title=...&author=... - "Readers who finished X also finished Y"
+     * 
+     * Served from the in-memory collaborative-filtering model (no Gemini call).
+     * 
+     * @return List of similar books with co-reader counts
+     */
+    @GetMapping("/recommendations/similar")
+    public ResponseEntity<Map<String, Object>> getSimilarBooks(
+            @RequestParam String title,
+            @RequestParam String author,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(Map.of("similar",
+                collaborativeFilteringService.getSimilarBooks(title, author, clampLimit(limit))));
+    }
+
+    /**
+     * GET /api/ai/recommendations/collaborative - Suggestions from readers with overlapping libraries
+     * 
+     * @return List of recommended books, each with the owned book that led to it
+     */
+    @GetMapping("/recommendations/collaborative")
+    public ResponseEntity<Map<String, Object>> getCollaborativeRecommendations(
+            @RequestParam(defaultValue = "10") int limit) {
+        User currentUser = getCurrentUser();
+        return ResponseEntity.ok(Map.of("recommendations",
+                collaborativeFilteringService.getRecommendationsForUser(currentUser.getId(), clampLimit(limit))));
+    }
+
+    /**
+     * GET /api/ai/recommendations/cache-stats - Hit/miss counters for the recommendation cache
+     */
+    @GetMapping("/recommendations/cache-stats")
+    public ResponseEntity<Map<String, Object>> getRecommendationCacheStats() {
+        return ResponseEntity.ok(Map.of(
+            "recommendations", recommendationService.getCacheStats(),
+            "libraryDigest", libraryDigestService.getCacheStats(),
+            "collaborativeModel", collaborativeFilteringService.getModelStats()
+        ));
+    }
+}
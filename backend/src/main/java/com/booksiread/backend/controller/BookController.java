@@ -1,17 +1,18 @@
 package com.booksiread.backend.controller;
 
+import com.booksiread.backend.dto.BookChangesResponse;
 import com.booksiread.backend.dto.BookRequest;
 import com.booksiread.backend.dto.BookResponse;
-import com.booksiread.backend.repository.BookReviewRepository;
+import com.booksiread.backend.dto.BookSummaryResponse;
 import com.booksiread.backend.service.AiNotesService;
 import com.booksiread.backend.service.BookService;
+import com.booksiread.backend.service.WorkService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -25,14 +26,14 @@ public class BookController {
 
     private final BookService bookService;
     private final AiNotesService aiNotesService;
-    private final BookReviewRepository bookReviewRepository;
+    private final WorkService workService;
 
     @Autowired
     public BookController(BookService bookService, AiNotesService aiNotesService,
-                          BookReviewRepository bookReviewRepository) {
+                          WorkService workService) {
         this.bookService = bookService;
         this.aiNotesService = aiNotesService;
-        this.bookReviewRepository = bookReviewRepository;
+        this.workService = workService;
     }
 
     /**
@@ -57,6 +58,26 @@ public class BookController {
         return ResponseEntity.ok(books);
     }
 
+    /**
+     * GET /api/books/summary - Library grid
+     * Slim rows without notes, review and AI notes (load those via GET /api/books/{id})
+     * @return list of book summaries
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<List<BookSummaryResponse>> getLibrarySummaries() {
+        return ResponseEntity.ok(bookService.getLibrarySummaries());
+    }
+
+    /**
+     * GET /api/books/changes?since=token - Delta sync
+     * Returns books changed and ids deleted since the token (everything when omitted)
+     * @return changes and the token for the next call
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<BookChangesResponse> getChanges(@RequestParam(required = false) String since) {
+        return ResponseEntity.ok(bookService.getChanges(since));
+    }
+
     /**
      * GET /api/books/{id} - Get a single book
      * 
@@ -133,15 +154,13 @@ public class BookController {
     }
 
     /**
-     * GET /api/books/{id}/community-stats - Community rating & review count for a book
+     * GET /api/books/{id}/community-stats - Community rating, review count and rating distribution
+     * 
+     * Aggregated across every user's copy of the same work and served from a
+     * precomputed stats row (no AVG/COUNT over reviews per view).
      */
     @GetMapping("/{id}/community-stats")
-    public ResponseEntity<Map<String, Object>> getCommunityStats(@PathVariable Long id) {
-        Map<String, Object> stats = new HashMap<>();
-        Double avgRating = bookReviewRepository.getAverageRatingForBook(id);
-        long reviewCount = bookReviewRepository.countByBookId(id);
-        stats.put("averageRating", avgRating != null ? Math.round(avgRating * 10.0) / 10.0 : null);
-        stats.put("reviewCount", reviewCount);
-        return ResponseEntity.ok(stats);
+    public ResponseEntity<WorkService.CommunityStats> getCommunityStats(@PathVariable Long id) {
+        return ResponseEntity.ok(workService.getCommunityStats(id));
     }
 }
@@ -0,0 +1,69 @@
+package com.booksiread.backend.controller;
+
+import com.booksiread.backend.entity.User;
+import com.booksiread.backend.security.CustomUserDetailsService;
+import com.booksiread.backend.service.ExportService;
+import com.booksiread.backend.service.ExportService.Format;
+import com.booksiread.backend.service.ExportService.Section;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    private final ExportService exportService;
+    private final CustomUserDetailsService userDetailsService;
+
+    public ExportController(ExportService exportService,
+                            CustomUserDetailsService userDetailsService) {
+        this.exportService = exportService;
+        this.userDetailsService = userDetailsService;
+    }
+
+    private User getCurrentUser() {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        return userDetailsService.loadUserEntityByUsername(username);
+    }
+
+    /**
+     * Download the current user's data.
+     * GET /api/export?format=ndjson|csv&sections=books,reviews,reflections,reading_activity,goals
+     *
+     * The body is streamed from the export executor; CSV takes exactly one section.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String sections) {
+        // Resolve everything on the request thread - the body is written on another one
+        Long userId = getCurrentUser().getId();
+        Format exportFormat = ExportService.parseFormat(format);
+        Set<Section> exportSections = ExportService.parseSections(sections, exportFormat);
+
+        String name = exportFormat == Format.CSV
+                ? exportSections.iterator().next().name().toLowerCase(Locale.ROOT)
+                : "library";
+        String filename = "books-i-read-" + name + "-" + LocalDate.now() + "." + exportFormat.getExtension();
+
+        StreamingResponseBody body = out -> exportService.export(userId, exportFormat, exportSections, out);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 @RestController
 @RequestMapping("/api")
 public class HealthController {
+
     @GetMapping("/health")
     public String healthCheck() {
         return "Healthy Boss";
@@ -0,0 +1,66 @@
+package com.booksiread.backend.controller;
+
+import com.booksiread.backend.dto.ImportJobResponse;
+import com.booksiread.backend.entity.User;
+import com.booksiread.backend.importer.ImportJob;
+import com.booksiread.backend.security.CustomUserDetailsService;
+import com.booksiread.backend.service.LibraryImportService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/books/import")
+public class LibraryImportController {
+
+    private final LibraryImportService libraryImportService;
+    private final CustomUserDetailsService userDetailsService;
+
+    public LibraryImportController(LibraryImportService libraryImportService,
+                                   CustomUserDetailsService userDetailsService) {
+        this.libraryImportService = libraryImportService;
+        this.userDetailsService = userDetailsService;
+    }
+
+    private User getCurrentUser() {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        return userDetailsService.loadUserEntityByUsername(username);
+    }
+
+    /**
+     * Start importing a Goodreads / StoryGraph library export.
+     * POST /api/books/import (multipart: file, optional source=goodreads|storygraph, isPublic)
+     *
+     * Returns 202 with the job; poll the Location for progress.
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobResponse> startImport(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String source,
+            @RequestParam(defaultValue = "true") boolean isPublic) {
+        User user = getCurrentUser();
+        ImportJob job = libraryImportService.startImport(user.getId(), file, source, isPublic);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/books/import/" + job.getId()))
+                .body(ImportJobResponse.fromJob(job));
+    }
+
+    /**
+     * Import progress.
+     * GET /api/books/import/{jobId}
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobResponse> getImport(@PathVariable String jobId) {
+        User user = getCurrentUser();
+        return ResponseEntity.ok(ImportJobResponse.fromJob(libraryImportService.getJob(user.getId(), jobId)));
+    }
+}
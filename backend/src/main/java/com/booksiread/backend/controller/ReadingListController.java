@@ -1,6 +1,7 @@
 package com.booksiread.backend.controller;
 
 import com.booksiread.backend.dto.AddListItemRequest;
+import com.booksiread.backend.dto.EngagementResponse;
 import com.booksiread.backend.dto.ReadingListRequest;
 import com.booksiread.backend.dto.ReadingListResponse;
 import com.booksiread.backend.entity.User;
@@ -165,4 +166,24 @@ public class ReadingListController {
         User user = getCurrentUser();
         return ResponseEntity.ok(readingListService.toggleLike(user.getId(), listId));
     }
+
+    /**
+     * Like a list (idempotent).
+     * PUT /api/lists/{listId}/like
+     */
+    @PutMapping("/{listId}/like")
+    public ResponseEntity<EngagementResponse> like(@PathVariable Long listId) {
+        User user = getCurrentUser();
+        return ResponseEntity.ok(readingListService.likeList(user.getId(), listId));
+    }
+
+    /**
+     * Unlike a list (idempotent).
+     * DELETE /api/lists/{listId}/like
+     */
+    @DeleteMapping("/{listId}/like")
+    public ResponseEntity<EngagementResponse> unlike(@PathVariable Long listId) {
+        User user = getCurrentUser();
+        return ResponseEntity.ok(readingListService.unlikeList(user.getId(), listId));
+    }
 }
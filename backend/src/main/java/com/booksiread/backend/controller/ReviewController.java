@@ -1,6 +1,8 @@
 package com.booksiread.backend.controller;
 
 import com.booksiread.backend.dto.CreateReviewRequest;
+import com.booksiread.backend.dto.EngagementResponse;
+import com.booksiread.backend.dto.ReplyPageResponse;
 import com.booksiread.backend.dto.ReviewResponse;
 import com.booksiread.backend.entity.User;
 import com.booksiread.backend.security.CustomUserDetailsService;
@@ -139,6 +141,20 @@ public class ReviewController {
         return ResponseEntity.ok(response);
     }
 
+    /** PUT /api/reviews/{reviewId}/like - Like (idempotent) */
+    @PutMapping("/{reviewId}/like")
+    public ResponseEntity<EngagementResponse> like(@PathVariable Long reviewId) {
+        User currentUser = getCurrentUser();
+        return ResponseEntity.ok(reviewService.likeReview(currentUser.getId(), reviewId));
+    }
+
+    /** DELETE /api/reviews/{reviewId}/like - Unlike (idempotent) */
+    @DeleteMapping("/{reviewId}/like")
+    public ResponseEntity<EngagementResponse> unlike(@PathVariable Long reviewId) {
+        User currentUser = getCurrentUser();
+        return ResponseEntity.ok(reviewService.unlikeReview(currentUser.getId(), reviewId));
+    }
+
     // ============================================
     // Save/Bookmark
     // ============================================
@@ -153,6 +169,20 @@ public class ReviewController {
         return ResponseEntity.ok(response);
     }
 
+    /** PUT /api/reviews/{reviewId}/save - Save (idempotent) */
+    @PutMapping("/{reviewId}/save")
+    public ResponseEntity<EngagementResponse> save(@PathVariable Long reviewId) {
+        User currentUser = getCurrentUser();
+        return ResponseEntity.ok(reviewService.saveReview(currentUser.getId(), reviewId));
+    }
+
+    /** DELETE /api/reviews/{reviewId}/save - Unsave (idempotent) */
+    @DeleteMapping("/{reviewId}/save")
+    public ResponseEntity<EngagementResponse> unsave(@PathVariable Long reviewId) {
+        User currentUser = getCurrentUser();
+        return ResponseEntity.ok(reviewService.unsaveReview(currentUser.getId(), reviewId));
+    }
+
     /** GET /api/reviews/saved - Get user's saved reviews */
     @GetMapping("/saved")
     public ResponseEntity<Page<ReviewResponse>> getSavedReviews(
@@ -193,12 +223,13 @@ public class ReviewController {
         return ResponseEntity.ok(comments);
     }
 
-    /** GET /api/reviews/comments/{commentId}/replies - Get replies for a comment */
+    /** GET /api/reviews/comments/{commentId}/replies?after=&limit= - One page of replies for a comment */
     @GetMapping("/comments/{commentId}/replies")
-    public ResponseEntity<java.util.List<ReviewResponse.CommentResponse>> getReplies(
-            @PathVariable Long commentId) {
-        java.util.List<ReviewResponse.CommentResponse> replies = reviewService.getReplies(commentId);
-        return ResponseEntity.ok(replies);
+    public ResponseEntity<ReplyPageResponse<ReviewResponse.CommentResponse>> getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(reviewService.getReplies(commentId, after, limit));
     }
 
     /** DELETE /api/reviews/comments/{commentId} - Delete a comment */
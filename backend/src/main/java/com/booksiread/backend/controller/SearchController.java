@@ -0,0 +1,74 @@
+package com.booksiread.backend.controller;
+
+import com.booksiread.backend.dto.SearchResponse;
+import com.booksiread.backend.entity.User;
+import com.booksiread.backend.exception.ValidationException;
+import com.booksiread.backend.security.CustomUserDetailsService;
+import com.booksiread.backend.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * SearchController - Unified search across users, reviews, reflections and reading lists
+ * Base URL: /api/search
+ */
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchService searchService;
+    private final CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    public SearchController(SearchService searchService, CustomUserDetailsService userDetailsService) {
+        this.searchService = searchService;
+        this.userDetailsService = userDetailsService;
+    }
+
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getName();
+        return userDetailsService.loadUserEntityByUsername(username);
+    }
+
+    /**
+     * GET /api/search?q=...&types=user,review,reflection,list&limit=5
+     * 
+     * One request instead of four; sources run in parallel and any that miss their
+     * time budget are reported in "sources" with the rest returned as partial results.
+     */
+    @GetMapping
+    public ResponseEntity<SearchResponse> search(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(defaultValue = "5") int limit) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("Search query is required");
+        }
+        User currentUser = getCurrentUser();
+        return ResponseEntity.ok(searchService.search(query.trim(), parseTypes(types), limit, currentUser.getId()));
+    }
+
+    private Set<SearchResponse.ResultType> parseTypes(List<String> types) {
+        Set<SearchResponse.ResultType> parsed = EnumSet.noneOf(SearchResponse.ResultType.class);
+        if (types == null) {
+            return parsed;
+        }
+        for (String type : types) {
+            try {
+                parsed.add(SearchResponse.ResultType.valueOf(type.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException("Unknown search type: " + type);
+            }
+        }
+        return parsed;
+    }
+}
@@ -426,6 +426,24 @@ public class SocialController {
         return ResponseEntity.ok(reflection);
     }
 
+    /**
+     * PUT /api/social/reflections/{id}/like - Like a reflection (idempotent)
+     */
+    @PutMapping("/reflections/{id}/like")
+    public ResponseEntity<EngagementResponse> likeReflection(@PathVariable Long id) {
+        User currentUser = getCurrentUser();
+        return ResponseEntity.ok(socialService.likeReflection(id, currentUser.getId()));
+    }
+
+    /**
+     * DELETE /api/social/reflections/{id}/like - Unlike a reflection (idempotent)
+     */
+    @DeleteMapping("/reflections/{id}/like")
+    public ResponseEntity<EngagementResponse> unlikeReflection(@PathVariable Long id) {
+        User currentUser = getCurrentUser();
+        return ResponseEntity.ok(socialService.unlikeReflection(id, currentUser.getId()));
+    }
+
     /**
      * POST /api/social/reflections/{id}/comments - Add a comment (supports replies via parentId)
      */
@@ -460,14 +478,15 @@ public class SocialController {
     }
 
     /**
-     * GET /api/social/reflections/comments/{commentId}/replies - Get replies for a comment
+     * GET /api/social/reflections/comments/{commentId}/replies?after=&limit= - One page of replies for a comment
      */
     @GetMapping("/reflections/comments/{commentId}/replies")
-    public ResponseEntity<java.util.List<ReflectionResponse.CommentResponse>> getReflectionCommentReplies(
-            @PathVariable Long commentId) {
+    public ResponseEntity<ReplyPageResponse<ReflectionResponse.CommentResponse>> getReflectionCommentReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
         User currentUser = getCurrentUser();
-        java.util.List<ReflectionResponse.CommentResponse> replies = socialService.getReflectionCommentReplies(commentId, currentUser.getId());
-        return ResponseEntity.ok(replies);
+        return ResponseEntity.ok(socialService.getReflectionCommentReplies(commentId, currentUser.getId(), after, limit));
     }
 
     /**
@@ -490,6 +509,24 @@ public class SocialController {
         return ResponseEntity.ok(reflection);
     }
 
+    /**
+     * PUT /api/social/reflections/{id}/save - Save a reflection (idempotent)
+     */
+    @PutMapping("/reflections/{id}/save")
+    public ResponseEntity<EngagementResponse> saveReflection(@PathVariable Long id) {
+        User currentUser = getCurrentUser();
+        return ResponseEntity.ok(socialService.saveReflection(id, currentUser.getId()));
+    }
+
+    /**
+     * DELETE /api/social/reflections/{id}/save - Unsave a reflection (idempotent)
+     */
+    @DeleteMapping("/reflections/{id}/save")
+    public ResponseEntity<EngagementResponse> unsaveReflection(@PathVariable Long id) {
+        User currentUser = getCurrentUser();
+        return ResponseEntity.ok(socialService.unsaveReflection(id, currentUser.getId()));
+    }
+
     /**
      * GET /api/social/reflections/saved - Get saved/bookmarked reflections
      */
@@ -0,0 +1,226 @@
+package com.booksiread.backend.counter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * EngagementCounterBuffer - Write-behind buffer for like/comment/save counters
+ *
+ * Every (target, field, id) gets a cell holding a LongAdder (striped, so parallel likes on
+ * one viral post don't contend on anything) and the part of it already written to the
+ * database. A single flusher asks for the unflushed deltas, writes them and acknowledges.
+ * Nothing is ever reset, so an increment racing a flush is simply picked up next time.
+ *
+ * Cells idle for evictAfterFlushes flushes are dropped from the map but kept draining for a
+ * grace period, so a writer that looked a cell up just before eviction still gets counted.
+ */
+public class EngagementCounterBuffer {
+
+    /** Counted content and its table */
+    public enum Target {
+        REVIEW("book_reviews"),
+        REFLECTION("reflections"),
+        LIST("reading_lists");
+
+        private final String table;
+
+        Target(String table) {
+            this.table = table;
+        }
+
+        public String table() {
+            return table;
+        }
+    }
+
+    /** Counter column */
+    public enum Field {
+        LIKES("likes_count"),
+        COMMENTS("comments_count"),
+        SAVES("saves_count");
+
+        private final String column;
+
+        Field(String column) {
+            this.column = column;
+        }
+
+        public String column() {
+            return column;
+        }
+    }
+
+    public record Key(Target target, Field field, long id) {}
+
+    /** One unflushed delta, handed to the flusher and acknowledged after it is written */
+    public record PendingDelta(Key key, long delta, Cell cell) {}
+
+    public static final class Cell {
+        private final Key key;
+        private final LongAdder total = new LongAdder();
+        private volatile long flushed;        // written by the flusher, read by pending()
+        private int idleFlushes;              // flusher thread only
+        private volatile long dirtySinceNanos;
+        private long retiredAtNanos;          // flusher thread only
+
+        private Cell(Key key) {
+            this.key = key;
+        }
+
+        private long unflushed() {
+            return total.sum() - flushed;
+        }
+    }
+
+    private final Map<Key, Cell> cells = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Cell> retired = new ConcurrentLinkedQueue<>();
+    private final int evictAfterFlushes;
+    private final long retiredGraceNanos;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder flushedDeltas = new LongAdder();
+    private final LongAdder flushFailures = new LongAdder();
+    private volatile long lastFlushAtMillis;
+    private volatile long lastFlushDurationMillis;
+    private volatile int lastFlushRows;
+
+    public EngagementCounterBuffer(int evictAfterFlushes, long retiredGraceMillis) {
+        this.evictAfterFlushes = evictAfterFlushes;
+        this.retiredGraceNanos = retiredGraceMillis * 1_000_000L;
+    }
+
+    /**
+     * Record a delta (lock-free, never touches the database)
+     */
+    public void add(Target target, Field field, long id, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        Cell cell = cells.computeIfAbsent(new Key(target, field, id), Cell::new);
+        cell.total.add(delta);
+        if (cell.dirtySinceNanos == 0) {
+            cell.dirtySinceNanos = System.nanoTime();
+        }
+        recorded.increment();
+    }
+
+    /**
+     * Delta recorded but not yet written - add it to the persisted value for a live count
+     */
+    public long pending(Target target, Field field, long id) {
+        Cell cell = cells.get(new Key(target, field, id));
+        return cell == null ? 0 : cell.unflushed();
+    }
+
+    // ============================================
+    // Flusher side (single thread)
+    // ============================================
+
+    /**
+     * Snapshot of everything not yet written, including cells still draining after eviction
+     */
+    public List<PendingDelta> drain() {
+        List<PendingDelta> result = new ArrayList<>();
+        for (Cell cell : cells.values()) {
+            long delta = cell.unflushed();
+            if (delta != 0) {
+                result.add(new PendingDelta(cell.key, delta, cell));
+            }
+        }
+        long now = System.nanoTime();
+        for (Iterator<Cell> it = retired.iterator(); it.hasNext(); ) {
+            Cell cell = it.next();
+            long delta = cell.unflushed();
+            if (delta != 0) {
+                result.add(new PendingDelta(cell.key, delta, cell));
+            } else if (now - cell.retiredAtNanos > retiredGraceNanos) {
+                it.remove();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Mark deltas as written and retire cells that have been idle long enough
+     */
+    public void acknowledge(List<PendingDelta> written, long durationMillis) {
+        long sum = 0;
+        for (PendingDelta pending : written) {
+            Cell cell = pending.cell();
+            cell.flushed += pending.delta();
+            cell.idleFlushes = 0;
+            sum += Math.abs(pending.delta());
+            if (cell.unflushed() == 0) {
+                cell.dirtySinceNanos = 0;
+                if (cell.unflushed() != 0) {
+                    cell.dirtySinceNanos = System.nanoTime(); // raced a writer
+                }
+            }
+        }
+        flushedDeltas.add(sum);
+        lastFlushAtMillis = System.currentTimeMillis();
+        lastFlushDurationMillis = durationMillis;
+        lastFlushRows = written.size();
+        evictIdle();
+    }
+
+    public void recordFailure() {
+        flushFailures.increment();
+    }
+
+    private void evictIdle() {
+        long now = System.nanoTime();
+        for (Cell cell : cells.values()) {
+            if (cell.unflushed() != 0) {
+                continue;
+            }
+            if (++cell.idleFlushes >= evictAfterFlushes && cells.remove(cell.key, cell)) {
+                cell.retiredAtNanos = now;
+                retired.add(cell);
+            }
+        }
+    }
+
+    // ============================================
+    // Metrics
+    // ============================================
+
+    public Map<String, Object> stats() {
+        long now = System.nanoTime();
+        long oldestDirty = 0;
+        long pendingDelta = 0;
+        int pendingKeys = 0;
+        for (Cell cell : cells.values()) {
+            long delta = cell.unflushed();
+            if (delta == 0) {
+                continue;
+            }
+            pendingKeys++;
+            pendingDelta += Math.abs(delta);
+            long since = cell.dirtySinceNanos;
+            if (since != 0) {
+                oldestDirty = Math.max(oldestDirty, now - since);
+            }
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("trackedKeys", cells.size());
+        stats.put("retiredKeys", retired.size());
+        stats.put("pendingKeys", pendingKeys);
+        stats.put("pendingDelta", pendingDelta);
+        stats.put("oldestPendingMs", oldestDirty / 1_000_000L);
+        stats.put("recorded", recorded.sum());
+        stats.put("flushedDelta", flushedDeltas.sum());
+        stats.put("flushFailures", flushFailures.sum());
+        stats.put("lastFlushRows", lastFlushRows);
+        stats.put("lastFlushDurationMs", lastFlushDurationMillis);
+        stats.put("msSinceLastFlush", lastFlushAtMillis == 0 ? -1 : System.currentTimeMillis() - lastFlushAtMillis);
+        return stats;
+    }
+}
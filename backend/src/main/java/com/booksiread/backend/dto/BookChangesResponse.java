@@ -0,0 +1,33 @@
+package com.booksiread.backend.dto;
+
+import java.util.List;
+
+/**
+ * DTO for GET /api/books/changes.
+ * When reset is true, changed holds the whole library and the client replaces its copy;
+ * otherwise it upserts changed and removes deleted. since is the token for the next call.
+ */
+public class BookChangesResponse {
+    private String since;
+    private boolean reset;
+    private List<BookResponse> changed;
+    private List<Long> deleted;
+
+    public BookChangesResponse() {}
+
+    public BookChangesResponse(String since, boolean reset, List<BookResponse> changed, List<Long> deleted) {
+        this.since = since;
+        this.reset = reset;
+        this.changed = changed;
+        this.deleted = deleted;
+    }
+
+    public String getSince() { return since; }
+    public void setSince(String since) { this.since = since; }
+    public boolean isReset() { return reset; }
+    public void setReset(boolean reset) { this.reset = reset; }
+    public List<BookResponse> getChanged() { return changed; }
+    public void setChanged(List<BookResponse> changed) { this.changed = changed; }
+    public List<Long> getDeleted() { return deleted; }
+    public void setDeleted(List<Long> deleted) { this.deleted = deleted; }
+}
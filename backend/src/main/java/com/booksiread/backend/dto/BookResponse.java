@@ -5,6 +5,7 @@ import com.booksiread.backend.entity.Book.ReadingStatus;
 import com.booksiread.backend.entity.Book.AiStatus;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -89,7 +90,7 @@ public class BookResponse {
             book.getReview(),
             book.getNotes(),
             book.getIsPublic(),
-            book.getTags(),
+            book.getTags() != null ? new ArrayList<>(book.getTags()) : null,
             book.getAiSummary(),
             book.getAiHighlights(),
             book.getAiOverallOpinion(),
@@ -101,7 +102,7 @@ public class BookResponse {
     /**
      * Calculate reading progress percentage
      */
-    private static double calculateProgress(int pagesRead, int totalPages) {
+    static double calculateProgress(int pagesRead, int totalPages) {
         if (totalPages == 0) return 0.0;
         return Math.round((pagesRead * 100.0 / totalPages) * 100.0) / 100.0; // Round to 2 decimal places
     }
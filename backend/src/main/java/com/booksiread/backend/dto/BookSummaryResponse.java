@@ -0,0 +1,84 @@
+package com.booksiread.backend.dto;
+
+import com.booksiread.backend.entity.Book.AiStatus;
+import com.booksiread.backend.entity.Book.ReadingStatus;
+import com.booksiread.backend.repository.BookRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * BookSummaryResponse DTO - One card of the library grid
+ *
+ * Same shape as BookResponse minus review, notes and the AI note texts; those are loaded
+ * with the full book from GET /api/books/{id}. aiStatus tells the client whether notes exist.
+ */
+public class BookSummaryResponse {
+
+    private Long id;
+    private String title;
+    private String author;
+    private Integer totalPages;
+    private Integer pagesRead;
+    private Double progress;
+    private ReadingStatus status;
+    private LocalDate startDate;
+    private LocalDate completeDate;
+    private Integer rating;
+    private Boolean isPublic;
+    private List<String> tags;
+    private AiStatus aiStatus;
+    private LocalDateTime updatedAt;
+
+    public BookSummaryResponse() {
+    }
+
+    public static BookSummaryResponse fromRow(BookRepository.LibraryRow row, List<String> tags) {
+        BookSummaryResponse response = new BookSummaryResponse();
+        response.id = row.getId();
+        response.title = row.getTitle();
+        response.author = row.getAuthor();
+        response.totalPages = row.getTotalPages();
+        response.pagesRead = row.getPagesRead();
+        response.progress = BookResponse.calculateProgress(row.getPagesRead(), row.getTotalPages());
+        response.status = row.getStatus();
+        response.startDate = row.getStartDate();
+        response.completeDate = row.getCompleteDate();
+        response.rating = row.getRating();
+        response.isPublic = row.getIsPublic();
+        response.tags = tags;
+        response.aiStatus = row.getAiStatus();
+        response.updatedAt = row.getUpdatedAt();
+        return response;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public String getAuthor() { return author; }
+    public void setAuthor(String author) { this.author = author; }
+    public Integer getTotalPages() { return totalPages; }
+    public void setTotalPages(Integer totalPages) { this.totalPages = totalPages; }
+    public Integer getPagesRead() { return pagesRead; }
+    public void setPagesRead(Integer pagesRead) { this.pagesRead = pagesRead; }
+    public Double getProgress() { return progress; }
+    public void setProgress(Double progress) { this.progress = progress; }
+    public ReadingStatus getStatus() { return status; }
+    public void setStatus(ReadingStatus status) { this.status = status; }
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+    public LocalDate getCompleteDate() { return completeDate; }
+    public void setCompleteDate(LocalDate completeDate) { this.completeDate = completeDate; }
+    public Integer getRating() { return rating; }
+    public void setRating(Integer rating) { this.rating = rating; }
+    public Boolean getIsPublic() { return isPublic; }
+    public void setIsPublic(Boolean isPublic) { this.isPublic = isPublic; }
+    public List<String> getTags() { return tags; }
+    public void setTags(List<String> tags) { this.tags = tags; }
+    public AiStatus getAiStatus() { return aiStatus; }
+    public void setAiStatus(AiStatus aiStatus) { this.aiStatus = aiStatus; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
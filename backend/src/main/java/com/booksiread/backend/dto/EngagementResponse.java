@@ -0,0 +1,27 @@
+package com.booksiread.backend.dto;
+
+/**
+ * DTO for the idempotent like/save endpoints (PUT = on, DELETE = off).
+ * changed is false when the request was a repeat (double-tap, retry), so the client can
+ * skip animations; count is the live counter, null where the action isn't counted.
+ */
+public class EngagementResponse {
+    private boolean active;
+    private boolean changed;
+    private Integer count;
+
+    public EngagementResponse() {}
+
+    public EngagementResponse(boolean active, boolean changed, Integer count) {
+        this.active = active;
+        this.changed = changed;
+        this.count = count;
+    }
+
+    public boolean isActive() { return active; }
+    public void setActive(boolean active) { this.active = active; }
+    public boolean isChanged() { return changed; }
+    public void setChanged(boolean changed) { this.changed = changed; }
+    public Integer getCount() { return count; }
+    public void setCount(Integer count) { this.count = count; }
+}
@@ -0,0 +1,66 @@
+package com.booksiread.backend.dto;
+
+import com.booksiread.backend.importer.ImportJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for library import progress (GET /api/books/import/{jobId}).
+ * rowsRead counts data rows parsed so far; imported + duplicates + failed <= rowsRead
+ * while the job is running and equal once it has finished.
+ */
+public class ImportJobResponse {
+    private String id;
+    private String status;
+    private String source;
+    private int rowsRead;
+    private int imported;
+    private int duplicates;
+    private int failed;
+    private List<String> errors;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+
+    public ImportJobResponse() {}
+
+    public static ImportJobResponse fromJob(ImportJob job) {
+        ImportJobResponse response = new ImportJobResponse();
+        response.setId(job.getId());
+        response.setStatus(job.getStatus().name());
+        response.setSource(job.getFormat() != null ? job.getFormat().name() : null);
+        response.setRowsRead(job.getRowsRead());
+        response.setImported(job.getImported());
+        response.setDuplicates(job.getDuplicates());
+        response.setFailed(job.getFailed());
+        response.setErrors(job.getErrors());
+        response.setMessage(job.getMessage());
+        response.setCreatedAt(job.getCreatedAt());
+        response.setFinishedAt(job.getFinishedAt());
+        return response;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public String getSource() { return source; }
+    public void setSource(String source) { this.source = source; }
+    public int getRowsRead() { return rowsRead; }
+    public void setRowsRead(int rowsRead) { this.rowsRead = rowsRead; }
+    public int getImported() { return imported; }
+    public void setImported(int imported) { this.imported = imported; }
+    public int getDuplicates() { return duplicates; }
+    public void setDuplicates(int duplicates) { this.duplicates = duplicates; }
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+    public List<String> getErrors() { return errors; }
+    public void setErrors(List<String> errors) { this.errors = errors; }
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+}
@@ -26,7 +26,10 @@ public class ReadingListResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    public static ReadingListResponse fromEntity(ReadingList list, boolean likedByViewer, boolean ownedByViewer) {
+    /**
+     * likesCount is passed in (the live value includes buffered deltas, see EngagementCounterService)
+     */
+    public static ReadingListResponse fromEntity(ReadingList list, int likesCount, boolean likedByViewer, boolean ownedByViewer) {
         ReadingListResponse r = new ReadingListResponse();
         r.setId(list.getId());
         r.setOwnerId(list.getUser().getId());
@@ -38,7 +41,7 @@ public class ReadingListResponse {
         r.setPublic(list.getIsPublic());
         r.setCoverEmoji(list.getCoverEmoji());
         r.setBooksCount(list.getBooksCount());
-        r.setLikesCount(list.getLikesCount());
+        r.setLikesCount(likesCount);
         r.setLikedByViewer(likedByViewer);
         r.setOwnedByViewer(ownedByViewer);
         r.setCreatedAt(list.getCreatedAt());
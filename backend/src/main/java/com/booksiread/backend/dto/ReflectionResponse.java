@@ -20,6 +20,8 @@ public class ReflectionResponse {
     private List<CommentResponse> recentComments;
     private LocalDateTime createdAt;
     private LocalDateTime savedAt;
+    /** Search results only: HTML-escaped snippet with <mark> around matched terms */
+    private String highlight;
 
     /** Nested book summary */
     public static class BookSummary {
@@ -100,4 +102,6 @@ public class ReflectionResponse {
 
     public LocalDateTime getSavedAt() { return savedAt; }
     public void setSavedAt(LocalDateTime savedAt) { this.savedAt = savedAt; }
+    public String getHighlight() { return highlight; }
+    public void setHighlight(String highlight) { this.highlight = highlight; }
 }
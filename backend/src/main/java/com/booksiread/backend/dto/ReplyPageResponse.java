@@ -0,0 +1,24 @@
+package com.booksiread.backend.dto;
+
+import java.util.List;
+
+/**
+ * One page of comment replies, oldest first.
+ * nextCursor is the id to pass as "after" for the following page, or null on the last page.
+ */
+public class ReplyPageResponse<T> {
+    private List<T> replies;
+    private Long nextCursor;
+
+    public ReplyPageResponse() {}
+
+    public ReplyPageResponse(List<T> replies, Long nextCursor) {
+        this.replies = replies;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getReplies() { return replies; }
+    public void setReplies(List<T> replies) { this.replies = replies; }
+    public Long getNextCursor() { return nextCursor; }
+    public void setNextCursor(Long nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -1,5 +1,10 @@
 package com.booksiread.backend.dto;
 
+import com.booksiread.backend.entity.Book;
+import com.booksiread.backend.entity.BookReview;
+import com.booksiread.backend.entity.ReviewComment;
+import com.booksiread.backend.entity.User;
+
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -15,6 +20,8 @@ public class ReviewResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime savedAt;
+    /** Search results only: HTML-escaped snippet with <mark> around matched terms */
+    private String highlight;
 
     // Author info
     private Long authorId;
@@ -42,6 +49,24 @@ public class ReviewResponse {
         private int replyCount;
         private List<CommentResponse> replies;
 
+        /**
+         * Comment fields and author; replies are attached by the caller
+         */
+        public static CommentResponse fromEntity(ReviewComment comment) {
+            CommentResponse response = new CommentResponse();
+            User author = comment.getUser();
+            response.setId(comment.getId());
+            response.setContent(comment.getContent());
+            response.setAuthorId(author.getId());
+            response.setAuthorUsername(author.getUsername());
+            response.setAuthorDisplayName(author.getDisplayName() != null ? author.getDisplayName() : author.getUsername());
+            response.setAuthorProfilePictureUrl(author.getProfilePictureUrl());
+            response.setCreatedAt(comment.getCreatedAt());
+            response.setParentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null);
+            response.setReplyCount(comment.getRepliesCount());
+            return response;
+        }
+
         public Long getId() { return id; }
         public void setId(Long id) { this.id = id; }
         public String getContent() { return content; }
@@ -66,6 +91,36 @@ public class ReviewResponse {
 
     public ReviewResponse() {}
 
+    /**
+     * Review, author and book fields. Counts are passed in (live values include buffered
+     * deltas); viewer flags and recent comments are filled in by the caller.
+     */
+    public static ReviewResponse fromEntity(BookReview review, int likesCount, int commentsCount) {
+        ReviewResponse response = new ReviewResponse();
+        response.setId(review.getId());
+        response.setContent(review.getContent());
+        response.setRating(review.getRating());
+        response.setContainsSpoilers(review.getContainsSpoilers());
+        response.setLikesCount(likesCount);
+        response.setCommentsCount(commentsCount);
+        response.setCreatedAt(review.getCreatedAt());
+        response.setUpdatedAt(review.getUpdatedAt());
+
+        // Author info
+        User author = review.getUser();
+        response.setAuthorId(author.getId());
+        response.setAuthorUsername(author.getUsername());
+        response.setAuthorDisplayName(author.getDisplayName() != null ? author.getDisplayName() : author.getUsername());
+        response.setAuthorProfilePictureUrl(author.getProfilePictureUrl());
+
+        // Book info
+        Book book = review.getBook();
+        response.setBookId(book.getId());
+        response.setBookTitle(book.getTitle());
+        response.setBookAuthor(book.getAuthor());
+        return response;
+    }
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -109,4 +164,6 @@ public class ReviewResponse {
 
     public LocalDateTime getSavedAt() { return savedAt; }
     public void setSavedAt(LocalDateTime savedAt) { this.savedAt = savedAt; }
+    public String getHighlight() { return highlight; }
+    public void setHighlight(String highlight) { this.highlight = highlight; }
 }
@@ -0,0 +1,83 @@
+package com.booksiread.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for the unified search endpoint - one ranked list across users, reviews,
+ * reflections and reading lists, plus per-source status so the client can tell
+ * when a source was skipped because it ran past its time budget.
+ */
+public class SearchResponse {
+    private String query;
+    private List<Result> results;
+    private Map<String, SourceStatus> sources;
+    private boolean partial;
+    private long tookMs;
+
+    public enum ResultType { USER, REVIEW, REFLECTION, LIST }
+
+    /** One ranked hit; exactly one of user/review/reflection/list is set, matching type */
+    public static class Result {
+        private ResultType type;
+        private Long id;
+        private double score;
+        private UserCardResponse user;
+        private ReviewResponse review;
+        private ReflectionResponse reflection;
+        private ReadingListResponse list;
+
+        public ResultType getType() { return type; }
+        public void setType(ResultType type) { this.type = type; }
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+        public double getScore() { return score; }
+        public void setScore(double score) { this.score = score; }
+        public UserCardResponse getUser() { return user; }
+        public void setUser(UserCardResponse user) { this.user = user; }
+        public ReviewResponse getReview() { return review; }
+        public void setReview(ReviewResponse review) { this.review = review; }
+        public ReflectionResponse getReflection() { return reflection; }
+        public void setReflection(ReflectionResponse reflection) { this.reflection = reflection; }
+        public ReadingListResponse getList() { return list; }
+        public void setList(ReadingListResponse list) { this.list = list; }
+    }
+
+    /** How one source fared: OK, TIMEOUT, ERROR or SKIPPED (not requested) */
+    public static class SourceStatus {
+        private String status;
+        private int count;
+        private long total;
+        private long tookMs;
+
+        public SourceStatus() {}
+
+        public SourceStatus(String status, int count, long total, long tookMs) {
+            this.status = status;
+            this.count = count;
+            this.total = total;
+            this.tookMs = tookMs;
+        }
+
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+        public int getCount() { return count; }
+        public void setCount(int count) { this.count = count; }
+        public long getTotal() { return total; }
+        public void setTotal(long total) { this.total = total; }
+        public long getTookMs() { return tookMs; }
+        public void setTookMs(long tookMs) { this.tookMs = tookMs; }
+    }
+
+    // Getters and Setters
+    public String getQuery() { return query; }
+    public void setQuery(String query) { this.query = query; }
+    public List<Result> getResults() { return results; }
+    public void setResults(List<Result> results) { this.results = results; }
+    public Map<String, SourceStatus> getSources() { return sources; }
+    public void setSources(Map<String, SourceStatus> sources) { this.sources = sources; }
+    public boolean isPartial() { return partial; }
+    public void setPartial(boolean partial) { this.partial = partial; }
+    public long getTookMs() { return tookMs; }
+    public void setTookMs(long tookMs) { this.tookMs = tookMs; }
+}
@@ -5,6 +5,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -12,7 +13,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "books")
+@Table(name = "books", indexes = {
+    @Index(name = "idx_books_work", columnList = "work_id")
+})
 public class Book {
 
     @Id
@@ -63,7 +66,10 @@ public class Book {
     @ColumnDefault("true")
     private Boolean isPublic = true;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    // Lazy: most Book loads (feed, reviews, reflections) never read tags. Library lists
+    // fetch them with an entity graph; other paths load them for 50 books per query.
+    @ElementCollection
+    @BatchSize(size = 50)
     @CollectionTable(name = "book_tags", joinColumns = @JoinColumn(name = "book_id"))
     @Column(name = "tag")
     private List<String> tags = new ArrayList<>();
@@ -72,6 +78,11 @@ public class Book {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    /** Canonical catalog entry this copy belongs to (null until linked) */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "work_id")
+    private Work work;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -267,6 +278,14 @@ public class Book {
         this.user = user;
     }
 
+    public Work getWork() {
+        return work;
+    }
+
+    public void setWork(Work work) {
+        this.work = work;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
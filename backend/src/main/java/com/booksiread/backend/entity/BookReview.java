@@ -46,10 +46,11 @@ public class BookReview {
     @Column(name = "contains_spoilers", nullable = false)
     private Boolean containsSpoilers = false;
 
-    @Column(name = "likes_count", nullable = false)
+    // Engagement counters, updatable = false: see EngagementCounterService
+    @Column(name = "likes_count", nullable = false, updatable = false)
     private Integer likesCount = 0;
 
-    @Column(name = "comments_count", nullable = false)
+    @Column(name = "comments_count", nullable = false, updatable = false)
     private Integer commentsCount = 0;
 
     @Column(name = "created_at", nullable = false, updatable = false)
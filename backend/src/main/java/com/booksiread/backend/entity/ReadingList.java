@@ -36,7 +36,8 @@ public class ReadingList {
     @Column(name = "books_count")
     private Integer booksCount = 0;
 
-    @Column(name = "likes_count")
+    // Engagement counters, updatable = false: see EngagementCounterService
+    @Column(name = "likes_count", updatable = false)
     private Integer likesCount = 0;
 
     @OneToMany(mappedBy = "readingList", cascade = CascadeType.ALL, orphanRemoval = true)
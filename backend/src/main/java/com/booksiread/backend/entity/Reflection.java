@@ -38,13 +38,14 @@ public class Reflection {
     @Column(name = "visible_to_followers_only", nullable = false)
     private Boolean visibleToFollowersOnly = false;
 
-    @Column(name = "likes_count", nullable = false)
+    // Engagement counters, updatable = false: see EngagementCounterService
+    @Column(name = "likes_count", nullable = false, updatable = false)
     private Integer likesCount = 0;
 
-    @Column(name = "comments_count", nullable = false)
+    @Column(name = "comments_count", nullable = false, updatable = false)
     private Integer commentsCount = 0;
 
-    @Column(name = "saves_count", nullable = false)
+    @Column(name = "saves_count", nullable = false, updatable = false)
     private Integer savesCount = 0;
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -3,6 +3,7 @@ package com.booksiread.backend.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -42,6 +43,11 @@ public class ReflectionComment {
     @OrderBy("createdAt ASC")
     private List<ReflectionComment> replies = new ArrayList<>();
 
+    /** Direct replies, maintained on add/delete so views never count the collection */
+    @Column(name = "replies_count", nullable = false)
+    @ColumnDefault("0")
+    private Integer repliesCount = 0;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -80,4 +86,7 @@ public class ReflectionComment {
 
     public List<ReflectionComment> getReplies() { return replies; }
     public void setReplies(List<ReflectionComment> replies) { this.replies = replies; }
+
+    public Integer getRepliesCount() { return repliesCount != null ? repliesCount : 0; }
+    public void setRepliesCount(Integer repliesCount) { this.repliesCount = repliesCount; }
 }
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -13,8 +15,13 @@ import java.util.List;
  * 
  * Table: users
  * Each user can have multiple books
+ *
+ * Profile counters (books, reviews, lists, reflections) are maintained with atomic SQL
+ * deltas by UserCounterService; @DynamicUpdate keeps an unrelated save of a loaded
+ * User from writing its stale in-memory counters back over them.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "users", uniqueConstraints = {
     @UniqueConstraint(columnNames = "username"),
     @UniqueConstraint(columnNames = "email")
@@ -67,7 +74,22 @@ public class User {
     @Column(name = "books_count")
     private Integer booksCount = 0;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @Column(name = "public_books_count")
+    private Integer publicBooksCount = 0;
+
+    @Column(name = "reviews_count")
+    private Integer reviewsCount = 0;
+
+    @Column(name = "lists_count")
+    private Integer listsCount = 0;
+
+    @Column(name = "reflections_count")
+    private Integer reflectionsCount = 0;
+
+    // Lazy: users are loaded as authors/actors all over the feed and only profiles and
+    // similar-user matching read genres; a page of users loads them in one query.
+    @ElementCollection
+    @BatchSize(size = 50)
     @CollectionTable(name = "user_favorite_genres", joinColumns = @JoinColumn(name = "user_id"))
     @Column(name = "genre")
     private List<String> favoriteGenres = new ArrayList<>();
@@ -217,6 +239,38 @@ public class User {
         this.booksCount = booksCount;
     }
 
+    public Integer getPublicBooksCount() {
+        return publicBooksCount != null ? publicBooksCount : 0;
+    }
+
+    public void setPublicBooksCount(Integer publicBooksCount) {
+        this.publicBooksCount = publicBooksCount;
+    }
+
+    public Integer getReviewsCount() {
+        return reviewsCount != null ? reviewsCount : 0;
+    }
+
+    public void setReviewsCount(Integer reviewsCount) {
+        this.reviewsCount = reviewsCount;
+    }
+
+    public Integer getListsCount() {
+        return listsCount != null ? listsCount : 0;
+    }
+
+    public void setListsCount(Integer listsCount) {
+        this.listsCount = listsCount;
+    }
+
+    public Integer getReflectionsCount() {
+        return reflectionsCount != null ? reflectionsCount : 0;
+    }
+
+    public void setReflectionsCount(Integer reflectionsCount) {
+        this.reflectionsCount = reflectionsCount;
+    }
+
     public List<String> getFavoriteGenres() {
         return favoriteGenres;
     }
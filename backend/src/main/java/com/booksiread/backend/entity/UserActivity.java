@@ -47,7 +47,8 @@ public class UserActivity {
         RATED_BOOK,          // User rated a book
         WROTE_REVIEW,        // User wrote a review
         FOLLOWED_USER,       // User followed another user
-        JOINED_PLATFORM      // User joined the platform (for new users)
+        JOINED_PLATFORM,     // User joined the platform (for new users)
+        IMPORTED_LIBRARY     // User imported books from another site (metadata: count, source)
     }
 
     @PrePersist
@@ -0,0 +1,145 @@
+package com.booksiread.backend.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Work Entity - Canonical catalog entry shared by every user's copy of a book
+ *
+ * Book rows are per-user with free-text title/author; each one is linked to the Work
+ * whose normalizedKey (see BookKeyNormalizer) it matches. Cross-user aggregates
+ * (rating sum/count and histogram) are kept here as the community stats row, so
+ * book pages don't have to scan every review.
+ *
+ * Table: works
+ */
+@Entity
+@Table(name = "works")
+public class Work {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Normalized "title|author" matching key */
+    @Column(name = "normalized_key", nullable = false, unique = true, length = 600)
+    private String normalizedKey;
+
+    /** Display title/author - taken from the first copy linked */
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String author;
+
+    /** Number of Book rows (one per user) linked to this work */
+    @Column(name = "readers_count", nullable = false)
+    private Integer readersCount = 0;
+
+    @Column(name = "reviews_count", nullable = false)
+    private Integer reviewsCount = 0;
+
+    /** Sum and count of review ratings - average is derived */
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum = 0L;
+
+    @Column(name = "rating_count", nullable = false)
+    private Integer ratingCount = 0;
+
+    /** Rating histogram - number of reviews with each star value */
+    @Column(name = "rating_1_count", nullable = false)
+    @ColumnDefault("0")
+    private Integer rating1Count = 0;
+
+    @Column(name = "rating_2_count", nullable = false)
+    @ColumnDefault("0")
+    private Integer rating2Count = 0;
+
+    @Column(name = "rating_3_count", nullable = false)
+    @ColumnDefault("0")
+    private Integer rating3Count = 0;
+
+    @Column(name = "rating_4_count", nullable = false)
+    @ColumnDefault("0")
+    private Integer rating4Count = 0;
+
+    @Column(name = "rating_5_count", nullable = false)
+    @ColumnDefault("0")
+    private Integer rating5Count = 0;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public Work() {}
+
+    /** Average review rating rounded to one decimal, or null when nobody rated it */
+    public Double getAverageRating() {
+        if (ratingCount == null || ratingCount == 0) {
+            return null;
+        }
+        return Math.round(ratingSum * 10.0 / ratingCount) / 10.0;
+    }
+
+    /** Rating histogram as star -> count, 1 through 5 */
+    public Map<Integer, Integer> getRatingDistribution() {
+        Map<Integer, Integer> distribution = new LinkedHashMap<>();
+        distribution.put(1, rating1Count);
+        distribution.put(2, rating2Count);
+        distribution.put(3, rating3Count);
+        distribution.put(4, rating4Count);
+        distribution.put(5, rating5Count);
+        return distribution;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getNormalizedKey() { return normalizedKey; }
+    public void setNormalizedKey(String normalizedKey) { this.normalizedKey = normalizedKey; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getAuthor() { return author; }
+    public void setAuthor(String author) { this.author = author; }
+
+    public Integer getReadersCount() { return readersCount; }
+    public void setReadersCount(Integer readersCount) { this.readersCount = readersCount; }
+
+    public Integer getReviewsCount() { return reviewsCount; }
+    public void setReviewsCount(Integer reviewsCount) { this.reviewsCount = reviewsCount; }
+
+    public Long getRatingSum() { return ratingSum; }
+    public void setRatingSum(Long ratingSum) { this.ratingSum = ratingSum; }
+
+    public Integer getRatingCount() { return ratingCount; }
+    public void setRatingCount(Integer ratingCount) { this.ratingCount = ratingCount; }
+
+    public Integer getRating1Count() { return rating1Count; }
+    public Integer getRating2Count() { return rating2Count; }
+    public Integer getRating3Count() { return rating3Count; }
+    public Integer getRating4Count() { return rating4Count; }
+    public Integer getRating5Count() { return rating5Count; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,26 @@
+package com.booksiread.backend.event;
+
+/**
+ * UserCounterEvent - Domain event: one of a user's profile counters changed by delta
+ *
+ * Published by the services that create/delete the counted content and applied to the
+ * users row by UserCounterService inside the publishing transaction.
+ */
+public record UserCounterEvent(Long userId, Counter counter, int delta) {
+
+    public enum Counter {
+        BOOKS,
+        PUBLIC_BOOKS,
+        REVIEWS,
+        LISTS,
+        REFLECTIONS
+    }
+
+    public static UserCounterEvent increment(Long userId, Counter counter) {
+        return new UserCounterEvent(userId, counter, 1);
+    }
+
+    public static UserCounterEvent decrement(Long userId, Counter counter) {
+        return new UserCounterEvent(userId, counter, -1);
+    }
+}
@@ -0,0 +1,104 @@
+package com.booksiread.backend.importer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ImportJob - Progress of one library import, polled through the job-status endpoint
+ *
+ * Written by the single import thread, read by status requests; counters are atomic and
+ * the rest is volatile so readers always see a consistent-enough snapshot.
+ */
+public class ImportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /** Row errors kept for the response; the rest are only counted */
+    private static final int MAX_ERRORS = 20;
+
+    private final String id = UUID.randomUUID().toString();
+    private final Long userId;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private final AtomicInteger rowsRead = new AtomicInteger();
+    private final AtomicInteger imported = new AtomicInteger();
+    private final AtomicInteger duplicates = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final List<String> errors = new ArrayList<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LibraryCsvFormat format;
+    private volatile String message;
+    private volatile LocalDateTime finishedAt;
+
+    public ImportJob(Long userId) {
+        this.userId = userId;
+    }
+
+    public void start(LibraryCsvFormat format) {
+        this.format = format;
+        this.status = Status.RUNNING;
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String message) {
+        this.message = message;
+        this.status = Status.FAILED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    public void imported(int count) {
+        imported.addAndGet(count);
+    }
+
+    public void duplicate() {
+        duplicates.incrementAndGet();
+    }
+
+    public void rowFailed(int line, String reason) {
+        failed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add("Line " + line + ": " + reason);
+            }
+        }
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public String getId() { return id; }
+    public Long getUserId() { return userId; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public Status getStatus() { return status; }
+    public LibraryCsvFormat getFormat() { return format; }
+    public String getMessage() { return message; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public int getRowsRead() { return rowsRead.get(); }
+    public int getImported() { return imported.get(); }
+    public int getDuplicates() { return duplicates.get(); }
+    public int getFailed() { return failed.get(); }
+
+    public List<String> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+}
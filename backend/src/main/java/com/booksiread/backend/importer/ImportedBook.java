@@ -0,0 +1,24 @@
+package com.booksiread.backend.importer;
+
+import com.booksiread.backend.entity.Book.ReadingStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * ImportedBook - One library row mapped from an external export, before validation
+ *
+ * totalPages is null when the source doesn't know it (StoryGraph exports have no page count).
+ */
+public record ImportedBook(
+        String title,
+        String author,
+        Integer totalPages,
+        ReadingStatus status,
+        LocalDate startDate,
+        LocalDate completeDate,
+        Integer rating,
+        String review,
+        String notes,
+        List<String> tags) {
+}
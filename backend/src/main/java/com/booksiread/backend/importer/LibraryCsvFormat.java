@@ -0,0 +1,229 @@
+package com.booksiread.backend.importer;
+
+import com.booksiread.backend.entity.Book.ReadingStatus;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * LibraryCsvFormat - Column mapping for library exports from other sites
+ *
+ * - GOODREADS: "Export Library" CSV (Title, Author, Number of Pages, Exclusive Shelf, ...)
+ * - STORYGRAPH: "Export StoryGraph Library" CSV (Title, Authors, Read Status, Star Rating, ...)
+ *
+ * The format is detected from the header row; each data row maps to an ImportedBook.
+ */
+public enum LibraryCsvFormat {
+
+    GOODREADS("Title", "Author", "Exclusive Shelf") {
+        @Override
+        ImportedBook map(Row row) {
+            String shelf = row.get("Exclusive Shelf");
+            ReadingStatus status = statusOf(shelf);
+
+            Set<String> tags = new LinkedHashSet<>();
+            for (String bookshelf : splitList(row.get("Bookshelves"))) {
+                if (!bookshelf.equalsIgnoreCase(shelf) && !EXCLUSIVE_SHELVES.contains(bookshelf.toLowerCase(Locale.ROOT))) {
+                    tags.add(bookshelf);
+                }
+            }
+
+            return new ImportedBook(
+                    row.get("Title"),
+                    row.get("Author"),
+                    parsePositiveInt(row.get("Number of Pages")),
+                    status,
+                    null,
+                    parseDate(row.get("Date Read")),
+                    parseRating(row.get("My Rating")),
+                    stripHtml(row.get("My Review")),
+                    row.get("Private Notes"),
+                    new ArrayList<>(tags));
+        }
+    },
+
+    STORYGRAPH("Title", "Authors", "Read Status") {
+        @Override
+        ImportedBook map(Row row) {
+            String readStatus = row.get("Read Status");
+            ReadingStatus status = statusOf(readStatus);
+
+            // "Dates Read" holds ranges like "2023/01/05-2023/02/01", most recent last
+            LocalDate startDate = null;
+            String datesRead = row.get("Dates Read");
+            if (datesRead != null) {
+                List<String> ranges = splitList(datesRead);
+                if (!ranges.isEmpty()) {
+                    String last = ranges.get(ranges.size() - 1);
+                    int dash = last.indexOf('-');
+                    startDate = parseDate(dash > 0 ? last.substring(0, dash) : last);
+                }
+            }
+
+            Set<String> tags = new LinkedHashSet<>(splitList(row.get("Tags")));
+            if ("did-not-finish".equalsIgnoreCase(readStatus)) {
+                tags.add("did-not-finish");
+            }
+
+            return new ImportedBook(
+                    row.get("Title"),
+                    row.get("Authors"),
+                    null,
+                    status,
+                    startDate,
+                    parseDate(row.get("Last Date Read")),
+                    parseRating(row.get("Star Rating")),
+                    row.get("Review"),
+                    null,
+                    new ArrayList<>(tags));
+        }
+    };
+
+    private static final Set<String> EXCLUSIVE_SHELVES = Set.of("read", "currently-reading", "to-read");
+    private static final DateTimeFormatter SLASHED_DATE = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+    private final List<String> requiredColumns;
+
+    LibraryCsvFormat(String... requiredColumns) {
+        this.requiredColumns = List.of(requiredColumns);
+    }
+
+    /**
+     * Map one data row; title/author may come back blank and are validated by the caller
+     */
+    abstract ImportedBook map(Row row);
+
+    /**
+     * Pick the format whose required columns are all present in the header
+     *
+     * @param requested explicit format name (goodreads / storygraph), or null to detect
+     * @return null if the header doesn't match (the requested or any) format
+     */
+    public static LibraryCsvFormat detect(List<String> header, String requested) {
+        Set<String> columns = new LinkedHashSet<>();
+        for (String column : header) {
+            columns.add(column.trim());
+        }
+        for (LibraryCsvFormat format : values()) {
+            if (requested != null && !format.name().equalsIgnoreCase(requested.trim())) {
+                continue;
+            }
+            if (columns.containsAll(format.requiredColumns)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Column index lookup for the header row
+     */
+    public static Map<String, Integer> indexHeader(List<String> header) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            index.putIfAbsent(header.get(i).trim(), i);
+        }
+        return index;
+    }
+
+    public ImportedBook map(Map<String, Integer> header, List<String> record) {
+        return map(new Row(header, record));
+    }
+
+    /** A data row addressed by column name; blank cells read as null */
+    record Row(Map<String, Integer> header, List<String> values) {
+        String get(String column) {
+            Integer i = header.get(column);
+            if (i == null || i >= values.size()) {
+                return null;
+            }
+            String value = values.get(i).trim();
+            // Goodreads wraps ISBNs etc. as ="..." to stop spreadsheets mangling them
+            if (value.startsWith("=\"") && value.endsWith("\"")) {
+                value = value.substring(2, value.length() - 1).trim();
+            }
+            return value.isEmpty() ? null : value;
+        }
+    }
+
+    // ============================================
+    // Value parsing
+    // ============================================
+
+    static ReadingStatus statusOf(String shelf) {
+        if (shelf == null) {
+            return ReadingStatus.WANT_TO_READ;
+        }
+        return switch (shelf.trim().toLowerCase(Locale.ROOT)) {
+            case "read" -> ReadingStatus.FINISHED;
+            case "currently-reading", "paused", "did-not-finish" -> ReadingStatus.READING;
+            default -> ReadingStatus.WANT_TO_READ;
+        };
+    }
+
+    static Integer parsePositiveInt(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number: " + value);
+        }
+    }
+
+    /** 1-5, rounding fractional StoryGraph ratings; 0 / blank means not rated */
+    static Integer parseRating(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            long rating = Math.round(Double.parseDouble(value.trim()));
+            return rating >= 1 ? (int) Math.min(rating, 5) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid rating: " + value);
+        }
+    }
+
+    static LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return trimmed.indexOf('/') > 0 ? LocalDate.parse(trimmed, SLASHED_DATE) : LocalDate.parse(trimmed);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+    }
+
+    static List<String> splitList(String value) {
+        List<String> items = new ArrayList<>();
+        if (value == null) {
+            return items;
+        }
+        for (String item : value.split(",")) {
+            if (!item.isBlank()) {
+                items.add(item.trim());
+            }
+        }
+        return items;
+    }
+
+    /** Goodreads reviews are HTML fragments */
+    static String stripHtml(String value) {
+        if (value == null) {
+            return null;
+        }
+        return value.replaceAll("(?i)<br\\s*/?>", "\n").replaceAll("<[^>]+>", "").trim();
+    }
+}
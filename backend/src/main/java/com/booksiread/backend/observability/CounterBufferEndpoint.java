@@ -0,0 +1,31 @@
+package com.booksiread.backend.observability;
+
+import com.booksiread.backend.service.EngagementCounterService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * CounterBufferEndpoint - GET /actuator/counters: write-behind counter buffer lag
+ * (pending deltas, oldest age, last flush)
+ *
+ * An actuator endpoint rather than an /api route, so it sits behind the scrape account
+ * (SecurityConfig's actuator chain) instead of being open to every signed-in user.
+ */
+@Component
+@Endpoint(id = "counters")
+public class CounterBufferEndpoint {
+
+    private final EngagementCounterService engagementCounterService;
+
+    public CounterBufferEndpoint(EngagementCounterService engagementCounterService) {
+        this.engagementCounterService = engagementCounterService;
+    }
+
+    @ReadOperation
+    public Map<String, Object> counterBufferStats() {
+        return engagementCounterService.getStats();
+    }
+}
@@ -0,0 +1,107 @@
+package com.booksiread.backend.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueryBudgetInterceptor - Per-request SQL statements, rows and time by controller method
+ *
+ * Opens a QueryStats scope around each controller call and records the totals as
+ * histograms tagged handler=Controller.method:
+ *   db.request.statements, db.request.rows (distribution summaries), db.request.time (timer)
+ * Requests that run more statements than their budget (query-budget.endpoints[handler],
+ * else query-budget.default-max-statements) are logged as warnings.
+ *
+ * Statements run by the security filter before the controller (JWT user lookup) are not
+ * counted, nor is work continued on another thread by async/streaming responses.
+ */
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetInterceptor.class);
+
+    private static final String STATS_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".stats";
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultBudget;
+    private final Map<String, Integer> budgets;
+
+    public QueryBudgetInterceptor(MeterRegistry meterRegistry, int defaultBudget, Map<String, Integer> budgets) {
+        this.meterRegistry = meterRegistry;
+        this.defaultBudget = defaultBudget;
+        this.budgets = Map.copyOf(budgets);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(STATS_ATTRIBUTE, QueryStats.begin());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // The rest of the response is produced on another thread; don't leak the scope
+        if (request.getAttribute(STATS_ATTRIBUTE) instanceof QueryStats stats) {
+            stats.end();
+            request.removeAttribute(STATS_ATTRIBUTE);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(STATS_ATTRIBUTE) instanceof QueryStats stats)
+                || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        stats.end();
+        request.removeAttribute(STATS_ATTRIBUTE);
+
+        String name = handlerName(handlerMethod);
+        DistributionSummary.builder("db.request.statements")
+                .description("SQL statements per request")
+                .tag("handler", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("db.request.rows")
+                .description("Rows read per request")
+                .tag("handler", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getRows());
+        Timer.builder("db.request.time")
+                .description("Time spent executing SQL per request")
+                .tag("handler", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+
+        int budget = budgetFor(name);
+        if (budget > 0 && stats.getStatements() > budget) {
+            logger.warn("Query budget exceeded: {} {} ({}) ran {} (budget {} statements)",
+                    request.getMethod(), request.getRequestURI(), name, stats, budget);
+        }
+    }
+
+    public int budgetFor(String handlerName) {
+        return budgets.getOrDefault(handlerName, defaultBudget);
+    }
+
+    /** "ReviewController.getComments" */
+    static String handlerName(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+}
@@ -0,0 +1,120 @@
+package com.booksiread.backend.observability;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * QueryCountingDataSource - Feeds QueryStats from every statement run through the pool
+ *
+ * Wraps the application DataSource, so Hibernate, JdbcTemplate and batch JDBC paths are all
+ * counted. Statements created while no QueryStats scope is active are handed out
+ * unwrapped; inside a scope each execute* call is timed and every row read from its
+ * result set is counted. A batch counts as one statement (one round trip).
+ *
+ * Closing it closes the pool, so the bean's inferred destroy method still shuts Hikari down.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public QueryCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement && QueryStats.current() != null) {
+                return wrapStatement(statement);
+            }
+            return result;
+        });
+    }
+
+    private static Statement wrapStatement(Statement statement) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return proxy(type, statement, (target, method, args) -> {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                Object result = invoke(target, method, args);
+                return "getResultSet".equals(name) && result != null ? wrapResultSet((ResultSet) result) : result;
+            }
+            long start = System.nanoTime();
+            try {
+                Object result = invoke(target, method, args);
+                return result instanceof ResultSet resultSet ? wrapResultSet(resultSet) : result;
+            } finally {
+                QueryStats stats = QueryStats.current();
+                if (stats != null) {
+                    stats.recordStatement(System.nanoTime() - start);
+                }
+            }
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet) {
+        return proxy(ResultSet.class, resultSet, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                QueryStats stats = QueryStats.current();
+                if (stats != null) {
+                    stats.recordRow();
+                }
+            }
+            return result;
+        });
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            // Identity semantics, so proxies work as keys in Hibernate's resource registry
+            case "equals" -> args != null && args.length == 1 ? proxy == args[0] : handler.handle(target, method, args);
+            case "hashCode" -> args == null ? System.identityHashCode(proxy) : handler.handle(target, method, args);
+            default -> handler.handle(target, method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(
+                QueryCountingDataSource.class.getClassLoader(), new Class<?>[] {type}, invocationHandler));
+    }
+
+    /** Call through to the real JDBC object, rethrowing its own exception */
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.booksiread.backend.observability;
+
+/**
+ * QueryStats - SQL statements, rows read and database time for one unit of work
+ *
+ * A scope is bound to the current thread between begin() and end(); QueryCountingDataSource
+ * adds to whichever scope is current when a statement runs. Scopes nest: the inner one
+ * collects until it ends, then the outer one is current again. Work handed to other
+ * threads (@Async, streaming responses) is not attributed to the scope.
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final QueryStats outer;
+    private int statements;
+    private long rows;
+    private long nanos;
+
+    private QueryStats(QueryStats outer) {
+        this.outer = outer;
+    }
+
+    /**
+     * Start collecting on the current thread
+     */
+    public static QueryStats begin() {
+        QueryStats stats = new QueryStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /** The scope collecting on this thread, or null */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stop collecting; the enclosing scope (if any) becomes current again
+     */
+    public void end() {
+        if (CURRENT.get() != this) {
+            return;
+        }
+        if (outer != null) {
+            CURRENT.set(outer);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    void recordStatement(long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    public int getStatements() { return statements; }
+    public long getRows() { return rows; }
+    public long getNanos() { return nanos; }
+
+    @Override
+    public String toString() {
+        return statements + " statements, " + rows + " rows, " + nanos / 1_000_000 + " ms";
+    }
+}
@@ -0,0 +1,49 @@
+package com.booksiread.backend.observability;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * RepositorySpanInterceptor - One span per Spring Data repository call
+ *
+ * Span name "BookRepository.saveAndFlush", tagged db.repository / db.method, child of
+ * whatever span is current (the HTTP request, or an async task's propagated context).
+ * Tracing only: call counts and latency are already published as
+ * spring.data.repository.invocations. Outside any trace the call runs untouched.
+ */
+public class RepositorySpanInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<Tracer> tracer;
+    private final String repositoryName;
+
+    public RepositorySpanInterceptor(ObjectProvider<Tracer> tracer, Class<?> repositoryInterface) {
+        this.tracer = tracer;
+        this.repositoryName = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Tracer current = tracer.getIfAvailable();
+        if (current == null || current.currentSpan() == null) {
+            return invocation.proceed();
+        }
+
+        String method = invocation.getMethod().getName();
+        Span span = current.nextSpan()
+                .name(repositoryName + "." + method)
+                .tag("db.repository", repositoryName)
+                .tag("db.method", method)
+                .start();
+        try (Tracer.SpanInScope ignored = current.withSpan(span)) {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.booksiread.backend.observability;
+
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * TracingTaskDecorator - Carries the submitting thread's trace into executor tasks
+ *
+ * The context (current observation and span) is captured when the task is
+ * submitted and restored on the pool thread, where the task runs inside an
+ * "<executor> task" span tagged with how long it waited in the queue. So an @Async
+ * handoff shows up in the request's trace as: queue wait, then the task's own
+ * repository and HTTP client spans.
+ */
+public class TracingTaskDecorator implements TaskDecorator {
+
+    private static final ContextSnapshotFactory SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private final Tracer tracer;
+    private final String executorName;
+
+    public TracingTaskDecorator(Tracer tracer, String executorName) {
+        this.tracer = tracer;
+        this.executorName = executorName;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        ContextSnapshot snapshot = SNAPSHOTS.captureAll();
+        long submittedAt = System.nanoTime();
+        return () -> {
+            try (ContextSnapshot.Scope restored = snapshot.setThreadLocals()) {
+                if (tracer.currentSpan() == null) {
+                    // Submitted outside a trace (scheduled jobs) - nothing to continue
+                    runnable.run();
+                    return;
+                }
+                Span span = tracer.nextSpan()
+                        .name(executorName + " task")
+                        .tag("executor", executorName)
+                        .tag("queue.wait.ms", (System.nanoTime() - submittedAt) / 1_000_000)
+                        .start();
+                try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+                    runnable.run();
+                } catch (RuntimeException e) {
+                    span.error(e);
+                    throw e;
+                } finally {
+                    span.end();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,321 @@
+package com.booksiread.backend.recommendation;
+
+import com.booksiread.backend.util.BookKeyNormalizer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ItemSimilarityModel - Immutable item-item collaborative-filtering snapshot
+ *
+ * Items are normalized (title, author) keys, so per-user Book copies of the same
+ * work collapse into one item. Everything that is touched on the serving path is
+ * stored as primitive arrays in CSR (compressed sparse row) form:
+ *
+ *   user -> items   : userOffsets / userItems / userRatings
+ *   item -> top-K   : neighbourOffsets / neighbourIds / neighbourScores / neighbourCoReaders
+ *
+ * Similarity is cosine over "finished" sets: coReaders(i, j) / sqrt(readers(i) * readers(j)).
+ * A model is built off the request path and swapped in atomically.
+ */
+public final class ItemSimilarityModel {
+
+    /** One user's interaction with a book (a finished book or a rated review) */
+    public record Interaction(long userId, String title, String author, int rating) {}
+
+    /** "Readers who finished X also finished Y" */
+    public record Neighbour(String title, String author, double score, int coReaders, double averageRating) {}
+
+    /** Personal suggestion, with the owned book that contributed most */
+    public record Suggestion(String title, String author, double score, String becauseOfTitle) {}
+
+    private static final double DEFAULT_WEIGHT = 0.6;  // weight for finished-but-unrated books
+
+    private final Map<String, Integer> itemIndex;
+    private final String[] titles;
+    private final String[] authors;
+    private final int[] readers;
+    private final float[] averageRatings;
+
+    private final Map<Long, Integer> userIndex;
+    private final int[] userOffsets;
+    private final int[] userItems;
+    private final byte[] userRatings;
+
+    private final int[] neighbourOffsets;
+    private final int[] neighbourIds;
+    private final float[] neighbourScores;
+    private final int[] neighbourCoReaders;
+
+    private final LocalDateTime builtAt;
+
+    private ItemSimilarityModel(Map<String, Integer> itemIndex, String[] titles, String[] authors,
+                                int[] readers, float[] averageRatings,
+                                Map<Long, Integer> userIndex, int[] userOffsets, int[] userItems, byte[] userRatings,
+                                int[] neighbourOffsets, int[] neighbourIds, float[] neighbourScores,
+                                int[] neighbourCoReaders) {
+        this.itemIndex = itemIndex;
+        this.titles = titles;
+        this.authors = authors;
+        this.readers = readers;
+        this.averageRatings = averageRatings;
+        this.userIndex = userIndex;
+        this.userOffsets = userOffsets;
+        this.userItems = userItems;
+        this.userRatings = userRatings;
+        this.neighbourOffsets = neighbourOffsets;
+        this.neighbourIds = neighbourIds;
+        this.neighbourScores = neighbourScores;
+        this.neighbourCoReaders = neighbourCoReaders;
+        this.builtAt = LocalDateTime.now();
+    }
+
+    public static ItemSimilarityModel empty() {
+        return build(List.of(), 1, 1, 1);
+    }
+
+    // ============================================
+    // Build
+    // ============================================
+
+    /**
+     * Build a model from raw interactions.
+     *
+     * @param topK            neighbours kept per item
+     * @param minCoReaders    minimum shared readers before a pair is considered similar
+     * @param maxItemsPerUser cap on one user's contribution (pair cost grows with its square)
+     */
+    public static ItemSimilarityModel build(Iterable<Interaction> interactions, int topK,
+                                            int minCoReaders, int maxItemsPerUser) {
+        Map<String, Integer> itemIndex = new HashMap<>();
+        List<String> titleList = new ArrayList<>();
+        List<String> authorList = new ArrayList<>();
+        Map<Long, Map<Integer, Integer>> perUser = new LinkedHashMap<>();
+
+        for (Interaction interaction : interactions) {
+            if (interaction.title() == null || interaction.author() == null) {
+                continue;
+            }
+            String key = BookKeyNormalizer.key(interaction.title(), interaction.author());
+            Integer itemId = itemIndex.get(key);
+            if (itemId == null) {
+                itemId = titleList.size();
+                itemIndex.put(key, itemId);
+                titleList.add(interaction.title().trim());
+                authorList.add(interaction.author().trim());
+            }
+            // Keep the highest rating a user gave to the same work (0 = unrated)
+            perUser.computeIfAbsent(interaction.userId(), k -> new HashMap<>())
+                    .merge(itemId, Math.max(0, Math.min(5, interaction.rating())), Math::max);
+        }
+
+        int itemCount = titleList.size();
+        int userCount = perUser.size();
+
+        // ---- user -> items (CSR) ----
+        Map<Long, Integer> userIndex = new HashMap<>(userCount * 2);
+        int[] userOffsets = new int[userCount + 1];
+        int total = 0;
+        for (Map<Integer, Integer> items : perUser.values()) {
+            total += Math.min(items.size(), maxItemsPerUser);
+        }
+        int[] userItems = new int[total];
+        byte[] userRatings = new byte[total];
+        int[] readers = new int[itemCount];
+        long[] ratingSums = new long[itemCount];
+        int[] ratingCounts = new int[itemCount];
+
+        int u = 0;
+        int cursor = 0;
+        for (Map.Entry<Long, Map<Integer, Integer>> entry : perUser.entrySet()) {
+            userIndex.put(entry.getKey(), u);
+            userOffsets[u] = cursor;
+            int[] ids = entry.getValue().keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            int limit = Math.min(ids.length, maxItemsPerUser);
+            for (int k = 0; k < limit; k++) {
+                int item = ids[k];
+                int rating = entry.getValue().get(item);
+                userItems[cursor] = item;
+                userRatings[cursor] = (byte) rating;
+                readers[item]++;
+                if (rating > 0) {
+                    ratingSums[item] += rating;
+                    ratingCounts[item]++;
+                }
+                cursor++;
+            }
+            u++;
+        }
+        userOffsets[userCount] = cursor;
+
+        float[] averageRatings = new float[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+            averageRatings[i] = ratingCounts[i] == 0 ? 0f : (float) ratingSums[i] / ratingCounts[i];
+        }
+
+        // ---- item -> users (CSR), only needed during build ----
+        int[] itemOffsets = new int[itemCount + 1];
+        for (int i = 0; i < itemCount; i++) {
+            itemOffsets[i + 1] = itemOffsets[i] + readers[i];
+        }
+        int[] itemUsers = new int[total];
+        int[] fill = Arrays.copyOf(itemOffsets, itemCount);
+        for (int user = 0; user < userCount; user++) {
+            for (int p = userOffsets[user]; p < userOffsets[user + 1]; p++) {
+                itemUsers[fill[userItems[p]]++] = user;
+            }
+        }
+
+        // ---- co-occurrence with a dense scratch counter, keep top-K per item ----
+        int[] neighbourOffsets = new int[itemCount + 1];
+        int[] neighbourIds = new int[itemCount * topK];
+        float[] neighbourScores = new float[itemCount * topK];
+        int[] neighbourCoReaders = new int[itemCount * topK];
+
+        int[] counts = new int[itemCount];
+        int[] touched = new int[itemCount];
+        int[] bestIds = new int[topK];
+        float[] bestScores = new float[topK];
+        int[] bestCounts = new int[topK];
+        int written = 0;
+
+        for (int i = 0; i < itemCount; i++) {
+            neighbourOffsets[i] = written;
+            int touchedCount = 0;
+            for (int p = itemOffsets[i]; p < itemOffsets[i + 1]; p++) {
+                int user = itemUsers[p];
+                for (int q = userOffsets[user]; q < userOffsets[user + 1]; q++) {
+                    int j = userItems[q];
+                    if (j != i && counts[j]++ == 0) {
+                        touched[touchedCount++] = j;
+                    }
+                }
+            }
+
+            int kept = 0;
+            for (int t = 0; t < touchedCount; t++) {
+                int j = touched[t];
+                int co = counts[j];
+                counts[j] = 0;
+                if (co < minCoReaders) {
+                    continue;
+                }
+                float score = (float) (co / Math.sqrt((double) readers[i] * readers[j]));
+                // Insertion into a small sorted buffer (topK is tiny)
+                if (kept < topK || score > bestScores[kept - 1]) {
+                    int pos = kept < topK ? kept++ : kept - 1;
+                    while (pos > 0 && bestScores[pos - 1] < score) {
+                        bestScores[pos] = bestScores[pos - 1];
+                        bestIds[pos] = bestIds[pos - 1];
+                        bestCounts[pos] = bestCounts[pos - 1];
+                        pos--;
+                    }
+                    bestScores[pos] = score;
+                    bestIds[pos] = j;
+                    bestCounts[pos] = co;
+                }
+            }
+
+            System.arraycopy(bestIds, 0, neighbourIds, written, kept);
+            System.arraycopy(bestScores, 0, neighbourScores, written, kept);
+            System.arraycopy(bestCounts, 0, neighbourCoReaders, written, kept);
+            written += kept;
+        }
+        neighbourOffsets[itemCount] = written;
+
+        return new ItemSimilarityModel(
+                itemIndex, titleList.toArray(new String[0]), authorList.toArray(new String[0]),
+                readers, averageRatings,
+                userIndex, userOffsets, userItems, userRatings,
+                neighbourOffsets, Arrays.copyOf(neighbourIds, written),
+                Arrays.copyOf(neighbourScores, written), Arrays.copyOf(neighbourCoReaders, written));
+    }
+
+    // ============================================
+    // Serving
+    // ============================================
+
+    /**
+     * Books most often finished by readers who finished the given book.
+     */
+    public List<Neighbour> similarTo(String title, String author, int limit) {
+        Integer item = itemIndex.get(BookKeyNormalizer.key(title, author));
+        if (item == null) {
+            return List.of();
+        }
+        int from = neighbourOffsets[item];
+        int to = Math.min(neighbourOffsets[item + 1], from + limit);
+        List<Neighbour> result = new ArrayList<>(to - from);
+        for (int p = from; p < to; p++) {
+            int j = neighbourIds[p];
+            result.add(new Neighbour(titles[j], authors[j], neighbourScores[p], neighbourCoReaders[p],
+                    Math.round(averageRatings[j] * 10.0) / 10.0));
+        }
+        return result;
+    }
+
+    /**
+     * Personal suggestions: neighbours of the user's books weighted by how they rated them,
+     * excluding anything already in their library.
+     */
+    public List<Suggestion> recommendForUser(long userId, int limit) {
+        Integer user = userIndex.get(userId);
+        if (user == null) {
+            return List.of();
+        }
+        int from = userOffsets[user];
+        int to = userOffsets[user + 1];
+
+        Map<Integer, double[]> scores = new HashMap<>();   // item -> [score, bestContribution, becauseItem]
+        for (int p = from; p < to; p++) {
+            int owned = userItems[p];
+            double weight = userRatings[p] > 0 ? userRatings[p] / 5.0 : DEFAULT_WEIGHT;
+            for (int q = neighbourOffsets[owned]; q < neighbourOffsets[owned + 1]; q++) {
+                int candidate = neighbourIds[q];
+                if (Arrays.binarySearch(userItems, from, to, candidate) >= 0) {
+                    continue; // already in their library
+                }
+                double contribution = neighbourScores[q] * weight;
+                double[] acc = scores.computeIfAbsent(candidate, k -> new double[]{0, 0, -1});
+                acc[0] += contribution;
+                if (contribution > acc[1]) {
+                    acc[1] = contribution;
+                    acc[2] = owned;
+                }
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<Integer, double[]> e) -> e.getValue()[0]).reversed())
+                .limit(limit)
+                .map(e -> new Suggestion(titles[e.getKey()], authors[e.getKey()], e.getValue()[0],
+                        titles[(int) e.getValue()[2]]))
+                .toList();
+    }
+
+    public int itemCount() {
+        return titles.length;
+    }
+
+    public int userCount() {
+        return userIndex.size();
+    }
+
+    public int interactionCount() {
+        return userItems.length;
+    }
+
+    public int neighbourCount() {
+        return neighbourIds.length;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+}
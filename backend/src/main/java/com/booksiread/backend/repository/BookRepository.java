@@ -2,14 +2,26 @@ package com.booksiread.backend.repository;
 
 import com.booksiread.backend.entity.Book;
 import com.booksiread.backend.entity.User;
+import com.booksiread.backend.entity.Work;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * BookRepository - Data access layer for Book entity
@@ -18,9 +30,13 @@ import java.util.Optional;
 public interface BookRepository extends JpaRepository<Book, Long> {
     
     /**
-     * Find all books for a specific user
+     * Find all books for a specific user (with tags - every caller maps to BookResponse)
      */
+    @EntityGraph(attributePaths = "tags")
     List<Book> findByUser(User user);
+
+    @EntityGraph(attributePaths = "tags")
+    List<Book> findByUserId(Long userId);
     
     /**
      * Find a book by ID and user (for authorization)
@@ -42,4 +58,217 @@ public interface BookRepository extends JpaRepository<Book, Long> {
      */
     @Query("SELECT COUNT(b) FROM Book b WHERE b.user.id = :userId AND b.status = 'FINISHED' AND b.completeDate >= :startDate AND b.completeDate <= :endDate")
     int countFinishedBooksInDateRange(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // ============================================
+    // Library digest (AI recommendations)
+    // ============================================
+
+    /**
+     * Slim row used to build the recommendation digest - avoids loading tags and AI TEXT columns
+     */
+    interface DigestRow {
+        String getTitle();
+        String getAuthor();
+        Integer getRating();
+    }
+
+    /**
+     * Highest-rated books the user is reading or has finished
+     */
+    @Query("""
+        SELECT b.title AS title, b.author AS author, b.rating AS rating FROM Book b
+        WHERE b.user.id = :userId AND b.status IN ('READING', 'FINISHED') AND b.rating IS NOT NULL
+        ORDER BY b.rating DESC, b.updatedAt DESC
+    """)
+    List<DigestRow> findTopRatedForDigest(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Most recently touched books the user is reading or has finished
+     */
+    @Query("""
+        SELECT b.title AS title, b.author AS author, b.rating AS rating FROM Book b
+        WHERE b.user.id = :userId AND b.status IN ('READING', 'FINISHED')
+        ORDER BY b.updatedAt DESC
+    """)
+    List<DigestRow> findRecentForDigest(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Authors the user reads most, as [author, count] rows
+     */
+    @Query("""
+        SELECT b.author, COUNT(b) FROM Book b
+        WHERE b.user.id = :userId AND b.status IN ('READING', 'FINISHED')
+        GROUP BY b.author
+        ORDER BY COUNT(b) DESC
+    """)
+    List<Object[]> findFavouriteAuthorsForDigest(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Slim (user, title, author, rating) row used to build the collaborative-filtering model
+     */
+    interface InteractionRow {
+        Long getUserId();
+        String getTitle();
+        String getAuthor();
+        Integer getRating();
+    }
+
+    /**
+     * Every finished book across all users - the "readers who finished X" signal
+     */
+    @Query("""
+        SELECT b.user.id AS userId, b.title AS title, b.author AS author, b.rating AS rating FROM Book b
+        WHERE b.status = 'FINISHED'
+    """)
+    List<InteractionRow> findFinishedInteractions();
+
+    /**
+     * Slim (id, title, author) row for books not yet linked to a Work
+     */
+    interface UnlinkedRow {
+        Long getId();
+        String getTitle();
+        String getAuthor();
+    }
+
+    @Query("SELECT b.id AS id, b.title AS title, b.author AS author FROM Book b WHERE b.work IS NULL ORDER BY b.id")
+    List<UnlinkedRow> findUnlinkedToWork(Pageable pageable);
+
+    /** Link a batch of books to a work in one statement */
+    @Modifying
+    @Query("UPDATE Book b SET b.work = :work WHERE b.id IN :bookIds")
+    int linkToWork(@Param("work") Work work, @Param("bookIds") List<Long> bookIds);
+
+    /** Work id of a book, without loading the book */
+    @Query("SELECT b.work.id FROM Book b WHERE b.id = :bookId")
+    Long findWorkIdByBookId(@Param("bookId") Long bookId);
+
+    /**
+     * Flat export row for a book - tags are joined with '|' so no collection is loaded
+     */
+    interface BookExportRow {
+        Long getId();
+        String getTitle();
+        String getAuthor();
+        String getStatus();
+        Integer getTotalPages();
+        Integer getPagesRead();
+        Integer getRating();
+        String getStartDate();
+        String getCompleteDate();
+        Boolean getIsPublic();
+        String getTags();
+        String getReview();
+        String getNotes();
+        String getCreatedAt();
+        String getUpdatedAt();
+    }
+
+    /**
+     * Stream a user's books for export. Must be consumed inside a transaction; the fetch
+     * size makes the PostgreSQL driver use a cursor instead of buffering the whole result.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+        SELECT b.id AS id, b.title AS title, b.author AS author, b.status AS status,
+               b.total_pages AS totalPages, b.pages_read AS pagesRead, b.rating AS rating,
+               to_char(b.start_date, 'YYYY-MM-DD') AS startDate,
+               to_char(b.complete_date, 'YYYY-MM-DD') AS completeDate,
+               b.is_public AS isPublic,
+               (SELECT string_agg(t.tag, '|') FROM book_tags t WHERE t.book_id = b.id) AS tags,
+               b.review AS review, b.notes AS notes,
+               to_char(b.created_at, 'YYYY-MM-DD"T"HH24:MI:SS') AS createdAt,
+               to_char(b.updated_at, 'YYYY-MM-DD"T"HH24:MI:SS') AS updatedAt
+        FROM books b
+        WHERE b.user_id = :userId
+        ORDER BY b.id
+        """, nativeQuery = true)
+    Stream<BookExportRow> streamExportRows(@Param("userId") Long userId);
+
+    /** Any copy of a work in the given AI status (used to reuse generated notes) */
+    Optional<Book> findFirstByWorkIdAndAiStatus(Long workId, Book.AiStatus aiStatus);
+
+    /**
+     * [bookId, workId] of books still waiting for AI notes - re-queued on startup
+     */
+    @Query("""
+        SELECT b.id, b.work.id FROM Book b
+        WHERE b.aiStatus = com.booksiread.backend.entity.Book.AiStatus.PENDING AND b.work IS NOT NULL
+        ORDER BY b.id
+    """)
+    List<Object[]> findPendingAiNotes();
+
+    /**
+     * Books written by transactions with id >= sinceTxid (sync_txid is maintained by a
+     * trigger, see BookSyncService)
+     */
+    @Query(value = "SELECT * FROM books WHERE user_id = :userId AND sync_txid >= :sinceTxid ORDER BY id",
+           nativeQuery = true)
+    List<Book> findChangedSince(@Param("userId") Long userId, @Param("sinceTxid") long sinceTxid);
+
+    /**
+     * Book columns needed by activity / reflection book summaries
+     */
+    interface BookSummaryRow {
+        Long getId();
+        String getTitle();
+        String getAuthor();
+        Integer getRating();
+        Book.ReadingStatus getStatus();
+    }
+
+    @Query("""
+        SELECT b.id AS id, b.title AS title, b.author AS author, b.rating AS rating, b.status AS status
+        FROM Book b WHERE b.id IN :ids
+    """)
+    List<BookSummaryRow> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Library grid row: everything except the notes/review text and AI note columns
+     */
+    interface LibraryRow {
+        Long getId();
+        String getTitle();
+        String getAuthor();
+        Integer getTotalPages();
+        Integer getPagesRead();
+        Book.ReadingStatus getStatus();
+        LocalDate getStartDate();
+        LocalDate getCompleteDate();
+        Integer getRating();
+        Boolean getIsPublic();
+        Book.AiStatus getAiStatus();
+        LocalDateTime getUpdatedAt();
+    }
+
+    @Query("""
+        SELECT b.id AS id, b.title AS title, b.author AS author, b.totalPages AS totalPages,
+               b.pagesRead AS pagesRead, b.status AS status, b.startDate AS startDate,
+               b.completeDate AS completeDate, b.rating AS rating, b.isPublic AS isPublic,
+               b.aiStatus AS aiStatus, b.updatedAt AS updatedAt
+        FROM Book b WHERE b.user.id = :userId
+        ORDER BY b.id
+    """)
+    List<LibraryRow> findLibraryRows(@Param("userId") Long userId);
+
+    /**
+     * [bookId, tag] for a whole library in one query (instead of one tags query per book)
+     */
+    @Query("SELECT b.id, t FROM Book b JOIN b.tags t WHERE b.user.id = :userId")
+    List<Object[]> findTagsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Title / author / visibility of a user's books (taste comparisons)
+     */
+    interface TitleAuthorRow {
+        String getTitle();
+        String getAuthor();
+        Boolean getIsPublic();
+    }
+
+    @Query("SELECT b.title AS title, b.author AS author, b.isPublic AS isPublic FROM Book b WHERE b.user.id = :userId")
+    List<TitleAuthorRow> findTitleAuthorByUserId(@Param("userId") Long userId);
 }
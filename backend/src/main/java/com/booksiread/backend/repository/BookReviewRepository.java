@@ -1,15 +1,21 @@
 package com.booksiread.backend.repository;
 
 import com.booksiread.backend.entity.BookReview;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface BookReviewRepository extends JpaRepository<BookReview, Long> {
@@ -53,7 +59,7 @@ public interface BookReviewRepository extends JpaRepository<BookReview, Long> {
     @Query("SELECT AVG(br.rating) FROM BookReview br WHERE br.book.id = :bookId AND br.rating IS NOT NULL")
     Double getAverageRatingForBook(@Param("bookId") Long bookId);
 
-    /** Search reviews by content, book title, book author, or reviewer username */
+    /** Search reviews by content, book title, book author, or reviewer username (LIKE fallback) */
     @Query("""
         SELECT br FROM BookReview br
         WHERE (LOWER(br.content) LIKE LOWER(CONCAT('%', :query, '%'))
@@ -65,4 +71,98 @@ public interface BookReviewRepository extends JpaRepository<BookReview, Long> {
         ORDER BY br.createdAt DESC
     """)
     Page<BookReview> searchReviews(@Param("query") String query, Pageable pageable);
+
+    /**
+     * Rated reviews as (user, title, author, rating) rows for the collaborative-filtering model
+     */
+    @Query("""
+        SELECT br.user.id AS userId, br.book.title AS title, br.book.author AS author, br.rating AS rating
+        FROM BookReview br
+        WHERE br.rating IS NOT NULL
+    """)
+    List<BookRepository.InteractionRow> findRatedInteractions();
+
+    /**
+     * Full-text search over the search_vector column (GIN-indexed, maintained by SearchIndexService).
+     * Ranks and pages in the inner query so ts_headline only runs on the returned page.
+     */
+    @Query(value = """
+        SELECT hit.id AS id, hit.score AS score,
+               ts_headline('english', br.content, to_tsquery('english', :tsquery), :headlineOptions) AS highlight
+        FROM (
+            SELECT br.id, ts_rank_cd(br.search_vector, to_tsquery('english', :tsquery)) AS score, br.created_at
+            FROM book_reviews br JOIN users u ON u.id = br.user_id
+            WHERE br.search_vector @@ to_tsquery('english', :tsquery) AND u.is_public = true
+            ORDER BY score DESC, br.created_at DESC
+            LIMIT :limit OFFSET :offset
+        ) hit JOIN book_reviews br ON br.id = hit.id
+        ORDER BY hit.score DESC, hit.created_at DESC
+    """, nativeQuery = true)
+    List<SearchHit> fullTextSearch(@Param("tsquery") String tsquery,
+                                   @Param("headlineOptions") String headlineOptions,
+                                   @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query(value = """
+        SELECT COUNT(*) FROM book_reviews br JOIN users u ON u.id = br.user_id
+        WHERE br.search_vector @@ to_tsquery('english', :tsquery) AND u.is_public = true
+    """, nativeQuery = true)
+    long countFullTextSearch(@Param("tsquery") String tsquery);
+
+    /** Persisted likes counter - doubles as the existence check for the engagement endpoints */
+    @Query("SELECT r.likesCount FROM BookReview r WHERE r.id = :reviewId")
+    Optional<Integer> findLikesCount(@Param("reviewId") Long reviewId);
+
+    /**
+     * Ids and names for a like notification, so liking loads no entities
+     */
+    interface LikeNotificationRow {
+        Long getAuthorId();
+        Long getBookId();
+        String getBookTitle();
+        String getActorName();
+    }
+
+    @Query("""
+        SELECT r.user.id AS authorId, b.id AS bookId, b.title AS bookTitle,
+               (SELECT COALESCE(u.displayName, u.username) FROM User u WHERE u.id = :actorId) AS actorName
+        FROM BookReview r JOIN r.book b
+        WHERE r.id = :reviewId
+        """)
+    Optional<LikeNotificationRow> findLikeNotificationRow(@Param("reviewId") Long reviewId,
+                                                          @Param("actorId") Long actorId);
+
+    /**
+     * Flat export row for a review
+     */
+    interface ReviewExportRow {
+        Long getId();
+        Long getBookId();
+        String getBookTitle();
+        String getBookAuthor();
+        Integer getRating();
+        Boolean getContainsSpoilers();
+        String getContent();
+        Integer getLikesCount();
+        Integer getCommentsCount();
+        String getCreatedAt();
+    }
+
+    /**
+     * Stream a user's reviews for export (see BookRepository.streamExportRows)
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+        SELECT r.id AS id, b.id AS bookId, b.title AS bookTitle, b.author AS bookAuthor,
+               r.rating AS rating, r.contains_spoilers AS containsSpoilers, r.content AS content,
+               r.likes_count AS likesCount, r.comments_count AS commentsCount,
+               to_char(r.created_at, 'YYYY-MM-DD"T"HH24:MI:SS') AS createdAt
+        FROM book_reviews r
+        JOIN books b ON b.id = r.book_id
+        WHERE r.user_id = :userId
+        ORDER BY r.id
+        """, nativeQuery = true)
+    Stream<ReviewExportRow> streamExportRows(@Param("userId") Long userId);
 }
@@ -2,14 +2,20 @@ package com.booksiread.backend.repository;
 
 import com.booksiread.backend.entity.User;
 import com.booksiread.backend.entity.ReadingActivity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface ReadingActivityRepository extends JpaRepository<ReadingActivity, Long> {
@@ -56,4 +62,31 @@ public interface ReadingActivityRepository extends JpaRepository<ReadingActivity
      * Delete all activities for a specific book
      */
     void deleteByBookId(Long bookId);
+
+    /**
+     * Flat export row for one day of reading on one book
+     */
+    interface ActivityExportRow {
+        Long getBookId();
+        String getBookTitle();
+        String getActivityDate();
+        Integer getPagesReadToday();
+    }
+
+    /**
+     * Stream a user's reading activity for export (see BookRepository.streamExportRows)
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+        SELECT b.id AS bookId, b.title AS bookTitle,
+               to_char(a.activity_date, 'YYYY-MM-DD') AS activityDate, a.pages_read_today AS pagesReadToday
+        FROM reading_activities a
+        JOIN books b ON b.id = a.book_id
+        WHERE a.user_id = :userId
+        ORDER BY a.activity_date, a.id
+        """, nativeQuery = true)
+    Stream<ActivityExportRow> streamExportRows(@Param("userId") Long userId);
 }
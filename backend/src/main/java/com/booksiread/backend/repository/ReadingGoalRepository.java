@@ -1,11 +1,19 @@
 package com.booksiread.backend.repository;
 
 import com.booksiread.backend.entity.ReadingGoal;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface ReadingGoalRepository extends JpaRepository<ReadingGoal, Long> {
@@ -15,4 +23,25 @@ public interface ReadingGoalRepository extends JpaRepository<ReadingGoal, Long>
     Optional<ReadingGoal> findByUserIdAndYear(Long userId, int year);
 
     boolean existsByUserIdAndYear(Long userId, int year);
+
+    /**
+     * Flat export row for a yearly goal
+     */
+    interface GoalExportRow {
+        Integer getYear();
+        Integer getTargetBooks();
+        Integer getBooksCompleted();
+    }
+
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+        SELECT g.year AS year, g.target_books AS targetBooks, g.books_completed AS booksCompleted
+        FROM reading_goals g
+        WHERE g.user_id = :userId
+        ORDER BY g.year
+        """, nativeQuery = true)
+    Stream<GoalExportRow> streamExportRows(@Param("userId") Long userId);
 }
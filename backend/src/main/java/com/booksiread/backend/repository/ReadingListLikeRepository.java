@@ -2,6 +2,7 @@ package com.booksiread.backend.repository;
 
 import com.booksiread.backend.entity.ReadingListLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -25,4 +26,17 @@ public interface ReadingListLikeRepository extends JpaRepository<ReadingListLike
            "WHERE rll.user.id = :userId " +
            "ORDER BY rll.createdAt DESC")
     List<ReadingListLike> findByUserIdWithListDetails(@Param("userId") Long userId);
+
+    /** Idempotent like - the unique (reading_list_id, user_id) constraint absorbs duplicates; returns rows inserted */
+    @Modifying
+    @Query(value = """
+        INSERT INTO reading_list_likes (reading_list_id, user_id, created_at) VALUES (:listId, :userId, now())
+        ON CONFLICT (reading_list_id, user_id) DO NOTHING
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("listId") Long listId, @Param("userId") Long userId);
+
+    /** Returns rows deleted (0 when the user hadn't liked it) */
+    @Modifying
+    @Query("DELETE FROM ReadingListLike l WHERE l.readingList.id = :listId AND l.user.id = :userId")
+    int deleteLike(@Param("listId") Long listId, @Param("userId") Long userId);
 }
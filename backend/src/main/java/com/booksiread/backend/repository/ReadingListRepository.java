@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReadingListRepository extends JpaRepository<ReadingList, Long> {
@@ -20,6 +21,7 @@ public interface ReadingListRepository extends JpaRepository<ReadingList, Long>
     @Query("SELECT rl FROM ReadingList rl WHERE rl.isPublic = true ORDER BY rl.likesCount DESC, rl.createdAt DESC")
     Page<ReadingList> findPopularPublicLists(Pageable pageable);
 
+    /** LIKE fallback for searchPublicListsFullText */
     @Query("SELECT rl FROM ReadingList rl WHERE rl.isPublic = true AND " +
            "(LOWER(rl.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
            "LOWER(rl.description) LIKE LOWER(CONCAT('%', :query, '%'))) " +
@@ -27,4 +29,32 @@ public interface ReadingListRepository extends JpaRepository<ReadingList, Long>
     Page<ReadingList> searchPublicLists(@Param("query") String query, Pageable pageable);
 
     long countByUserId(Long userId);
+
+    /**
+     * Full-text search over name, description and item titles/authors (GIN-indexed search_vector,
+     * maintained by SearchIndexService). Score blends text relevance with likes:
+     * ts_rank_cd * (1 + ln(1 + likes)), so popularity breaks ties without burying exact matches.
+     */
+    @Query(value = """
+        SELECT rl.id AS id,
+               ts_rank_cd(rl.search_vector, to_tsquery('english', :tsquery))
+                   * (1 + ln(1 + coalesce(rl.likes_count, 0))) AS score,
+               NULL AS highlight
+        FROM reading_lists rl
+        WHERE rl.search_vector @@ to_tsquery('english', :tsquery) AND rl.is_public = true
+        ORDER BY score DESC, rl.created_at DESC
+        LIMIT :limit OFFSET :offset
+    """, nativeQuery = true)
+    List<SearchHit> fullTextSearch(@Param("tsquery") String tsquery,
+                                   @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query(value = """
+        SELECT COUNT(*) FROM reading_lists rl
+        WHERE rl.search_vector @@ to_tsquery('english', :tsquery) AND rl.is_public = true
+    """, nativeQuery = true)
+    long countFullTextSearch(@Param("tsquery") String tsquery);
+
+    /** Persisted likes counter - doubles as the existence check for the engagement endpoints */
+    @Query("SELECT l.likesCount FROM ReadingList l WHERE l.id = :listId")
+    Optional<Integer> findLikesCount(@Param("listId") Long listId);
 }
@@ -2,6 +2,7 @@ package com.booksiread.backend.repository;
 
 import com.booksiread.backend.entity.ReflectionLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -26,4 +27,17 @@ public interface ReflectionLikeRepository extends JpaRepository<ReflectionLike,
 
     /** Delete all likes for a reflection (cascade cleanup) */
     void deleteByReflectionId(Long reflectionId);
+
+    /** Idempotent like - the unique (reflection_id, user_id) constraint absorbs duplicates; returns rows inserted */
+    @Modifying
+    @Query(value = """
+        INSERT INTO reflection_likes (reflection_id, user_id, created_at) VALUES (:reflectionId, :userId, now())
+        ON CONFLICT (reflection_id, user_id) DO NOTHING
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("reflectionId") Long reflectionId, @Param("userId") Long userId);
+
+    /** Returns rows deleted (0 when the user hadn't liked it) */
+    @Modifying
+    @Query("DELETE FROM ReflectionLike l WHERE l.reflection.id = :reflectionId AND l.user.id = :userId")
+    int deleteLike(@Param("reflectionId") Long reflectionId, @Param("userId") Long userId);
 }
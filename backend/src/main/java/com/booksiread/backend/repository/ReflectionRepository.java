@@ -1,14 +1,21 @@
 package com.booksiread.backend.repository;
 
 import com.booksiread.backend.entity.Reflection;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface ReflectionRepository extends JpaRepository<Reflection, Long> {
@@ -62,7 +69,7 @@ public interface ReflectionRepository extends JpaRepository<Reflection, Long> {
     /** Count reflections by user */
     long countByUserId(Long userId);
 
-    /** Search reflections by content, book title, book author, or user */
+    /** Search reflections by content, book title, book author, or user (LIKE fallback) */
     @Query("""
         SELECT r FROM Reflection r
         WHERE (LOWER(r.content) LIKE LOWER(CONCAT('%', :query, '%'))
@@ -75,4 +82,73 @@ public interface ReflectionRepository extends JpaRepository<Reflection, Long> {
         ORDER BY r.createdAt DESC
     """)
     Page<Reflection> searchReflections(@Param("query") String query, Pageable pageable);
+
+    /**
+     * Full-text search over the search_vector column (GIN-indexed, maintained by SearchIndexService).
+     * Only public reflections from public accounts, same as searchReflections.
+     */
+    @Query(value = """
+        SELECT hit.id AS id, hit.score AS score,
+               ts_headline('english', r.content, to_tsquery('english', :tsquery), :headlineOptions) AS highlight
+        FROM (
+            SELECT r.id, ts_rank_cd(r.search_vector, to_tsquery('english', :tsquery)) AS score, r.created_at
+            FROM reflections r JOIN users u ON u.id = r.user_id
+            WHERE r.search_vector @@ to_tsquery('english', :tsquery)
+              AND u.is_public = true AND r.visible_to_followers_only = false
+            ORDER BY score DESC, r.created_at DESC
+            LIMIT :limit OFFSET :offset
+        ) hit JOIN reflections r ON r.id = hit.id
+        ORDER BY hit.score DESC, hit.created_at DESC
+    """, nativeQuery = true)
+    List<SearchHit> fullTextSearch(@Param("tsquery") String tsquery,
+                                   @Param("headlineOptions") String headlineOptions,
+                                   @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query(value = """
+        SELECT COUNT(*) FROM reflections r JOIN users u ON u.id = r.user_id
+        WHERE r.search_vector @@ to_tsquery('english', :tsquery)
+          AND u.is_public = true AND r.visible_to_followers_only = false
+    """, nativeQuery = true)
+    long countFullTextSearch(@Param("tsquery") String tsquery);
+
+    /** Persisted counters - double as the existence check for the engagement endpoints */
+    @Query("SELECT r.likesCount FROM Reflection r WHERE r.id = :reflectionId")
+    Optional<Integer> findLikesCount(@Param("reflectionId") Long reflectionId);
+
+    @Query("SELECT r.savesCount FROM Reflection r WHERE r.id = :reflectionId")
+    Optional<Integer> findSavesCount(@Param("reflectionId") Long reflectionId);
+
+    /**
+     * Flat export row for a reflection (book columns are null for standalone reflections)
+     */
+    interface ReflectionExportRow {
+        Long getId();
+        Long getBookId();
+        String getBookTitle();
+        String getContent();
+        Boolean getVisibleToFollowersOnly();
+        Integer getLikesCount();
+        Integer getCommentsCount();
+        Integer getSavesCount();
+        String getCreatedAt();
+    }
+
+    /**
+     * Stream a user's reflections for export (see BookRepository.streamExportRows)
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+        SELECT r.id AS id, b.id AS bookId, b.title AS bookTitle, r.content AS content,
+               r.visible_to_followers_only AS visibleToFollowersOnly,
+               r.likes_count AS likesCount, r.comments_count AS commentsCount, r.saves_count AS savesCount,
+               to_char(r.created_at, 'YYYY-MM-DD"T"HH24:MI:SS') AS createdAt
+        FROM reflections r
+        LEFT JOIN books b ON b.id = r.book_id
+        WHERE r.user_id = :userId
+        ORDER BY r.id
+        """, nativeQuery = true)
+    Stream<ReflectionExportRow> streamExportRows(@Param("userId") Long userId);
 }
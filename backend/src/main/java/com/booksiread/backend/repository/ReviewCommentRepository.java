@@ -3,22 +3,69 @@ package com.booksiread.backend.repository;
 import com.booksiread.backend.entity.ReviewComment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ReviewCommentRepository extends JpaRepository<ReviewComment, Long> {
 
-    /** Get top-level comments (no parent) for a review */
+    /** Get top-level comments (no parent) for a review, with their authors */
+    @EntityGraph(attributePaths = "user")
     Page<ReviewComment> findByReviewIdAndParentCommentIsNullOrderByCreatedAtAsc(Long reviewId, Pageable pageable);
 
     /** Legacy: all comments for a review (ascending) */
+    @EntityGraph(attributePaths = "user")
     Page<ReviewComment> findByReviewIdOrderByCreatedAtAsc(Long reviewId, Pageable pageable);
 
-    /** Get replies to a specific comment */
-    List<ReviewComment> findByParentCommentIdOrderByCreatedAtAsc(Long parentId);
+    /**
+     * Ids of the first perParent replies (oldest first) of each of the given comments
+     */
+    @Query(value = """
+        SELECT id FROM (
+            SELECT c.id, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.id) AS rn
+            FROM review_comments c WHERE c.parent_id IN (:parentIds)
+        ) t WHERE t.rn <= :perParent
+        """, nativeQuery = true)
+    List<Long> findReplyPreviewIds(@Param("parentIds") Collection<Long> parentIds, @Param("perParent") int perParent);
+
+    @Query("SELECT c FROM ReviewComment c JOIN FETCH c.user WHERE c.id IN :ids ORDER BY c.id ASC")
+    List<ReviewComment> findWithAuthorsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * One page of replies after the cursor (the last reply id the client has), oldest first.
+     * Reply ids grow with creation time, so id order is thread order.
+     */
+    @Query("SELECT c FROM ReviewComment c JOIN FETCH c.user "
+            + "WHERE c.parentComment.id = :parentId AND c.id > :afterId ORDER BY c.id ASC")
+    List<ReviewComment> findReplyPage(@Param("parentId") Long parentId, @Param("afterId") long afterId,
+                                      Pageable pageable);
+
+    /** Atomically move a comment's reply counter */
+    @Modifying
+    @Query("UPDATE ReviewComment c SET c.repliesCount = COALESCE(c.repliesCount, 0) + :delta WHERE c.id = :id")
+    int adjustRepliesCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /** Recompute reply counters that drifted (cascaded deletes, rows from before the column) */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE review_comments c SET replies_count = n.cnt
+        FROM (
+            SELECT p.id, COUNT(r.id) AS cnt
+            FROM review_comments p LEFT JOIN review_comments r ON r.parent_id = p.id
+            GROUP BY p.id
+        ) n
+        WHERE n.id = c.id AND c.replies_count IS DISTINCT FROM n.cnt
+        """, nativeQuery = true)
+    int reconcileRepliesCounts();
 
     long countByReviewId(Long reviewId);
 
@@ -2,6 +2,9 @@ package com.booksiread.backend.repository;
 
 import com.booksiread.backend.entity.ReviewLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -16,4 +19,17 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
     long countByReviewId(Long reviewId);
 
     void deleteByReviewId(Long reviewId);
+
+    /** Idempotent like - the unique (review_id, user_id) constraint absorbs duplicates; returns rows inserted */
+    @Modifying
+    @Query(value = """
+        INSERT INTO review_likes (review_id, user_id, created_at) VALUES (:reviewId, :userId, now())
+        ON CONFLICT (review_id, user_id) DO NOTHING
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("reviewId") Long reviewId, @Param("userId") Long userId);
+
+    /** Returns rows deleted (0 when the user hadn't liked it) */
+    @Modifying
+    @Query("DELETE FROM ReviewLike l WHERE l.review.id = :reviewId AND l.user.id = :userId")
+    int deleteLike(@Param("reviewId") Long reviewId, @Param("userId") Long userId);
 }
@@ -4,6 +4,7 @@ import com.booksiread.backend.entity.SavedReflection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -29,4 +30,17 @@ public interface SavedReflectionRepository extends JpaRepository<SavedReflection
 
     /** Delete all saves for a reflection (cascade cleanup) */
     void deleteByReflectionId(Long reflectionId);
+
+    /** Idempotent save - the unique (user_id, reflection_id) constraint absorbs duplicates; returns rows inserted */
+    @Modifying
+    @Query(value = """
+        INSERT INTO saved_reflections (user_id, reflection_id, created_at) VALUES (:userId, :reflectionId, now())
+        ON CONFLICT (user_id, reflection_id) DO NOTHING
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("reflectionId") Long reflectionId);
+
+    /** Returns rows deleted (0 when the user hadn't saved it) */
+    @Modifying
+    @Query("DELETE FROM SavedReflection s WHERE s.user.id = :userId AND s.reflection.id = :reflectionId")
+    int deleteSave(@Param("userId") Long userId, @Param("reflectionId") Long reflectionId);
 }
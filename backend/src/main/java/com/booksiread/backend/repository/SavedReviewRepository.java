@@ -4,6 +4,9 @@ import com.booksiread.backend.entity.SavedReview;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -18,4 +21,17 @@ public interface SavedReviewRepository extends JpaRepository<SavedReview, Long>
     Page<SavedReview> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
     void deleteByReviewId(Long reviewId);
+
+    /** Idempotent save - the unique (user_id, review_id) constraint absorbs duplicates; returns rows inserted */
+    @Modifying
+    @Query(value = """
+        INSERT INTO saved_reviews (user_id, review_id, created_at) VALUES (:userId, :reviewId, now())
+        ON CONFLICT (user_id, review_id) DO NOTHING
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("reviewId") Long reviewId);
+
+    /** Returns rows deleted (0 when the user hadn't saved it) */
+    @Modifying
+    @Query("DELETE FROM SavedReview s WHERE s.user.id = :userId AND s.review.id = :reviewId")
+    int deleteSave(@Param("userId") Long userId, @Param("reviewId") Long reviewId);
 }
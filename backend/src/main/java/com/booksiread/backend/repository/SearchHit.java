@@ -0,0 +1,10 @@
+package com.booksiread.backend.repository;
+
+/**
+ * SearchHit - Row returned by the native full-text search queries
+ */
+public interface SearchHit {
+    Long getId();
+    Double getScore();
+    String getHighlight();
+}
@@ -30,7 +30,7 @@ public interface UserActivityRepository extends JpaRepository<UserActivity, Long
     @Query("""
         SELECT ua FROM UserActivity ua 
         WHERE (ua.user.id IN :followingIds 
-               AND ua.activityType IN ('STARTED_READING', 'FINISHED_BOOK', 'PROGRESS_UPDATE', 'ADDED_BOOK', 'RATED_BOOK', 'WROTE_REVIEW'))
+               AND ua.activityType IN ('STARTED_READING', 'FINISHED_BOOK', 'PROGRESS_UPDATE', 'ADDED_BOOK', 'RATED_BOOK', 'WROTE_REVIEW', 'IMPORTED_LIBRARY'))
         OR (ua.user.isPublic = true 
             AND ua.user.id NOT IN :followingIds 
             AND ua.activityType IN ('FINISHED_BOOK', 'RATED_BOOK', 'WROTE_REVIEW'))
@@ -65,7 +65,7 @@ public interface UserActivityRepository extends JpaRepository<UserActivity, Long
     @Query("""
         SELECT ua FROM UserActivity ua 
         WHERE ua.user.isPublic = true 
-        AND ua.activityType IN ('STARTED_READING', 'FINISHED_BOOK', 'PROGRESS_UPDATE', 'ADDED_BOOK', 'RATED_BOOK', 'WROTE_REVIEW')
+        AND ua.activityType IN ('STARTED_READING', 'FINISHED_BOOK', 'PROGRESS_UPDATE', 'ADDED_BOOK', 'RATED_BOOK', 'WROTE_REVIEW', 'IMPORTED_LIBRARY')
         ORDER BY ua.createdAt DESC
     """)
     Page<UserActivity> findPublicActivities(Pageable pageable);
@@ -4,10 +4,13 @@ import com.booksiread.backend.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,7 +33,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // ============================================
 
     /**
-     * Search users by username or display name (for user discovery)
+     * Search users by username or display name (LIKE fallback - see UserTypeaheadService)
      */
     @Query("""
         SELECT u FROM User u 
@@ -111,4 +114,90 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT u FROM User u WHERE u.isPublic = true AND u.id != :userId ORDER BY u.followersCount DESC")
     Page<User> findAllOtherPublicUsers(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Slim row for building the in-memory typeahead index
+     */
+    interface TypeaheadRow {
+        Long getId();
+        String getUsername();
+        String getDisplayName();
+        Integer getFollowersCount();
+    }
+
+    @Query("SELECT u.id AS id, u.username AS username, u.displayName AS displayName, u.followersCount AS followersCount FROM User u")
+    List<TypeaheadRow> findAllForTypeahead();
+
+    // ============================================
+    // Profile counters
+    // ============================================
+
+    /** Atomically apply counter deltas (COALESCE covers rows created before the column existed) */
+    @Modifying
+    @Query("""
+        UPDATE User u SET
+            u.booksCount = COALESCE(u.booksCount, 0) + :books,
+            u.publicBooksCount = COALESCE(u.publicBooksCount, 0) + :publicBooks,
+            u.reviewsCount = COALESCE(u.reviewsCount, 0) + :reviews,
+            u.listsCount = COALESCE(u.listsCount, 0) + :lists,
+            u.reflectionsCount = COALESCE(u.reflectionsCount, 0) + :reflections
+        WHERE u.id = :userId
+    """)
+    int applyCounterDeltas(@Param("userId") Long userId, @Param("books") int books,
+                           @Param("publicBooks") int publicBooks, @Param("reviews") int reviews,
+                           @Param("lists") int lists, @Param("reflections") int reflections);
+
+    /**
+     * Recompute every counter from the source tables for users with fromId <= id < toId,
+     * set-based and in its own transaction (see UserCounterService.reconcile)
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE User u SET
+            u.booksCount = (SELECT COUNT(b) FROM Book b WHERE b.user.id = u.id),
+            u.publicBooksCount = (SELECT COUNT(b) FROM Book b WHERE b.user.id = u.id AND b.isPublic = true),
+            u.reviewsCount = (SELECT COUNT(r) FROM BookReview r WHERE r.user.id = u.id),
+            u.listsCount = (SELECT COUNT(l) FROM ReadingList l WHERE l.user.id = u.id),
+            u.reflectionsCount = (SELECT COUNT(rf) FROM Reflection rf WHERE rf.user.id = u.id),
+            u.followersCount = (SELECT COUNT(f) FROM UserFollow f WHERE f.following.id = u.id),
+            u.followingCount = (SELECT COUNT(f) FROM UserFollow f WHERE f.follower.id = u.id)
+        WHERE u.id >= :fromId AND u.id < :toId
+    """)
+    int reconcileCounters(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+    long findMaxId();
+
+    /**
+     * Viewer -> profile relationship flags in one round trip (counts are 0 or 1)
+     */
+    interface RelationshipRow {
+        Long getFollowing();
+        Long getFollowedBy();
+        Long getPendingRequest();
+    }
+
+    @Query("""
+        SELECT
+            (SELECT COUNT(f1) FROM UserFollow f1 WHERE f1.follower.id = :viewerId AND f1.following.id = :userId) AS following,
+            (SELECT COUNT(f2) FROM UserFollow f2 WHERE f2.follower.id = :userId AND f2.following.id = :viewerId) AS followedBy,
+            (SELECT COUNT(fr) FROM FollowRequest fr WHERE fr.requester.id = :viewerId AND fr.target.id = :userId
+                AND fr.status = com.booksiread.backend.entity.FollowRequest.RequestStatus.PENDING) AS pendingRequest
+        FROM User u WHERE u.id = :userId
+    """)
+    RelationshipRow findRelationship(@Param("userId") Long userId, @Param("viewerId") Long viewerId);
+
+    /** Which of the given users the viewer follows (batch form of findRelationship) */
+    @Query("SELECT f.following.id FROM UserFollow f WHERE f.follower.id = :viewerId AND f.following.id IN :userIds")
+    List<Long> findFollowedAmong(@Param("viewerId") Long viewerId, @Param("userIds") Collection<Long> userIds);
+
+    /** Which of the given users the viewer has a pending follow request to */
+    @Query("""
+        SELECT fr.target.id FROM FollowRequest fr
+        WHERE fr.requester.id = :viewerId AND fr.target.id IN :userIds
+        AND fr.status = com.booksiread.backend.entity.FollowRequest.RequestStatus.PENDING
+    """)
+    List<Long> findPendingRequestTargetsAmong(@Param("viewerId") Long viewerId,
+                                              @Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,104 @@
+package com.booksiread.backend.repository;
+
+import com.booksiread.backend.entity.Work;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WorkRepository extends JpaRepository<Work, Long> {
+
+    /** Find the canonical work for a normalized key */
+    Optional<Work> findByNormalizedKey(String normalizedKey);
+
+    /** Works for a batch of normalized keys (bulk import) */
+    List<Work> findByNormalizedKeyIn(Collection<String> normalizedKeys);
+
+    /**
+     * Create the work for a key unless it already exists.
+     * Race-free get-or-create: concurrent inserts of the same key collapse on the unique index.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO works (normalized_key, title, author, readers_count, reviews_count, rating_sum, rating_count,
+                           rating_1_count, rating_2_count, rating_3_count, rating_4_count, rating_5_count,
+                           created_at, updated_at)
+        VALUES (:key, :title, :author, 0, 0, 0, 0, 0, 0, 0, 0, 0, NOW(), NOW())
+        ON CONFLICT (normalized_key) DO NOTHING
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("key") String key, @Param("title") String title, @Param("author") String author);
+
+    /**
+     * Recompute a work's aggregates from its linked books and their reviews.
+     * Used when books move between works and by the backfill; review writes use applyReviewDelta.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Work w SET
+            w.readersCount = (SELECT COUNT(b) FROM Book b WHERE b.work.id = :workId),
+            w.reviewsCount = (SELECT COUNT(br) FROM BookReview br WHERE br.book.work.id = :workId),
+            w.ratingSum = (SELECT COALESCE(SUM(br.rating), 0) FROM BookReview br
+                           WHERE br.book.work.id = :workId AND br.rating IS NOT NULL),
+            w.ratingCount = (SELECT COUNT(br) FROM BookReview br
+                             WHERE br.book.work.id = :workId AND br.rating IS NOT NULL),
+            w.rating1Count = (SELECT COUNT(br) FROM BookReview br WHERE br.book.work.id = :workId AND br.rating = 1),
+            w.rating2Count = (SELECT COUNT(br) FROM BookReview br WHERE br.book.work.id = :workId AND br.rating = 2),
+            w.rating3Count = (SELECT COUNT(br) FROM BookReview br WHERE br.book.work.id = :workId AND br.rating = 3),
+            w.rating4Count = (SELECT COUNT(br) FROM BookReview br WHERE br.book.work.id = :workId AND br.rating = 4),
+            w.rating5Count = (SELECT COUNT(br) FROM BookReview br WHERE br.book.work.id = :workId AND br.rating = 5),
+            w.updatedAt = CURRENT_TIMESTAMP
+        WHERE w.id = :workId
+    """)
+    int refreshAggregates(@Param("workId") Long workId);
+
+    /**
+     * Set-based refreshAggregates for many works at once (bulk deletes)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Work w SET
+            w.readersCount = (SELECT COUNT(b) FROM Book b WHERE b.work.id = w.id),
+            w.reviewsCount = (SELECT COUNT(br) FROM BookReview br WHERE br.book.work.id = w.id),
+            w.ratingSum = (SELECT COALESCE(SUM(br.rating), 0) FROM BookReview br
+                           WHERE br.book.work.id = w.id AND br.rating IS NOT NULL),
+            w.ratingCount = (SELECT COUNT(br) FROM BookReview br
+                             WHERE br.book.work.id = w.id AND br.rating IS NOT NULL),
+            w.rating1Count = (SELECT COUNT(br) FROM BookReview br WHERE br.book.work.id = w.id AND br.rating = 1),
+            w.rating2Count = (SELECT COUNT(br) FROM BookReview br WHERE br.book.work.id = w.id AND br.rating = 2),
+            w.rating3Count = (SELECT COUNT(br) FROM BookReview br WHERE br.book.work.id = w.id AND br.rating = 3),
+            w.rating4Count = (SELECT COUNT(br) FROM BookReview br WHERE br.book.work.id = w.id AND br.rating = 4),
+            w.rating5Count = (SELECT COUNT(br) FROM BookReview br WHERE br.book.work.id = w.id AND br.rating = 5),
+            w.updatedAt = CURRENT_TIMESTAMP
+        WHERE w.id IN :workIds
+    """)
+    int refreshAggregatesIn(@Param("workIds") Collection<Long> workIds);
+
+    /**
+     * Apply a review create/update/delete to the running aggregates in one atomic statement
+     * (no read-modify-write, no aggregate scan).
+     */
+    @Modifying
+    @Query("""
+        UPDATE Work w SET
+            w.reviewsCount = w.reviewsCount + :reviews,
+            w.ratingSum = w.ratingSum + :ratingSum,
+            w.ratingCount = w.ratingCount + :ratingCount,
+            w.rating1Count = w.rating1Count + :r1,
+            w.rating2Count = w.rating2Count + :r2,
+            w.rating3Count = w.rating3Count + :r3,
+            w.rating4Count = w.rating4Count + :r4,
+            w.rating5Count = w.rating5Count + :r5,
+            w.updatedAt = CURRENT_TIMESTAMP
+        WHERE w.id = :workId
+    """)
+    int applyReviewDelta(@Param("workId") Long workId, @Param("reviews") int reviews,
+                         @Param("ratingSum") long ratingSum, @Param("ratingCount") int ratingCount,
+                         @Param("r1") int r1, @Param("r2") int r2, @Param("r3") int r3,
+                         @Param("r4") int r4, @Param("r5") int r5);
+}
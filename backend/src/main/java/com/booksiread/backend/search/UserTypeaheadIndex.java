@@ -0,0 +1,212 @@
+package com.booksiread.backend.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * UserTypeaheadIndex - In-memory typeahead index over usernames and display names
+ *
+ * Two lookups:
+ * - queries of 3+ characters: trigram postings (substring match, like the old LIKE '%q%')
+ * - 1-2 character queries: prefix match on name words via a sorted map
+ *
+ * Candidates are verified against the actual names and the top K by follower count are
+ * returned as ids; the caller hydrates them from the database. Thread-safe: reads never
+ * block, writes replace a user's entry and postings.
+ */
+public class UserTypeaheadIndex {
+
+    /** Indexed snapshot of one user */
+    public record Entry(long id, String username, String displayName, int followersCount) {}
+
+    /** One page of matching ids plus the total number of matches */
+    public record Result(List<Long> ids, int total) {}
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingInt(Entry::followersCount).reversed()
+            .thenComparing(Entry::username);
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> trigrams = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Set<Long>> words = new ConcurrentSkipListMap<>();
+
+    /**
+     * Add or replace a user
+     */
+    public void put(long id, String username, String displayName, int followersCount) {
+        Entry entry = new Entry(id, normalize(username), normalize(displayName), followersCount);
+        Entry previous = entries.put(id, entry);
+
+        if (previous != null && previous.username().equals(entry.username())
+                && previous.displayName().equals(entry.displayName())) {
+            return; // only the follower count changed - postings stay the same
+        }
+        if (previous != null) {
+            unindex(previous);
+        }
+        for (String gram : trigramsOf(entry)) {
+            trigrams.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        for (String word : wordsOf(entry)) {
+            words.computeIfAbsent(word, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    /**
+     * Update just the ranking signal
+     */
+    public void updateFollowers(long id, int followersCount) {
+        entries.computeIfPresent(id, (k, e) -> new Entry(e.id(), e.username(), e.displayName(), followersCount));
+    }
+
+    public void remove(long id) {
+        Entry previous = entries.remove(id);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        trigrams.clear();
+        words.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Top matches by follower count.
+     *
+     * @param offset number of ranked matches to skip (page * size)
+     * @param limit  page size
+     */
+    public Result search(String query, int offset, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty() || limit <= 0) {
+            return new Result(List.of(), 0);
+        }
+
+        Set<Long> candidates = q.length() >= 3 ? trigramCandidates(q) : prefixCandidates(q);
+
+        // Keep only the best (offset + limit) in a min-heap, count every verified match
+        int k = offset + limit;
+        PriorityQueue<Entry> best = new PriorityQueue<>(RANKING.reversed());
+        int total = 0;
+        for (Long id : candidates) {
+            Entry entry = entries.get(id);
+            if (entry == null || !matches(entry, q)) {
+                continue;
+            }
+            total++;
+            best.add(entry);
+            if (best.size() > k) {
+                best.poll();
+            }
+        }
+
+        List<Entry> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        List<Long> ids = ranked.stream().skip(offset).map(Entry::id).toList();
+        return new Result(ids, total);
+    }
+
+    // ============================================
+    // Internals
+    // ============================================
+
+    private Set<Long> trigramCandidates(String q) {
+        // Intersect postings, smallest first
+        List<Set<Long>> postings = new ArrayList<>();
+        for (int i = 0; i + 3 <= q.length(); i++) {
+            Set<Long> posting = trigrams.get(q.substring(i, i + 3));
+            if (posting == null) {
+                return Set.of();
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+            result.retainAll(postings.get(i));
+        }
+        return result;
+    }
+
+    private Set<Long> prefixCandidates(String q) {
+        Set<Long> result = new HashSet<>();
+        for (Set<Long> ids : words.subMap(q, true, q + Character.MAX_VALUE, false).values()) {
+            result.addAll(ids);
+        }
+        return result;
+    }
+
+    private boolean matches(Entry entry, String q) {
+        if (q.length() >= 3) {
+            return entry.username().contains(q) || entry.displayName().contains(q);
+        }
+        for (String word : wordsOf(entry)) {
+            if (word.startsWith(q)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void unindex(Entry entry) {
+        for (String gram : trigramsOf(entry)) {
+            removePosting(trigrams, gram, entry.id());
+        }
+        for (String word : wordsOf(entry)) {
+            removePosting(words, word, entry.id());
+        }
+    }
+
+    private void removePosting(Map<String, Set<Long>> postings, String key, long id) {
+        postings.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private Set<String> trigramsOf(Entry entry) {
+        Set<String> grams = new HashSet<>();
+        for (String name : new String[]{entry.username(), entry.displayName()}) {
+            for (int i = 0; i + 3 <= name.length(); i++) {
+                grams.add(name.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    /** Full username plus each word of both names ("jane_doe", "Jane Doe" -> jane_doe, jane, doe) */
+    private Set<String> wordsOf(Entry entry) {
+        Set<String> result = new HashSet<>();
+        if (!entry.username().isEmpty()) {
+            result.add(entry.username());
+        }
+        for (String name : new String[]{entry.username(), entry.displayName()}) {
+            for (String word : name.split("[^\\p{L}\\p{N}]+")) {
+                if (!word.isEmpty()) {
+                    result.add(word);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,127 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.repository.BookRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * AiNotesQueue - Low-priority AI notes generation for bulk-imported books
+ *
+ * Interactive book creation calls AiNotesService directly; imports put their books here
+ * instead. The queue is keyed by work, so every copy of the same title/author (within one
+ * import or across users) shares a single Gemini call, and a book queued twice is only
+ * generated once. A drain job hands works to aiNotesExecutor only while it has idle
+ * threads, so imports never delay notes for books added by hand.
+ *
+ * The queue is in memory; books still PENDING after a restart are re-queued on startup.
+ */
+@Service
+public class AiNotesQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiNotesQueue.class);
+
+    private final AiNotesService aiNotesService;
+    private final BookRepository bookRepository;
+    private final Executor aiNotesExecutor;
+    private final int maxPerDrain;
+
+    /** workId -> books waiting for notes, in arrival order */
+    private final Map<Long, Set<Long>> pending = new LinkedHashMap<>();
+
+    public AiNotesQueue(AiNotesService aiNotesService,
+                        BookRepository bookRepository,
+                        @Qualifier("aiNotesExecutor") Executor aiNotesExecutor,
+                        @Value("${ai.notes.queue.max-per-drain:1}") int maxPerDrain) {
+        this.aiNotesService = aiNotesService;
+        this.bookRepository = bookRepository;
+        this.aiNotesExecutor = aiNotesExecutor;
+        this.maxPerDrain = maxPerDrain;
+    }
+
+    /**
+     * Queue a book for notes generation (no-op if it is already queued)
+     */
+    public synchronized void enqueue(Long workId, Long bookId) {
+        pending.computeIfAbsent(workId, k -> new LinkedHashSet<>()).add(bookId);
+    }
+
+    public synchronized int size() {
+        return pending.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Re-queue books left PENDING by a previous run (imports in progress, crashed generations)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        try {
+            int count = 0;
+            for (Object[] row : bookRepository.findPendingAiNotes()) {
+                enqueue((Long) row[1], (Long) row[0]);
+                count++;
+            }
+            if (count > 0) {
+                logger.info("Re-queued {} book(s) waiting for AI notes", count);
+            }
+        } catch (Exception e) {
+            logger.warn("Could not re-queue pending AI notes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Hand the oldest works to the AI executor while it has spare capacity
+     */
+    @Scheduled(initialDelayString = "${ai.notes.queue.initial-delay:PT30S}",
+               fixedDelayString = "${ai.notes.queue.drain-interval:PT5S}")
+    public void drain() {
+        for (int i = 0; i < maxPerDrain && hasIdleCapacity(); i++) {
+            Map.Entry<Long, Set<Long>> next = poll();
+            if (next == null) {
+                return;
+            }
+            try {
+                aiNotesService.generateNotesForWorkAsync(next.getKey(), next.getValue());
+            } catch (TaskRejectedException e) {
+                requeue(next);
+                return;
+            }
+        }
+    }
+
+    private boolean hasIdleCapacity() {
+        if (aiNotesExecutor instanceof ThreadPoolTaskExecutor pool) {
+            return pool.getActiveCount() < pool.getCorePoolSize()
+                    && pool.getThreadPoolExecutor().getQueue().isEmpty();
+        }
+        return true;
+    }
+
+    private synchronized Map.Entry<Long, Set<Long>> poll() {
+        Iterator<Map.Entry<Long, Set<Long>>> it = pending.entrySet().iterator();
+        if (!it.hasNext()) {
+            return null;
+        }
+        Map.Entry<Long, Set<Long>> next = it.next();
+        it.remove();
+        return Map.entry(next.getKey(), next.getValue());
+    }
+
+    private synchronized void requeue(Map.Entry<Long, Set<Long>> entry) {
+        pending.computeIfAbsent(entry.getKey(), k -> new LinkedHashSet<>()).addAll(entry.getValue());
+    }
+}
@@ -11,6 +11,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * AI Notes Service - Business logic for generating AI-powered book notes
@@ -77,6 +79,56 @@ public class AiNotesService {
         }
     }
 
+    /**
+     * Generate AI notes once for every queued copy of the same work (low-priority import queue)
+     *
+     * Notes only depend on title/author, so if any copy of the work already has notes they
+     * are reused; otherwise Gemini is called once and the result shared by all copies.
+     *
+     * @param workId  - The work the books belong to
+     * @param bookIds - Books of that work still waiting for notes
+     */
+    @Async("aiNotesExecutor")
+    @Transactional(propagation = org.springframework.transaction.annotation.Propagation.REQUIRES_NEW)
+    public void generateNotesForWorkAsync(Long workId, Collection<Long> bookIds) {
+        List<Book> books = bookRepository.findAllById(bookIds).stream()
+                .filter(book -> book.getAiStatus() == Book.AiStatus.PENDING)
+                .toList();
+        if (books.isEmpty()) {
+            return;
+        }
+
+        try {
+            Book source = bookRepository.findFirstByWorkIdAndAiStatus(workId, Book.AiStatus.COMPLETED).orElse(null);
+            if (source != null) {
+                for (Book book : books) {
+                    copyNotes(source, book);
+                }
+                logger.info("Reused AI notes of work {} for {} book(s)", workId, books.size());
+                return;
+            }
+
+            Book first = books.get(0);
+            GeminiResponse response = geminiClient.generateBookNotes(buildPrompt(first.getTitle(), first.getAuthor()));
+            if (response != null && isValidResponse(response)) {
+                for (Book book : books) {
+                    updateBookWithNotes(book, response);
+                }
+                logger.info("Generated AI notes for work {} ({} book(s))", workId, books.size());
+            } else {
+                for (Book book : books) {
+                    markAsFailed(book, "Invalid or empty response from Gemini API");
+                }
+                logger.warn("Failed to generate valid AI notes for work {}", workId);
+            }
+        } catch (Exception e) {
+            logger.error("Error generating AI notes for work {}: {}", workId, e.getMessage(), e);
+            for (Book book : books) {
+                markAsFailed(book, "Exception: " + e.getMessage());
+            }
+        }
+    }
+
     /**
      * Build optimized prompt for Gemini API with strict JSON format requirements
      */
@@ -126,6 +178,18 @@ public class AiNotesService {
         bookRepository.save(book);
     }
 
+    /**
+     * Copy notes generated for another copy of the same work
+     */
+    private void copyNotes(Book source, Book target) {
+        target.setAiSummary(source.getAiSummary());
+        target.setAiHighlights(source.getAiHighlights());
+        target.setAiOverallOpinion(source.getAiOverallOpinion());
+        target.setAiGeneratedAt(LocalDateTime.now());
+        target.setAiStatus(Book.AiStatus.COMPLETED);
+        bookRepository.save(target);
+    }
+
     /**
      * Mark book AI generation as failed
      */
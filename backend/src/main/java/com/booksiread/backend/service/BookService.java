@@ -1,7 +1,9 @@
 package com.booksiread.backend.service;
 
+import com.booksiread.backend.dto.BookChangesResponse;
 import com.booksiread.backend.dto.BookRequest;
 import com.booksiread.backend.dto.BookResponse;
+import com.booksiread.backend.dto.BookSummaryResponse;
 
 import java.util.List;
 
@@ -23,6 +25,19 @@ public interface BookService {
      */
     List<BookResponse> getAllBooks();
 
+    /**
+     * Get the library grid: all books without notes/review and AI note texts
+     * @return slim rows, full details via getBookById
+     */
+    List<BookSummaryResponse> getLibrarySummaries();
+
+    /**
+     * Books added, updated or deleted since a sync token
+     * @param since - token from the previous response, null for a full load
+     * @return changes plus the next token
+     */
+    BookChangesResponse getChanges(String since);
+
     /**
      * Get a single book by ID
      * @param id - book ID
@@ -0,0 +1,225 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.dto.BookChangesResponse;
+import com.booksiread.backend.dto.BookResponse;
+import com.booksiread.backend.entity.Book;
+import com.booksiread.backend.exception.ValidationException;
+import com.booksiread.backend.repository.BookRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * BookSyncService - Delta sync of a user's library ("what changed since my last load")
+ *
+ * Every books row carries sync_txid, the id of the transaction that last wrote it, and
+ * deleted books leave a tombstone with the deleting transaction's id. Both are maintained
+ * by database triggers, so JPA saves, JDBC bulk deletes and imports are all covered; tag
+ * changes touch their book too.
+ *
+ * The sync token is the xmin of the reader's snapshot: every transaction below it has
+ * finished, so the next request asks for rows with sync_txid >= token. Transactions that
+ * were still running are picked up next time even if they commit "out of order"; a row
+ * may occasionally be sent twice, which clients apply idempotently.
+ *
+ * updated_at is not used as the version: it is set by the application before commit, so a
+ * slow transaction could commit a timestamp older than a token already handed out.
+ *
+ * Tombstones are purged after a retention period; older tokens get a full reset. If the
+ * triggers can't be installed (e.g. not PostgreSQL) every request is answered with a reset.
+ */
+@Service
+public class BookSyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookSyncService.class);
+
+    private static final String STAMP_FUNCTION = """
+        CREATE OR REPLACE FUNCTION books_sync_stamp() RETURNS trigger AS $$
+        BEGIN
+            NEW.sync_txid := txid_current();
+            RETURN NEW;
+        END;
+        $$ LANGUAGE plpgsql
+        """;
+
+    private static final String TOMBSTONE_FUNCTION = """
+        CREATE OR REPLACE FUNCTION books_sync_tombstone() RETURNS trigger AS $$
+        BEGIN
+            INSERT INTO book_tombstones (book_id, user_id, sync_txid, deleted_at)
+            SELECT g.id, g.user_id, txid_current(), now() FROM gone g
+            ON CONFLICT (book_id) DO NOTHING;
+            RETURN NULL;
+        END;
+        $$ LANGUAGE plpgsql
+        """;
+
+    /** Tag rows live in book_tags; re-stamp their books once per statement */
+    private static final String TAG_TOUCH_FUNCTION = """
+        CREATE OR REPLACE FUNCTION book_tags_sync_touch() RETURNS trigger AS $$
+        BEGIN
+            UPDATE books SET sync_txid = txid_current()
+            WHERE id IN (SELECT t.book_id FROM touched t)
+              AND sync_txid IS DISTINCT FROM txid_current();
+            RETURN NULL;
+        END;
+        $$ LANGUAGE plpgsql
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookRepository bookRepository;
+    private final boolean enabled;
+    private final Duration tombstoneRetention;
+
+    private volatile boolean available = false;
+
+    public BookSyncService(JdbcTemplate jdbcTemplate,
+                           BookRepository bookRepository,
+                           @Value("${sync.enabled:true}") boolean enabled,
+                           @Value("${sync.tombstone-retention:P30D}") Duration tombstoneRetention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bookRepository = bookRepository;
+        this.enabled = enabled;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * Create the version column, tombstone table, indexes and triggers if missing
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            logger.info("Library delta sync disabled - /api/books/changes always returns the full library");
+            return;
+        }
+        try {
+            jdbcTemplate.execute("ALTER TABLE books ADD COLUMN IF NOT EXISTS sync_txid BIGINT");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_books_user_sync ON books (user_id, sync_txid)");
+            jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS book_tombstones (
+                    book_id BIGINT PRIMARY KEY,
+                    user_id BIGINT NOT NULL,
+                    sync_txid BIGINT NOT NULL,
+                    deleted_at TIMESTAMP NOT NULL DEFAULT now()
+                )
+                """);
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_book_tombstones_user_sync "
+                    + "ON book_tombstones (user_id, sync_txid)");
+
+            jdbcTemplate.execute(STAMP_FUNCTION);
+            jdbcTemplate.execute(TOMBSTONE_FUNCTION);
+            jdbcTemplate.execute(TAG_TOUCH_FUNCTION);
+            installTrigger("books_sync_stamp", "books",
+                    "BEFORE INSERT OR UPDATE ON books FOR EACH ROW EXECUTE FUNCTION books_sync_stamp()");
+            installTrigger("books_sync_tombstone", "books",
+                    "AFTER DELETE ON books REFERENCING OLD TABLE AS gone "
+                            + "FOR EACH STATEMENT EXECUTE FUNCTION books_sync_tombstone()");
+            installTrigger("book_tags_sync_insert", "book_tags",
+                    "AFTER INSERT ON book_tags REFERENCING NEW TABLE AS touched "
+                            + "FOR EACH STATEMENT EXECUTE FUNCTION book_tags_sync_touch()");
+            installTrigger("book_tags_sync_delete", "book_tags",
+                    "AFTER DELETE ON book_tags REFERENCING OLD TABLE AS touched "
+                            + "FOR EACH STATEMENT EXECUTE FUNCTION book_tags_sync_touch()");
+            available = true;
+        } catch (Exception e) {
+            logger.warn("Library delta sync unavailable, clients will get full reloads: {}", e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Books changed and deleted since the token, plus the token for the next call
+     *
+     * @param since token from a previous response, or null/blank for a full load
+     */
+    @Transactional(readOnly = true)
+    public BookChangesResponse getChanges(Long userId, String since) {
+        if (!available) {
+            return new BookChangesResponse(null, true, toResponses(bookRepository.findByUserId(userId)), List.of());
+        }
+
+        // Taken before reading: anything not yet committed now has a txid >= this
+        Long xmin = jdbcTemplate.queryForObject("SELECT txid_snapshot_xmin(txid_current_snapshot())", Long.class);
+        String next = formatToken(xmin, Instant.now());
+
+        SyncToken token = parseToken(since);
+        if (token == null || token.issuedAt().isBefore(Instant.now().minus(tombstoneRetention))) {
+            return new BookChangesResponse(next, true, toResponses(bookRepository.findByUserId(userId)), List.of());
+        }
+
+        List<BookResponse> changed = toResponses(bookRepository.findChangedSince(userId, token.xmin()));
+        List<Long> deleted = jdbcTemplate.queryForList(
+                "SELECT book_id FROM book_tombstones WHERE user_id = ? AND sync_txid >= ? ORDER BY book_id",
+                Long.class, userId, token.xmin());
+        return new BookChangesResponse(next, false, changed, deleted);
+    }
+
+    /**
+     * Drop tombstones older than the retention period (their tokens now get a reset)
+     */
+    @Scheduled(initialDelayString = "${sync.tombstone-purge.initial-delay:PT10M}",
+               fixedDelayString = "${sync.tombstone-purge.interval:PT24H}")
+    public void purgeTombstones() {
+        if (!available) {
+            return;
+        }
+        try {
+            int purged = jdbcTemplate.update(
+                    "DELETE FROM book_tombstones WHERE deleted_at < now() - (? * interval '1 second')",
+                    tombstoneRetention.toSeconds());
+            if (purged > 0) {
+                logger.info("Purged {} book tombstones", purged);
+            }
+        } catch (Exception e) {
+            logger.warn("Tombstone purge failed: {}", e.getMessage());
+        }
+    }
+
+    // ============================================
+    // Internals
+    // ============================================
+
+    /** Opaque to clients: "<snapshot xmin>-<issued epoch seconds>" */
+    record SyncToken(long xmin, Instant issuedAt) {}
+
+    static String formatToken(long xmin, Instant issuedAt) {
+        return xmin + "-" + issuedAt.getEpochSecond();
+    }
+
+    static SyncToken parseToken(String since) {
+        if (since == null || since.isBlank()) {
+            return null;
+        }
+        try {
+            int dash = since.indexOf('-');
+            if (dash <= 0) {
+                throw new NumberFormatException(since);
+            }
+            return new SyncToken(Long.parseLong(since.substring(0, dash)),
+                    Instant.ofEpochSecond(Long.parseLong(since.substring(dash + 1))));
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Invalid sync token: " + since);
+        }
+    }
+
+    private void installTrigger(String name, String table, String definition) {
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS " + name + " ON " + table
+                + "; CREATE TRIGGER " + name + " " + definition);
+    }
+
+    private List<BookResponse> toResponses(List<Book> books) {
+        return books.stream().map(BookResponse::fromEntity).toList();
+    }
+}
@@ -0,0 +1,325 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.event.UserCounterEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * BulkDeleteService - Set-based deletion of books, reviews and reflections
+ *
+ * Deletes by id set in a fixed number of statements, however many ids are passed. The
+ * dependent rows are described once in CASCADE_GRAPH:
+ * - on startup the matching foreign keys are switched to ON DELETE CASCADE / SET NULL,
+ *   so deleting the parents is a single DELETE
+ * - if that isn't possible (e.g. not PostgreSQL, no ALTER privilege) the same graph drives
+ *   explicit child deletes, still one statement per edge rather than per row
+ *
+ * Side effects that Hibernate used to handle row by row (profile counters, work
+ * aggregates) are applied once per affected user / work. Statements go straight to JDBC,
+ * so callers must not hold unflushed changes to the rows being deleted.
+ */
+@Service
+@Transactional
+public class BulkDeleteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkDeleteService.class);
+
+    /** Max ids bound into one statement */
+    private static final int CHUNK_SIZE = 1000;
+
+    enum OnDelete {
+        CASCADE("CASCADE", 'c'),
+        SET_NULL("SET NULL", 'n');
+
+        private final String sql;
+        private final char pgCode;
+
+        OnDelete(String sql, char pgCode) {
+            this.sql = sql;
+            this.pgCode = pgCode;
+        }
+    }
+
+    /** child.column references parent.id */
+    record Edge(String parent, String child, String column, OnDelete onDelete) {}
+
+    /**
+     * Everything that must go (or be detached) when a row of the parent table is deleted.
+     * Self-references (comment replies) are removed by the same statement as their parents.
+     */
+    static final List<Edge> CASCADE_GRAPH = List.of(
+            new Edge("books", "book_reviews", "book_id", OnDelete.CASCADE),
+            new Edge("books", "reading_activities", "book_id", OnDelete.CASCADE),
+            new Edge("books", "user_activities", "book_id", OnDelete.CASCADE),
+            new Edge("books", "book_tags", "book_id", OnDelete.CASCADE),
+            new Edge("books", "reflections", "book_id", OnDelete.SET_NULL),
+            new Edge("books", "reading_list_items", "book_id", OnDelete.SET_NULL),
+            new Edge("books", "notifications", "book_id", OnDelete.SET_NULL),
+
+            new Edge("book_reviews", "review_likes", "review_id", OnDelete.CASCADE),
+            new Edge("book_reviews", "review_comments", "review_id", OnDelete.CASCADE),
+            new Edge("book_reviews", "saved_reviews", "review_id", OnDelete.CASCADE),
+            new Edge("review_comments", "review_comments", "parent_id", OnDelete.CASCADE),
+
+            new Edge("reflections", "reflection_likes", "reflection_id", OnDelete.CASCADE),
+            new Edge("reflections", "reflection_comments", "reflection_id", OnDelete.CASCADE),
+            new Edge("reflections", "saved_reflections", "reflection_id", OnDelete.CASCADE),
+            new Edge("reflection_comments", "reflection_comments", "parent_id", OnDelete.CASCADE)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final WorkService workService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean installCascades;
+
+    private volatile boolean cascadesInstalled = false;
+
+    public BulkDeleteService(JdbcTemplate jdbcTemplate,
+                             NamedParameterJdbcTemplate namedJdbcTemplate,
+                             WorkService workService,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${bulk-delete.install-cascades:true}") boolean installCascades) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.workService = workService;
+        this.eventPublisher = eventPublisher;
+        this.installCascades = installCascades;
+    }
+
+    /**
+     * Bring the foreign keys in line with CASCADE_GRAPH. Hibernate's ddl-auto never alters an
+     * existing constraint, so this runs after it on every startup and is a no-op once applied.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void initialize() {
+        if (!installCascades) {
+            logger.info("FK cascades disabled - bulk deletes remove dependent rows explicitly");
+            return;
+        }
+        try {
+            int altered = 0;
+            for (Edge edge : CASCADE_GRAPH) {
+                if (ensureForeignKey(edge)) {
+                    altered++;
+                }
+            }
+            cascadesInstalled = true;
+            if (altered > 0) {
+                logger.info("Bulk delete: {} foreign keys switched to ON DELETE actions", altered);
+            }
+        } catch (Exception e) {
+            logger.warn("Could not install FK cascades, deleting dependent rows explicitly: {}", e.getMessage());
+        }
+    }
+
+    // ============================================
+    // Public API
+    // ============================================
+
+    /**
+     * Delete the given books that belong to userId (others are skipped), with everything
+     * hanging off them. Returns the number of books deleted.
+     */
+    public int deleteBooks(Long userId, Collection<Long> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            return 0;
+        }
+        int deleted = 0;
+        for (List<Long> chunk : chunks(bookIds)) {
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", chunk).addValue("userId", userId);
+            List<Map<String, Object>> owned = namedJdbcTemplate.queryForList(
+                    "SELECT id, is_public, work_id FROM books WHERE user_id = :userId AND id IN (:ids)", params);
+            if (owned.isEmpty()) {
+                continue;
+            }
+
+            List<Long> ids = new ArrayList<>();
+            Set<Long> workIds = new HashSet<>();
+            int publicBooks = 0;
+            for (Map<String, Object> row : owned) {
+                ids.add(((Number) row.get("id")).longValue());
+                if (!Boolean.FALSE.equals(row.get("is_public"))) {
+                    publicBooks++;
+                }
+                if (row.get("work_id") != null) {
+                    workIds.add(((Number) row.get("work_id")).longValue());
+                }
+            }
+
+            // Reviews go with their books - their authors' counters drop too
+            List<Map<String, Object>> reviewAuthors = namedJdbcTemplate.queryForList(
+                    "SELECT user_id, COUNT(*) AS n FROM book_reviews WHERE book_id IN (:ids) GROUP BY user_id",
+                    new MapSqlParameterSource("ids", ids));
+
+            deleteRows("books", ids);
+
+            publishCounter(userId, UserCounterEvent.Counter.BOOKS, -ids.size());
+            publishCounter(userId, UserCounterEvent.Counter.PUBLIC_BOOKS, -publicBooks);
+            for (Map<String, Object> row : reviewAuthors) {
+                publishCounter(((Number) row.get("user_id")).longValue(), UserCounterEvent.Counter.REVIEWS,
+                        -((Number) row.get("n")).intValue());
+            }
+            workService.refreshAggregates(workIds);
+            deleted += ids.size();
+        }
+        return deleted;
+    }
+
+    /**
+     * Delete reviews (ownership already checked by the caller) with their likes, comments and saves
+     */
+    public int deleteReviews(Collection<Long> reviewIds) {
+        if (reviewIds == null || reviewIds.isEmpty()) {
+            return 0;
+        }
+        int deleted = 0;
+        for (List<Long> chunk : chunks(reviewIds)) {
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", chunk);
+            List<Map<String, Object>> rows = namedJdbcTemplate.queryForList("""
+                SELECT br.user_id, b.work_id FROM book_reviews br JOIN books b ON b.id = br.book_id
+                WHERE br.id IN (:ids)
+            """, params);
+
+            int removed = deleteRows("book_reviews", chunk);
+
+            Set<Long> workIds = new HashSet<>();
+            for (Map<String, Object> row : rows) {
+                publishCounter(((Number) row.get("user_id")).longValue(), UserCounterEvent.Counter.REVIEWS, -1);
+                if (row.get("work_id") != null) {
+                    workIds.add(((Number) row.get("work_id")).longValue());
+                }
+            }
+            workService.refreshAggregates(workIds);
+            deleted += removed;
+        }
+        return deleted;
+    }
+
+    /**
+     * Delete reflections (ownership already checked by the caller) with their likes, comments and saves
+     */
+    public int deleteReflections(Collection<Long> reflectionIds) {
+        if (reflectionIds == null || reflectionIds.isEmpty()) {
+            return 0;
+        }
+        int deleted = 0;
+        for (List<Long> chunk : chunks(reflectionIds)) {
+            List<Map<String, Object>> authors = namedJdbcTemplate.queryForList(
+                    "SELECT user_id, COUNT(*) AS n FROM reflections WHERE id IN (:ids) GROUP BY user_id",
+                    new MapSqlParameterSource("ids", chunk));
+
+            int removed = deleteRows("reflections", chunk);
+
+            for (Map<String, Object> row : authors) {
+                publishCounter(((Number) row.get("user_id")).longValue(), UserCounterEvent.Counter.REFLECTIONS,
+                        -((Number) row.get("n")).intValue());
+            }
+            deleted += removed;
+        }
+        return deleted;
+    }
+
+    public boolean isCascadesInstalled() {
+        return cascadesInstalled;
+    }
+
+    // ============================================
+    // Internals
+    // ============================================
+
+    /**
+     * DELETE the rows; without FK cascades, walk the graph first (children before parents)
+     */
+    private int deleteRows(String table, List<Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        if (!cascadesInstalled) {
+            detachChildren(table, "id IN (:ids)", params);
+        }
+        return namedJdbcTemplate.update("DELETE FROM " + table + " WHERE id IN (:ids)", params);
+    }
+
+    private void detachChildren(String table, String where, MapSqlParameterSource params) {
+        String parentIds = "SELECT id FROM " + table + " WHERE " + where;
+        for (Edge edge : CASCADE_GRAPH) {
+            if (!edge.parent().equals(table) || edge.child().equals(table)) {
+                continue; // self-references are deleted with their parents
+            }
+            String childWhere = edge.column() + " IN (" + parentIds + ")";
+            if (edge.onDelete() == OnDelete.SET_NULL) {
+                namedJdbcTemplate.update("UPDATE " + edge.child() + " SET " + edge.column() + " = NULL WHERE "
+                        + childWhere, params);
+            } else {
+                detachChildren(edge.child(), childWhere, params);
+                namedJdbcTemplate.update("DELETE FROM " + edge.child() + " WHERE " + childWhere, params);
+            }
+        }
+    }
+
+    /**
+     * Re-create the FK for an edge with its ON DELETE action if it doesn't have it yet
+     *
+     * @return true if the constraint was altered
+     */
+    private boolean ensureForeignKey(Edge edge) {
+        List<Map<String, Object>> constraints = jdbcTemplate.queryForList("""
+            SELECT c.conname, c.confdeltype::text AS action
+            FROM pg_constraint c
+            JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+            WHERE c.contype = 'f'
+              AND c.conrelid = to_regclass(?)
+              AND c.confrelid = to_regclass(?)
+              AND a.attname = ?
+        """, edge.child(), edge.parent(), edge.column());
+
+        String name = null;
+        for (Map<String, Object> constraint : constraints) {
+            if (String.valueOf(edge.onDelete().pgCode).equals(constraint.get("action"))) {
+                return false; // already in place
+            }
+            name = (String) constraint.get("conname");
+        }
+        // Drop and re-add in one ALTER so the table is never left without the constraint
+        String drop = name != null ? "DROP CONSTRAINT " + name + ", " : "";
+        if (name == null) {
+            name = "fk_" + edge.child() + "_" + edge.column();
+        }
+        jdbcTemplate.execute("ALTER TABLE " + edge.child() + " " + drop + "ADD CONSTRAINT " + name
+                + " FOREIGN KEY (" + edge.column() + ") REFERENCES " + edge.parent() + " (id)"
+                + " ON DELETE " + edge.onDelete().sql);
+        return true;
+    }
+
+    private void publishCounter(Long userId, UserCounterEvent.Counter counter, int delta) {
+        if (delta != 0) {
+            eventPublisher.publishEvent(new UserCounterEvent(userId, counter, delta));
+        }
+    }
+
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> distinct = ids.stream().distinct().toList();
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < distinct.size(); i += CHUNK_SIZE) {
+            chunks.add(distinct.subList(i, Math.min(i + CHUNK_SIZE, distinct.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,127 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.recommendation.ItemSimilarityModel;
+import com.booksiread.backend.recommendation.ItemSimilarityModel.Interaction;
+import com.booksiread.backend.recommendation.ItemSimilarityModel.Neighbour;
+import com.booksiread.backend.recommendation.ItemSimilarityModel.Suggestion;
+import com.booksiread.backend.repository.BookRepository;
+import com.booksiread.backend.repository.BookReviewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * CollaborativeFilteringService - Local "readers who finished X also finished Y" recommendations
+ *
+ * A background job periodically reads every finished book and rated review, builds an
+ * ItemSimilarityModel and swaps it in. Requests only read the current snapshot, so they
+ * answer in memory without touching the database or Gemini.
+ */
+@Service
+public class CollaborativeFilteringService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CollaborativeFilteringService.class);
+
+    private final BookRepository bookRepository;
+    private final BookReviewRepository bookReviewRepository;
+    private final int topK;
+    private final int minCoReaders;
+    private final int maxItemsPerUser;
+
+    private volatile ItemSimilarityModel model = ItemSimilarityModel.empty();
+    private volatile long lastBuildMillis;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    public CollaborativeFilteringService(BookRepository bookRepository,
+                                         BookReviewRepository bookReviewRepository,
+                                         @Value("${recommendations.cf.neighbours:30}") int topK,
+                                         @Value("${recommendations.cf.min-co-readers:2}") int minCoReaders,
+                                         @Value("${recommendations.cf.max-items-per-user:1000}") int maxItemsPerUser) {
+        this.bookRepository = bookRepository;
+        this.bookReviewRepository = bookReviewRepository;
+        this.topK = topK;
+        this.minCoReaders = minCoReaders;
+        this.maxItemsPerUser = maxItemsPerUser;
+    }
+
+    /**
+     * Rebuild the model - runs shortly after startup and then on a fixed delay.
+     * Overlapping runs are skipped; on failure the previous model keeps serving.
+     */
+    @Scheduled(initialDelayString = "${recommendations.cf.initial-delay:PT30S}",
+               fixedDelayString = "${recommendations.cf.rebuild-interval:PT1H}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+
+            List<Interaction> interactions = new ArrayList<>();
+            bookRepository.findFinishedInteractions().forEach(row -> interactions.add(toInteraction(row)));
+            bookReviewRepository.findRatedInteractions().forEach(row -> interactions.add(toInteraction(row)));
+
+            ItemSimilarityModel built = ItemSimilarityModel.build(interactions, topK, minCoReaders, maxItemsPerUser);
+            model = built;
+            lastBuildMillis = System.currentTimeMillis() - start;
+
+            logger.info("Rebuilt collaborative-filtering model: {} users, {} items, {} neighbour links in {} ms",
+                    built.userCount(), built.itemCount(), built.neighbourCount(), lastBuildMillis);
+        } catch (Exception e) {
+            logger.error("Failed to rebuild collaborative-filtering model: {}", e.getMessage());
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * Books most often finished by readers who also finished the given book
+     */
+    public List<Neighbour> getSimilarBooks(String title, String author, int limit) {
+        return model.similarTo(title, author, limit);
+    }
+
+    /**
+     * Personal suggestions for a user from the neighbours of their own books
+     */
+    public List<Suggestion> getRecommendationsForUser(Long userId, int limit) {
+        return model.recommendForUser(userId, limit);
+    }
+
+    /**
+     * Suggestions in the same {title, author, reason} shape as the Gemini recommendations
+     */
+    public List<Map<String, String>> getRecommendationMaps(Long userId, int limit) {
+        return getRecommendationsForUser(userId, limit).stream()
+                .map(suggestion -> Map.of(
+                        "title", suggestion.title(),
+                        "author", suggestion.author(),
+                        "reason", "Readers who finished \"" + suggestion.becauseOfTitle() + "\" also finished this."))
+                .toList();
+    }
+
+    public Map<String, Object> getModelStats() {
+        ItemSimilarityModel current = model;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("users", current.userCount());
+        stats.put("items", current.itemCount());
+        stats.put("interactions", current.interactionCount());
+        stats.put("neighbourLinks", current.neighbourCount());
+        stats.put("builtAt", current.getBuiltAt());
+        stats.put("lastBuildMillis", lastBuildMillis);
+        return stats;
+    }
+
+    private Interaction toInteraction(BookRepository.InteractionRow row) {
+        return new Interaction(row.getUserId(), row.getTitle(), row.getAuthor(),
+                row.getRating() != null ? row.getRating() : 0);
+    }
+}
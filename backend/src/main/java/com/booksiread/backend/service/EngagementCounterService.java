@@ -0,0 +1,155 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.counter.EngagementCounterBuffer;
+import com.booksiread.backend.counter.EngagementCounterBuffer.Field;
+import com.booksiread.backend.counter.EngagementCounterBuffer.PendingDelta;
+import com.booksiread.backend.counter.EngagementCounterBuffer.Target;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * EngagementCounterService - Write-behind like/comment/save counters
+ *
+ * The like/save/comment rows themselves are written synchronously (their unique constraints
+ * keep toggles idempotent); only the denormalized counts on the hot parent row are buffered
+ * and written in one batched UPDATE per table/column every flush interval. That takes the
+ * parent row lock off the request path for viral content.
+ *
+ * - a delta whose transaction rolls back is compensated
+ * - readers (feed ranking, responses) add the pending delta to the persisted value
+ * - the buffer is flushed on shutdown; a crash loses at most one interval of deltas
+ * - the flush's "col = col + ?" UPDATE is the only writer of these columns: they are mapped
+ *   updatable = false on BookReview, Reflection and ReadingList, so saving a loaded entity
+ *   can't write its stale counts back over the flushed totals
+ */
+@Service
+public class EngagementCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EngagementCounterService.class);
+
+    private final EngagementCounterBuffer buffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration lagWarning;
+
+    public EngagementCounterService(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${counters.buffer.evict-after-flushes:200}") int evictAfterFlushes,
+                                    @Value("${counters.buffer.retired-grace:PT1M}") Duration retiredGrace,
+                                    @Value("${counters.buffer.lag-warning:PT10S}") Duration lagWarning) {
+        this.buffer = new EngagementCounterBuffer(evictAfterFlushes, retiredGrace.toMillis());
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lagWarning = lagWarning;
+    }
+
+    /**
+     * Record a counter change; undone if the surrounding transaction rolls back
+     */
+    public void record(Target target, Field field, Long id, int delta) {
+        if (id == null || delta == 0) {
+            return;
+        }
+        buffer.add(target, field, id, delta);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        buffer.add(target, field, id, -delta);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Persisted value plus anything still buffered
+     */
+    public int live(Target target, Field field, Long id, Integer persisted) {
+        long value = (persisted != null ? persisted : 0) + (id != null ? buffer.pending(target, field, id) : 0);
+        return (int) Math.max(0, value);
+    }
+
+    // ============================================
+    // Flush
+    // ============================================
+
+    @Scheduled(fixedDelayString = "${counters.buffer.flush-interval:PT0.3S}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int rows = flush();
+        logger.info("Engagement counters flushed on shutdown ({} rows)", rows);
+    }
+
+    /**
+     * Write every pending delta: one batched UPDATE per table/column, ids sorted so that
+     * concurrent flushers (several instances) lock rows in the same order.
+     *
+     * @return rows written, or 0 if the flush failed (deltas stay buffered for the next one)
+     */
+    public synchronized int flush() {
+        long start = System.currentTimeMillis();
+        List<PendingDelta> pending = buffer.drain();
+        if (pending.isEmpty()) {
+            buffer.acknowledge(pending, 0);
+            return 0;
+        }
+
+        Map<String, List<PendingDelta>> byColumn = pending.stream()
+                .sorted(Comparator.comparingLong(p -> p.key().id()))
+                .collect(Collectors.groupingBy(
+                        p -> "UPDATE " + p.key().target().table() + " SET " + p.key().field().column()
+                                + " = GREATEST(COALESCE(" + p.key().field().column() + ", 0) + ?, 0) WHERE id = ?",
+                        LinkedHashMap::new, Collectors.toList()));
+        try {
+            transactionTemplate.executeWithoutResult(status -> byColumn.forEach((sql, deltas) -> {
+                List<Object[]> args = new ArrayList<>(deltas.size());
+                for (PendingDelta delta : deltas) {
+                    args.add(new Object[]{delta.delta(), delta.key().id()});
+                }
+                jdbcTemplate.batchUpdate(sql, args);
+            }));
+        } catch (Exception e) {
+            buffer.recordFailure();
+            logger.warn("Engagement counter flush failed ({} pending rows): {}", pending.size(), e.getMessage());
+            warnIfLagging();
+            return 0;
+        }
+
+        buffer.acknowledge(pending, System.currentTimeMillis() - start);
+        return pending.size();
+    }
+
+    public Map<String, Object> getStats() {
+        return buffer.stats();
+    }
+
+    private void warnIfLagging() {
+        long oldest = (long) buffer.stats().get("oldestPendingMs");
+        if (oldest > lagWarning.toMillis()) {
+            logger.warn("Engagement counters lagging: oldest pending delta is {}ms old", oldest);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.exception.ValidationException;
+import com.booksiread.backend.repository.BookRepository;
+import com.booksiread.backend.repository.BookReviewRepository;
+import com.booksiread.backend.repository.ReadingActivityRepository;
+import com.booksiread.backend.repository.ReadingGoalRepository;
+import com.booksiread.backend.repository.ReflectionRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * ExportService - Streams a user's library as NDJSON or CSV
+ *
+ * Every section is read through a forward-only cursor (fetch-size hinted native queries
+ * returning flat projections) and written row by row, so memory stays constant no matter
+ * how large the library is. Nothing is attached to the persistence context.
+ *
+ * - NDJSON: one JSON object per line, each tagged with its section ("type": "book", ...)
+ * - CSV: RFC 4180, one section per file (the columns differ between sections)
+ */
+@Service
+public class ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    public enum Section {
+        BOOKS("book"),
+        REVIEWS("review"),
+        REFLECTIONS("reflection"),
+        READING_ACTIVITY("reading_activity"),
+        GOALS("goal");
+
+        private final String type;
+
+        Section(String type) {
+            this.type = type;
+        }
+
+        public String getType() {
+            return type;
+        }
+    }
+
+    private static final List<String> BOOK_COLUMNS = List.of("id", "title", "author", "status", "totalPages",
+            "pagesRead", "rating", "startDate", "completeDate", "isPublic", "tags", "review", "notes",
+            "createdAt", "updatedAt");
+    private static final List<String> REVIEW_COLUMNS = List.of("id", "bookId", "bookTitle", "bookAuthor",
+            "rating", "containsSpoilers", "content", "likesCount", "commentsCount", "createdAt");
+    private static final List<String> REFLECTION_COLUMNS = List.of("id", "bookId", "bookTitle", "content",
+            "visibleToFollowersOnly", "likesCount", "commentsCount", "savesCount", "createdAt");
+    private static final List<String> ACTIVITY_COLUMNS = List.of("bookId", "bookTitle", "activityDate",
+            "pagesReadToday");
+    private static final List<String> GOAL_COLUMNS = List.of("year", "targetBooks", "booksCompleted");
+
+    private final BookRepository bookRepository;
+    private final BookReviewRepository reviewRepository;
+    private final ReflectionRepository reflectionRepository;
+    private final ReadingActivityRepository activityRepository;
+    private final ReadingGoalRepository goalRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int flushEveryRows;
+
+    public ExportService(BookRepository bookRepository,
+                         BookReviewRepository reviewRepository,
+                         ReflectionRepository reflectionRepository,
+                         ReadingActivityRepository activityRepository,
+                         ReadingGoalRepository goalRepository,
+                         ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${export.flush-every-rows:500}") int flushEveryRows) {
+        this.bookRepository = bookRepository;
+        this.reviewRepository = reviewRepository;
+        this.reflectionRepository = reflectionRepository;
+        this.activityRepository = activityRepository;
+        this.goalRepository = goalRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.flushEveryRows = Math.max(1, flushEveryRows);
+    }
+
+    // ============================================
+    // Request parsing
+    // ============================================
+
+    public static Format parseFormat(String value) {
+        if (value == null || value.isBlank()) {
+            return Format.NDJSON;
+        }
+        try {
+            return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Unsupported export format: " + value + " (use ndjson or csv)");
+        }
+    }
+
+    /**
+     * Comma-separated section names (e.g. "books,reviews"); blank means everything
+     */
+    public static Set<Section> parseSections(String value, Format format) {
+        Set<Section> sections = EnumSet.noneOf(Section.class);
+        if (value == null || value.isBlank()) {
+            sections.addAll(EnumSet.allOf(Section.class));
+        } else {
+            for (String name : value.split(",")) {
+                if (name.isBlank()) {
+                    continue;
+                }
+                String normalized = name.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+                try {
+                    sections.add(Section.valueOf(normalized));
+                } catch (IllegalArgumentException e) {
+                    throw new ValidationException("Unknown export section: " + name.trim()
+                            + " (use " + Arrays.toString(Section.values()).toLowerCase(Locale.ROOT) + ")");
+                }
+            }
+        }
+        if (sections.isEmpty()) {
+            throw new ValidationException("No export sections selected");
+        }
+        if (format == Format.CSV && sections.size() != 1) {
+            throw new ValidationException("CSV export needs exactly one section, e.g. sections=books");
+        }
+        return sections;
+    }
+
+    // ============================================
+    // Export
+    // ============================================
+
+    /**
+     * Write the selected sections to the output stream. Runs in its own read-only transaction
+     * (the PostgreSQL driver only honours the fetch size with autocommit off), so it can be
+     * called from an async response thread.
+     */
+    public void export(Long userId, Format format, Set<Section> sections, OutputStream out) {
+        long started = System.currentTimeMillis();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+
+        long rows = readOnlyTransaction.execute(status -> {
+            try {
+                long written = format == Format.CSV
+                        ? writeCsv(userId, sections.iterator().next(), writer)
+                        : writeNdjson(userId, sections, writer);
+                writer.flush();
+                return written;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        logger.info("Exported {} rows ({}, {}) for user {} in {} ms",
+                rows, format, sections, userId, System.currentTimeMillis() - started);
+    }
+
+    private long writeNdjson(Long userId, Set<Section> sections, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+
+        long count = 0;
+        for (Section section : sections) {
+            List<String> columns = columnsOf(section);
+            try (Stream<List<Object>> rows = rowsOf(section, userId)) {
+                for (List<Object> row : (Iterable<List<Object>>) rows::iterator) {
+                    generator.writeStartObject();
+                    generator.writeStringField("type", section.getType());
+                    for (int i = 0; i < columns.size(); i++) {
+                        generator.writeObjectField(columns.get(i), row.get(i));
+                    }
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                    if (++count % flushEveryRows == 0) {
+                        generator.flush();
+                    }
+                }
+            }
+        }
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(Long userId, Section section, Writer writer) throws IOException {
+        List<String> columns = columnsOf(section);
+        writeCsvLine(writer, new ArrayList<>(columns));
+
+        long count = 0;
+        try (Stream<List<Object>> rows = rowsOf(section, userId)) {
+            for (List<Object> row : (Iterable<List<Object>>) rows::iterator) {
+                writeCsvLine(writer, row);
+                if (++count % flushEveryRows == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        return count;
+    }
+
+    private void writeCsvLine(Writer writer, List<Object> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180: quote fields containing a separator, quote or line break; double inner quotes.
+     * Text that a spreadsheet would run as a formula (leading =, +, -, @, tab or CR) gets a
+     * leading apostrophe; numbers are left alone so negative values stay numeric.
+     */
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof CharSequence && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    // ============================================
+    // Sections
+    // ============================================
+
+    private List<String> columnsOf(Section section) {
+        return switch (section) {
+            case BOOKS -> BOOK_COLUMNS;
+            case REVIEWS -> REVIEW_COLUMNS;
+            case REFLECTIONS -> REFLECTION_COLUMNS;
+            case READING_ACTIVITY -> ACTIVITY_COLUMNS;
+            case GOALS -> GOAL_COLUMNS;
+        };
+    }
+
+    /**
+     * Row values in the same order as columnsOf(section). Arrays.asList because values may be null.
+     */
+    private Stream<List<Object>> rowsOf(Section section, Long userId) {
+        return switch (section) {
+            case BOOKS -> bookRepository.streamExportRows(userId).map(b -> Arrays.<Object>asList(
+                    b.getId(), b.getTitle(), b.getAuthor(), b.getStatus(), b.getTotalPages(), b.getPagesRead(),
+                    b.getRating(), b.getStartDate(), b.getCompleteDate(), b.getIsPublic(), b.getTags(),
+                    b.getReview(), b.getNotes(), b.getCreatedAt(), b.getUpdatedAt()));
+            case REVIEWS -> reviewRepository.streamExportRows(userId).map(r -> Arrays.<Object>asList(
+                    r.getId(), r.getBookId(), r.getBookTitle(), r.getBookAuthor(), r.getRating(),
+                    r.getContainsSpoilers(), r.getContent(), r.getLikesCount(), r.getCommentsCount(),
+                    r.getCreatedAt()));
+            case REFLECTIONS -> reflectionRepository.streamExportRows(userId).map(r -> Arrays.<Object>asList(
+                    r.getId(), r.getBookId(), r.getBookTitle(), r.getContent(), r.getVisibleToFollowersOnly(),
+                    r.getLikesCount(), r.getCommentsCount(), r.getSavesCount(), r.getCreatedAt()));
+            case READING_ACTIVITY -> activityRepository.streamExportRows(userId).map(a -> Arrays.<Object>asList(
+                    a.getBookId(), a.getBookTitle(), a.getActivityDate(), a.getPagesReadToday()));
+            case GOALS -> goalRepository.streamExportRows(userId).map(g -> Arrays.<Object>asList(
+                    g.getYear(), g.getTargetBooks(), g.getBooksCompleted()));
+        };
+    }
+}
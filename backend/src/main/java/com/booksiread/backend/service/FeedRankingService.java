@@ -1,8 +1,13 @@
 package com.booksiread.backend.service;
 
+import com.booksiread.backend.counter.EngagementCounterBuffer.Field;
+import com.booksiread.backend.counter.EngagementCounterBuffer.Target;
 import com.booksiread.backend.entity.BookReview;
 import com.booksiread.backend.entity.Reflection;
 import com.booksiread.backend.repository.*;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -14,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -28,7 +34,8 @@ import java.util.stream.Collectors;
  *   relationshipBoost = 2.0 if author is followed, 1.0 otherwise
  *
  * The algorithm fetches a larger candidate pool from DB (sorted chronologically),
- * scores each item in-memory, and returns a ranked page.
+ * scores each item in-memory, and returns a ranked page. Engagement counts include
+ * deltas still buffered in EngagementCounterService, so hot posts rank on live numbers.
  */
 @Service
 @Transactional(readOnly = true)
@@ -47,6 +54,8 @@ public class FeedRankingService {
     @Autowired private BookReviewRepository reviewRepository;
     @Autowired private ReflectionRepository reflectionRepository;
     @Autowired private UserFollowRepository userFollowRepository;
+    @Autowired private EngagementCounterService engagementCounters;
+    @Autowired private MeterRegistry meterRegistry;
 
     // ============================================
     // Public API
@@ -56,6 +65,28 @@ public class FeedRankingService {
      * Get ranked reviews from followed users (or popular reviews if following nobody).
      */
     public Page<BookReview> getRankedFollowingReviews(Long viewerId, int page, int size) {
+        return timed("following-reviews", () -> rankFollowingReviews(viewerId, page, size));
+    }
+
+    /**
+     * Get ranked reflections for the "Following" tab.
+     */
+    public Page<Reflection> getRankedFollowingReflections(Long userId, int page, int size) {
+        return timed("following-reflections", () -> rankFollowingReflections(userId, page, size));
+    }
+
+    /**
+     * Get ranked reflections for the "Everyone" tab.
+     */
+    public Page<Reflection> getRankedEveryoneReflections(Long userId, int page, int size) {
+        return timed("everyone-reflections", () -> rankEveryoneReflections(userId, page, size));
+    }
+
+    // ============================================
+    // Ranking
+    // ============================================
+
+    private Page<BookReview> rankFollowingReviews(Long viewerId, int page, int size) {
         List<Long> followingIds = userFollowRepository.findFollowingIdsByUserId(viewerId);
         Set<Long> followingSet = new HashSet<>(followingIds);
 
@@ -81,22 +112,12 @@ public class FeedRankingService {
         Map<Long, BookReview> merged = new LinkedHashMap<>();
         candidates.forEach(r -> merged.put(r.getId(), r));
         discoveryReviews.forEach(r -> merged.putIfAbsent(r.getId(), r));
+        recordCandidates("following-reviews", merged.size());
 
-        // Score and sort
-        List<BookReview> ranked = merged.values().stream()
-                .sorted((a, b) -> Double.compare(
-                        scoreReview(b, followingSet),
-                        scoreReview(a, followingSet)
-                ))
-                .collect(Collectors.toList());
-
-        return paginateList(ranked, page, size);
+        return paginateList(rankReviews(merged.values(), followingSet), page, size);
     }
 
-    /**
-     * Get ranked reflections for the "Following" tab.
-     */
-    public Page<Reflection> getRankedFollowingReflections(Long userId, int page, int size) {
+    private Page<Reflection> rankFollowingReflections(Long userId, int page, int size) {
         List<Long> followingIds = userFollowRepository.findFollowingIdsByUserId(userId);
         Set<Long> followingSet = new HashSet<>(followingIds);
 
@@ -108,21 +129,12 @@ public class FeedRankingService {
         List<Reflection> candidates = reflectionRepository
                 .findFollowingFeed(followingIds, PageRequest.of(0, candidateSize))
                 .getContent();
+        recordCandidates("following-reflections", candidates.size());
 
-        List<Reflection> ranked = candidates.stream()
-                .sorted((a, b) -> Double.compare(
-                        scoreReflection(b, followingSet),
-                        scoreReflection(a, followingSet)
-                ))
-                .collect(Collectors.toList());
-
-        return paginateList(ranked, page, size);
+        return paginateList(rankReflections(candidates, followingSet), page, size);
     }
 
-    /**
-     * Get ranked reflections for the "Everyone" tab.
-     */
-    public Page<Reflection> getRankedEveryoneReflections(Long userId, int page, int size) {
+    private Page<Reflection> rankEveryoneReflections(Long userId, int page, int size) {
         List<Long> followingIds = userFollowRepository.findFollowingIdsByUserId(userId);
         Set<Long> followingSet = new HashSet<>(followingIds);
 
@@ -135,28 +147,65 @@ public class FeedRankingService {
         } else {
             candidates = reflectionRepository.findEveryoneFeed(followingIds, candidatePageable).getContent();
         }
+        recordCandidates("everyone-reflections", candidates.size());
 
-        List<Reflection> ranked = candidates.stream()
-                .sorted((a, b) -> Double.compare(
-                        scoreReflection(b, followingSet),
-                        scoreReflection(a, followingSet)
-                ))
-                .collect(Collectors.toList());
+        return paginateList(rankReflections(candidates, followingSet), page, size);
+    }
+
+    // ============================================
+    // Metrics
+    // ============================================
+
+    /** feed.generation{feed}: candidate fetch + scoring + paging, excluding response mapping */
+    private <T> Page<T> timed(String feed, Supplier<Page<T>> ranking) {
+        return Timer.builder("feed.generation")
+                .description("Time to fetch, score and page a ranked feed")
+                .tag("feed", feed)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(ranking);
+    }
 
-        return paginateList(ranked, page, size);
+    private void recordCandidates(String feed, int count) {
+        DistributionSummary.builder("feed.candidates")
+                .description("Candidates scored per ranked feed page")
+                .tag("feed", feed)
+                .register(meterRegistry)
+                .record(count);
     }
 
     // ============================================
     // Scoring Functions
     // ============================================
 
+    /**
+     * Candidates ordered by score, highest first (package-private for the benchmarks module)
+     */
+    List<BookReview> rankReviews(Collection<BookReview> candidates, Set<Long> followingIds) {
+        return candidates.stream()
+                .sorted((a, b) -> Double.compare(
+                        scoreReview(b, followingIds),
+                        scoreReview(a, followingIds)
+                ))
+                .collect(Collectors.toList());
+    }
+
+    List<Reflection> rankReflections(List<Reflection> candidates, Set<Long> followingIds) {
+        return candidates.stream()
+                .sorted((a, b) -> Double.compare(
+                        scoreReflection(b, followingIds),
+                        scoreReflection(a, followingIds)
+                ))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Score a BookReview: engagement + recency + relationship
      */
-    private double scoreReview(BookReview review, Set<Long> followingIds) {
+    double scoreReview(BookReview review, Set<Long> followingIds) {
         double engagement = BASE_SCORE
-                + (safeInt(review.getLikesCount()) * LIKE_WEIGHT)
-                + (safeInt(review.getCommentsCount()) * COMMENT_WEIGHT);
+                + (engagementCounters.live(Target.REVIEW, Field.LIKES, review.getId(), review.getLikesCount()) * LIKE_WEIGHT)
+                + (engagementCounters.live(Target.REVIEW, Field.COMMENTS, review.getId(), review.getCommentsCount()) * COMMENT_WEIGHT);
 
         double recency = recencyMultiplier(review.getCreatedAt());
         double relationship = followingIds.contains(review.getUser().getId()) ? FOLLOWING_BOOST : 1.0;
@@ -167,11 +216,11 @@ public class FeedRankingService {
     /**
      * Score a Reflection: engagement + recency + relationship
      */
-    private double scoreReflection(Reflection reflection, Set<Long> followingIds) {
+    double scoreReflection(Reflection reflection, Set<Long> followingIds) {
         double engagement = BASE_SCORE
-                + (safeInt(reflection.getLikesCount()) * LIKE_WEIGHT)
-                + (safeInt(reflection.getCommentsCount()) * COMMENT_WEIGHT)
-                + (safeInt(reflection.getSavesCount()) * SAVE_WEIGHT);
+                + (engagementCounters.live(Target.REFLECTION, Field.LIKES, reflection.getId(), reflection.getLikesCount()) * LIKE_WEIGHT)
+                + (engagementCounters.live(Target.REFLECTION, Field.COMMENTS, reflection.getId(), reflection.getCommentsCount()) * COMMENT_WEIGHT)
+                + (engagementCounters.live(Target.REFLECTION, Field.SAVES, reflection.getId(), reflection.getSavesCount()) * SAVE_WEIGHT);
 
         double recency = recencyMultiplier(reflection.getCreatedAt());
         double relationship = followingIds.contains(reflection.getUser().getId()) ? FOLLOWING_BOOST : 1.0;
@@ -183,7 +232,7 @@ public class FeedRankingService {
      * Time-decay multiplier: content loses relevance as it ages.
      * Half-life of 24 hours means a 1-day-old post has ~41% of a brand-new post's score.
      */
-    private double recencyMultiplier(LocalDateTime createdAt) {
+    double recencyMultiplier(LocalDateTime createdAt) {
         if (createdAt == null) return 0.1;
         double hoursAge = Duration.between(createdAt, LocalDateTime.now()).toMinutes() / 60.0;
         if (hoursAge < 0) hoursAge = 0;
@@ -194,10 +243,6 @@ public class FeedRankingService {
     // Utility
     // ============================================
 
-    private int safeInt(Integer val) {
-        return val != null ? val : 0;
-    }
-
     /**
      * Paginate a pre-sorted in-memory list into a Spring Data Page.
      */
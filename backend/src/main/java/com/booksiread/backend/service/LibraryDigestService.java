@@ -0,0 +1,146 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.cache.TtlCache;
+import com.booksiread.backend.cache.TtlCacheMetrics;
+import com.booksiread.backend.repository.BookRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * LibraryDigestService - Compact, size-capped summary of a user's library for AI prompts
+ *
+ * Instead of the client concatenating the whole library into the request, the server
+ * builds a digest from:
+ * - top-rated books (reading/finished)
+ * - most recently touched books (reading/finished)
+ * - favourite authors (by book count)
+ *
+ * The digest is cached per user and invalidated whenever their books change.
+ */
+@Service
+@Transactional(readOnly = true)
+public class LibraryDigestService {
+
+    private static final int MAX_TOP_RATED = 10;
+    private static final int MAX_RECENT = 10;
+    private static final int MAX_AUTHORS = 5;
+    private static final int MAX_DIGEST_CHARS = 2000;
+
+    private final BookRepository bookRepository;
+    private final TtlCache<Long, LibraryDigest> digestCache;
+
+    public LibraryDigestService(BookRepository bookRepository,
+                                @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+                                MeterRegistry meterRegistry,
+                                @Value("${recommendations.digest-cache.max-size:1000}") int cacheMaxSize,
+                                @Value("${recommendations.digest-cache.ttl:PT6H}") Duration cacheTtl) {
+        this.bookRepository = bookRepository;
+        // No stale window: digests are invalidated explicitly on book changes
+        this.digestCache = TtlCacheMetrics.monitor(meterRegistry,
+                new TtlCache<>("library-digest", cacheMaxSize, cacheTtl, Duration.ZERO, cacheRefreshExecutor));
+    }
+
+    /**
+     * Get the (cached) library digest for a user.
+     * Returns an empty digest when the user has no reading/finished books.
+     */
+    public LibraryDigest getDigest(Long userId) {
+        LibraryDigest digest = digestCache.get(userId, () -> buildDigest(userId));
+        return digest != null ? digest : LibraryDigest.EMPTY;
+    }
+
+    /**
+     * Drop the cached digest for a user - call after any change to their books.
+     * When called inside a transaction the entry is dropped again after commit, so a
+     * concurrent read can't re-cache the pre-commit library.
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        digestCache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    digestCache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public Map<String, Object> getCacheStats() {
+        return digestCache.stats();
+    }
+
+    // ============================================
+    // Digest construction
+    // ============================================
+
+    private LibraryDigest buildDigest(Long userId) {
+        // Top-rated first, then recent ones not already listed (keyed by normalized title+author)
+        Map<String, String> books = new LinkedHashMap<>();
+        bookRepository.findTopRatedForDigest(userId, PageRequest.of(0, MAX_TOP_RATED))
+                .forEach(row -> books.putIfAbsent(key(row.getTitle(), row.getAuthor()), format(row)));
+        bookRepository.findRecentForDigest(userId, PageRequest.of(0, MAX_RECENT))
+                .forEach(row -> books.putIfAbsent(key(row.getTitle(), row.getAuthor()), format(row)));
+
+        if (books.isEmpty()) {
+            return null; // don't cache - the user may add a book any second
+        }
+
+        List<String> authors = bookRepository.findFavouriteAuthorsForDigest(userId, PageRequest.of(0, MAX_AUTHORS))
+                .stream()
+                .map(row -> (String) row[0])
+                .collect(Collectors.toList());
+
+        // Enforce the size cap by dropping books from the tail (least relevant first)
+        StringBuilder bookList = new StringBuilder();
+        for (String entry : books.values()) {
+            if (bookList.length() + entry.length() + 2 > MAX_DIGEST_CHARS) {
+                break;
+            }
+            if (bookList.length() > 0) {
+                bookList.append(", ");
+            }
+            bookList.append(entry);
+        }
+
+        return new LibraryDigest(bookList.toString(), authors);
+    }
+
+    private String format(BookRepository.DigestRow row) {
+        String entry = "\"" + row.getTitle().trim() + "\" by " + row.getAuthor().trim();
+        return row.getRating() != null ? entry + " (" + row.getRating() + "/5)" : entry;
+    }
+
+    private String key(String title, String author) {
+        return (title + "|" + author).trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Immutable digest: a capped book list plus the user's favourite authors
+     */
+    public record LibraryDigest(String bookList, List<String> favouriteAuthors) {
+
+        static final LibraryDigest EMPTY = new LibraryDigest("", List.of());
+
+        public boolean isEmpty() {
+            return bookList == null || bookList.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,493 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.entity.Book;
+import com.booksiread.backend.entity.UserActivity;
+import com.booksiread.backend.entity.Work;
+import com.booksiread.backend.event.UserCounterEvent;
+import com.booksiread.backend.event.UserCounterEvent.Counter;
+import com.booksiread.backend.exception.ResourceNotFoundException;
+import com.booksiread.backend.exception.ValidationException;
+import com.booksiread.backend.importer.CsvRecordReader;
+import com.booksiread.backend.importer.ImportJob;
+import com.booksiread.backend.importer.ImportedBook;
+import com.booksiread.backend.importer.LibraryCsvFormat;
+import com.booksiread.backend.repository.WorkRepository;
+import com.booksiread.backend.util.BookKeyNormalizer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * LibraryImportService - Bulk import of Goodreads / StoryGraph library exports
+ *
+ * The upload is spooled to a temp file and processed on the import executor; the client
+ * polls the job for progress. Rows are parsed one at a time and written in batches:
+ * - one JDBC batch per table (books, book_tags, reading_activities) per batch of rows
+ * - works resolved with one lookup per batch, aggregates refreshed set-based
+ * - profile counters bumped once per batch
+ * - a single IMPORTED_LIBRARY feed activity instead of one ADDED_BOOK per book
+ * - AI notes go to the low-priority AiNotesQueue (one Gemini call per work)
+ *
+ * Books already in the library (same normalized title/author) are skipped, so re-running
+ * an import only adds what is new.
+ */
+@Service
+public class LibraryImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LibraryImportService.class);
+
+    /** books.total_pages is NOT NULL and must be > 0; sources without a page count get this */
+    private static final int UNKNOWN_TOTAL_PAGES = 1;
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final int MAX_REVIEW_LENGTH = 2000;
+
+    private static final String INSERT_BOOK = """
+        INSERT INTO books (title, author, total_pages, pages_read, status, start_date, complete_date, rating,
+                           review, notes, is_public, user_id, work_id, ai_status, created_at, updated_at)
+        VALUES (:title, :author, :totalPages, :pagesRead, :status, :startDate, :completeDate, :rating,
+                :review, :notes, :isPublic, :userId, :workId, 'PENDING', :now, :now)
+        """;
+    private static final String INSERT_TAG = "INSERT INTO book_tags (book_id, tag) VALUES (:bookId, :tag)";
+    private static final String INSERT_ACTIVITY = """
+        INSERT INTO reading_activities (book_id, user_id, activity_date, pages_read_today, created_at, updated_at)
+        VALUES (:bookId, :userId, :activityDate, :pages, :now, :now)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkRepository workRepository;
+    private final WorkService workService;
+    private final SocialService socialService;
+    private final LibraryDigestService libraryDigestService;
+    private final AiNotesQueue aiNotesQueue;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Executor importExecutor;
+    private final int batchSize;
+    private final int maxRows;
+    private final Duration jobRetention;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public LibraryImportService(JdbcTemplate jdbcTemplate,
+                                NamedParameterJdbcTemplate namedJdbc,
+                                PlatformTransactionManager transactionManager,
+                                WorkRepository workRepository,
+                                WorkService workService,
+                                SocialService socialService,
+                                LibraryDigestService libraryDigestService,
+                                AiNotesQueue aiNotesQueue,
+                                ApplicationEventPublisher eventPublisher,
+                                ObjectMapper objectMapper,
+                                @Qualifier("importExecutor") Executor importExecutor,
+                                @Value("${import.batch-size:500}") int batchSize,
+                                @Value("${import.max-rows:20000}") int maxRows,
+                                @Value("${import.job-retention:PT1H}") Duration jobRetention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbc = namedJdbc;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workRepository = workRepository;
+        this.workService = workService;
+        this.socialService = socialService;
+        this.libraryDigestService = libraryDigestService;
+        this.aiNotesQueue = aiNotesQueue;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.importExecutor = importExecutor;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+        this.jobRetention = jobRetention;
+    }
+
+    /**
+     * Bring the activity_type CHECK constraint Hibernate generated for UserActivity in line
+     * with the enum. ddl-auto=update never alters an existing constraint, so on databases
+     * created before IMPORTED_LIBRARY existed the import's feed activity would be rejected.
+     * Runs on every startup and is a no-op once the constraint lists every value.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            List<String> values = Arrays.stream(UserActivity.ActivityType.values()).map(Enum::name).toList();
+            List<Map<String, Object>> checks = jdbcTemplate.queryForList("""
+                SELECT conname, pg_get_constraintdef(oid) AS definition FROM pg_constraint
+                WHERE conrelid = 'user_activities'::regclass AND contype = 'c'
+                  AND pg_get_constraintdef(oid) LIKE '%activity_type%'
+                """);
+            boolean current = checks.size() == 1 && values.stream()
+                    .allMatch(value -> ((String) checks.get(0).get("definition")).contains("'" + value + "'"));
+            if (current) {
+                return;
+            }
+
+            StringBuilder ddl = new StringBuilder("ALTER TABLE user_activities");
+            for (Map<String, Object> check : checks) {
+                ddl.append(" DROP CONSTRAINT \"").append(check.get("conname")).append("\",");
+            }
+            ddl.append(" ADD CONSTRAINT user_activities_activity_type_check CHECK (activity_type IN (")
+                    .append(values.stream().map(value -> "'" + value + "'").collect(Collectors.joining(", ")))
+                    .append("))");
+            jdbcTemplate.execute(ddl.toString());
+            logger.info("Updated user_activities.activity_type check constraint to {} values", values.size());
+        } catch (Exception e) {
+            logger.warn("Could not update the user_activities.activity_type constraint: {}", e.getMessage());
+        }
+    }
+
+    // ============================================
+    // Jobs
+    // ============================================
+
+    /**
+     * Spool the upload and queue the import
+     *
+     * @param source   goodreads / storygraph, or null to detect from the header
+     * @param isPublic visibility of the imported books
+     */
+    public ImportJob startImport(Long userId, MultipartFile file, String source, boolean isPublic) {
+        if (file == null || file.isEmpty()) {
+            throw new ValidationException("Upload a CSV file exported from Goodreads or StoryGraph");
+        }
+        if (source != null && !source.isBlank() && !isKnownSource(source)) {
+            throw new ValidationException("Unsupported import source: " + source + " (use goodreads or storygraph)");
+        }
+        ImportJob job = register(userId);
+
+        Path spooled = null;
+        try {
+            spooled = Files.createTempFile("library-import-", ".csv");
+            file.transferTo(spooled);
+            Path upload = spooled;
+            importExecutor.execute(() -> run(job, upload, source, isPublic));
+        } catch (IOException | TaskRejectedException e) {
+            jobs.remove(job.getId());
+            if (spooled != null) {
+                deleteQuietly(spooled);
+            }
+            throw new ValidationException(e instanceof TaskRejectedException
+                    ? "Too many imports in progress - try again in a few minutes"
+                    : "Could not read the uploaded file");
+        }
+        return job;
+    }
+
+    /**
+     * A job of the given user (jobs of other users are reported as missing)
+     */
+    public ImportJob getJob(Long userId, String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null || !job.getUserId().equals(userId)) {
+            throw new ResourceNotFoundException("Import job not found: " + jobId);
+        }
+        return job;
+    }
+
+    /**
+     * Create the job, refusing a second concurrent import for the same user
+     */
+    private synchronized ImportJob register(Long userId) {
+        evictFinishedJobs();
+        for (ImportJob job : jobs.values()) {
+            if (job.getUserId().equals(userId) && !job.isFinished()) {
+                throw new ValidationException("An import is already running - wait for it to finish");
+            }
+        }
+        ImportJob job = new ImportJob(userId);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    private boolean isKnownSource(String source) {
+        for (LibraryCsvFormat format : LibraryCsvFormat.values()) {
+            if (format.name().equalsIgnoreCase(source.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    // ============================================
+    // Import
+    // ============================================
+
+    private void run(ImportJob job, Path file, String source, boolean isPublic) {
+        Long userId = job.getUserId();
+        long started = System.currentTimeMillis();
+
+        try (Reader reader = new BufferedReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            CsvRecordReader csv = new CsvRecordReader(reader);
+            List<String> header = csv.next();
+            LibraryCsvFormat format = header == null ? null
+                    : LibraryCsvFormat.detect(header, source == null || source.isBlank() ? null : source);
+            if (format == null) {
+                job.fail("Unrecognised file - expected a Goodreads or StoryGraph library export");
+                return;
+            }
+            job.start(format);
+            Map<String, Integer> columns = LibraryCsvFormat.indexHeader(header);
+            Set<String> existing = loadLibraryKeys(userId);
+
+            List<ImportedBook> batch = new ArrayList<>(batchSize);
+            List<String> record;
+            while ((record = csv.next()) != null) {
+                if (job.getRowsRead() >= maxRows) {
+                    job.rowFailed(csv.getRecordLine(), "Row limit of " + maxRows + " reached - rest of file ignored");
+                    break;
+                }
+                job.rowRead();
+                ImportedBook book;
+                try {
+                    book = format.map(columns, record);
+                } catch (IllegalArgumentException e) {
+                    job.rowFailed(csv.getRecordLine(), e.getMessage());
+                    continue;
+                }
+                if (isBlank(book.title()) || isBlank(book.author())) {
+                    job.rowFailed(csv.getRecordLine(), "Title and author are required");
+                    continue;
+                }
+                if (!existing.add(BookKeyNormalizer.key(book.title(), book.author()))) {
+                    job.duplicate();
+                    continue;
+                }
+                batch.add(book);
+                if (batch.size() >= batchSize) {
+                    writeBatch(userId, batch, isPublic, job);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(userId, batch, isPublic, job);
+            }
+
+            finish(userId, format, isPublic, job.getImported());
+            job.complete();
+            logger.info("Imported {} books ({} duplicates, {} failed rows) from {} for user {} in {} ms",
+                    job.getImported(), job.getDuplicates(), job.getFailed(), format, userId,
+                    System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            logger.error("Library import {} failed for user {}: {}", job.getId(), userId, e.getMessage(), e);
+            finish(userId, job.getFormat(), isPublic, job.getImported());
+            job.fail("Import stopped after " + job.getImported() + " books: " + e.getMessage());
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    /**
+     * Insert one batch in its own transaction, then queue its AI notes
+     */
+    private void writeBatch(Long userId, List<ImportedBook> batch, boolean isPublic, ImportJob job) {
+        Map<Long, Long> bookWorks = transactionTemplate.execute(status -> insertBatch(userId, batch, isPublic));
+        if (bookWorks == null) {
+            return;
+        }
+        job.imported(bookWorks.size());
+        bookWorks.forEach((bookId, workId) -> aiNotesQueue.enqueue(workId, bookId));
+    }
+
+    /**
+     * @return bookId -> workId of the inserted books
+     */
+    private Map<Long, Long> insertBatch(Long userId, List<ImportedBook> batch, boolean isPublic) {
+        Map<String, Long> works = resolveWorks(batch);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        MapSqlParameterSource[] bookParams = new MapSqlParameterSource[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            ImportedBook book = batch.get(i);
+            int totalPages = book.totalPages() != null ? book.totalPages() : UNKNOWN_TOTAL_PAGES;
+            boolean finished = book.status() == Book.ReadingStatus.FINISHED;
+            bookParams[i] = new MapSqlParameterSource()
+                    .addValue("title", truncate(book.title(), MAX_TEXT_LENGTH))
+                    .addValue("author", truncate(book.author(), MAX_TEXT_LENGTH))
+                    .addValue("totalPages", totalPages)
+                    .addValue("pagesRead", finished ? totalPages : 0)
+                    .addValue("status", book.status().name())
+                    .addValue("startDate", toSqlDate(book.startDate()))
+                    .addValue("completeDate", toSqlDate(book.completeDate()))
+                    .addValue("rating", book.rating())
+                    .addValue("review", truncate(book.review(), MAX_REVIEW_LENGTH))
+                    .addValue("notes", book.notes())
+                    .addValue("isPublic", isPublic)
+                    .addValue("userId", userId)
+                    .addValue("workId", works.get(BookKeyNormalizer.key(book.title(), book.author())))
+                    .addValue("now", now);
+        }
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        namedJdbc.batchUpdate(INSERT_BOOK, bookParams, keys, new String[]{"id"});
+        List<Map<String, Object>> keyList = keys.getKeyList();
+
+        Map<Long, Long> bookWorks = new LinkedHashMap<>();
+        List<MapSqlParameterSource> tagParams = new ArrayList<>();
+        List<MapSqlParameterSource> activityParams = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            ImportedBook book = batch.get(i);
+            Long bookId = ((Number) keyList.get(i).get("id")).longValue();
+            bookWorks.put(bookId, (Long) bookParams[i].getValue("workId"));
+
+            Set<String> seenTags = new HashSet<>();
+            for (String tag : book.tags()) {
+                String value = truncate(tag, MAX_TEXT_LENGTH);
+                if (seenTags.add(value.toLowerCase(Locale.ROOT))) {
+                    tagParams.add(new MapSqlParameterSource().addValue("bookId", bookId).addValue("tag", value));
+                }
+            }
+            // Finishing date counts as a reading day, when we know how much was read
+            if (book.status() == Book.ReadingStatus.FINISHED && book.completeDate() != null
+                    && book.totalPages() != null) {
+                activityParams.add(new MapSqlParameterSource()
+                        .addValue("bookId", bookId)
+                        .addValue("userId", userId)
+                        .addValue("activityDate", toSqlDate(book.completeDate()))
+                        .addValue("pages", book.totalPages())
+                        .addValue("now", now));
+            }
+        }
+        if (!tagParams.isEmpty()) {
+            namedJdbc.batchUpdate(INSERT_TAG, tagParams.toArray(new MapSqlParameterSource[0]));
+        }
+        if (!activityParams.isEmpty()) {
+            namedJdbc.batchUpdate(INSERT_ACTIVITY, activityParams.toArray(new MapSqlParameterSource[0]));
+        }
+
+        workService.refreshAggregates(new HashSet<>(bookWorks.values()));
+        eventPublisher.publishEvent(new UserCounterEvent(userId, Counter.BOOKS, batch.size()));
+        if (isPublic) {
+            eventPublisher.publishEvent(new UserCounterEvent(userId, Counter.PUBLIC_BOOKS, batch.size()));
+        }
+        return bookWorks;
+    }
+
+    /**
+     * normalized key -> work id for every row of the batch, creating missing works
+     */
+    private Map<String, Long> resolveWorks(List<ImportedBook> batch) {
+        Map<String, ImportedBook> byKey = new LinkedHashMap<>();
+        for (ImportedBook book : batch) {
+            byKey.putIfAbsent(BookKeyNormalizer.key(book.title(), book.author()), book);
+        }
+
+        Map<String, Long> works = new HashMap<>();
+        for (Work work : workRepository.findByNormalizedKeyIn(byKey.keySet())) {
+            works.put(work.getNormalizedKey(), work.getId());
+        }
+        List<String> missing = new ArrayList<>();
+        for (Map.Entry<String, ImportedBook> entry : byKey.entrySet()) {
+            if (!works.containsKey(entry.getKey())) {
+                ImportedBook book = entry.getValue();
+                workRepository.insertIfAbsent(entry.getKey(), book.title().trim(), book.author().trim());
+                missing.add(entry.getKey());
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Work work : workRepository.findByNormalizedKeyIn(missing)) {
+                works.put(work.getNormalizedKey(), work.getId());
+            }
+        }
+        return works;
+    }
+
+    /**
+     * Per-import side effects that would otherwise happen once per book
+     */
+    private void finish(Long userId, LibraryCsvFormat format, boolean isPublic, int imported) {
+        if (imported == 0) {
+            return;
+        }
+        libraryDigestService.invalidate(userId);
+        if (!isPublic) {
+            return;
+        }
+        try {
+            String metadata = objectMapper.writeValueAsString(Map.of(
+                    "count", imported,
+                    "source", format.name().toLowerCase(Locale.ROOT)));
+            socialService.recordActivity(userId, UserActivity.ActivityType.IMPORTED_LIBRARY, null, null, metadata);
+        } catch (Exception e) {
+            // Don't fail the import if activity recording fails
+            logger.warn("Could not record import activity for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private Set<String> loadLibraryKeys(Long userId) {
+        Set<String> keys = new HashSet<>();
+        jdbcTemplate.query("SELECT title, author FROM books WHERE user_id = ?",
+                (RowCallbackHandler) rs -> keys.add(BookKeyNormalizer.key(rs.getString(1), rs.getString(2))),
+                userId);
+        return keys;
+    }
+
+    // ============================================
+    // Helpers
+    // ============================================
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String truncate(String value, int max) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.length() <= max ? trimmed : trimmed.substring(0, max);
+    }
+
+    private static Date toSqlDate(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete import file {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -5,6 +5,9 @@ import com.booksiread.backend.entity.*;
 import com.booksiread.backend.repository.NotificationRepository;
 import com.booksiread.backend.repository.UserFollowRepository;
 import com.booksiread.backend.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -26,6 +29,7 @@ import java.util.regex.Pattern;
  * - Someone you follow finishes a book
  * - Someone you follow writes a review
  * - Someone comments on your review
+ * - Someone likes your review
  */
 @Service
 @Transactional
@@ -40,6 +44,9 @@ public class NotificationService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private static final Pattern MENTION_PATTERN = Pattern.compile("@(\\w+)");
 
     // ============================================
@@ -84,7 +91,7 @@ public class NotificationService {
             Notification.NotificationType.FOLLOW,
             displayName + " started following you"
         );
-        notificationRepository.save(notification);
+        save(notification);
     }
 
     /** Notify user of a follow request (private account) */
@@ -96,7 +103,7 @@ public class NotificationService {
             displayName + " requested to follow you"
         );
         notification.setFollowRequestId(followRequestId);
-        notificationRepository.save(notification);
+        save(notification);
     }
 
     /** Notify user that their follow request was accepted */
@@ -107,11 +114,12 @@ public class NotificationService {
             Notification.NotificationType.FOLLOW_ACCEPTED,
             displayName + " accepted your follow request"
         );
-        notificationRepository.save(notification);
+        save(notification);
     }
 
     /** Notify followers that user finished a book */
     public void notifyBookFinished(User actor, Book book) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         List<Long> followerIds = userFollowRepository.findFollowerIdsByUserId(actor.getId());
         String displayName = actor.getDisplayName() != null ? actor.getDisplayName() : actor.getUsername();
         
@@ -124,12 +132,14 @@ public class NotificationService {
             notification.setType(Notification.NotificationType.BOOK_FINISHED);
             notification.setMessage(displayName + " finished reading \"" + book.getTitle() + "\"");
             notification.setBook(book);
-            notificationRepository.save(notification);
+            save(notification);
         }
+        recordFanOut(sample, Notification.NotificationType.BOOK_FINISHED, followerIds.size());
     }
 
     /** Notify followers that user wrote a review */
     public void notifyReviewPosted(User actor, Book book, Long reviewId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         List<Long> followerIds = userFollowRepository.findFollowerIdsByUserId(actor.getId());
         String displayName = actor.getDisplayName() != null ? actor.getDisplayName() : actor.getUsername();
         
@@ -142,8 +152,9 @@ public class NotificationService {
             notification.setMessage(displayName + " reviewed \"" + book.getTitle() + "\"");
             notification.setBook(book);
             notification.setReviewId(reviewId);
-            notificationRepository.save(notification);
+            save(notification);
         }
+        recordFanOut(sample, Notification.NotificationType.BOOK_REVIEW, followerIds.size());
     }
 
     /** Notify review author of a comment */
@@ -158,7 +169,21 @@ public class NotificationService {
         );
         notification.setBook(book);
         notification.setReviewId(reviewId);
-        notificationRepository.save(notification);
+        save(notification);
+    }
+
+    /** Notify review author of a like; takes references and pre-selected names so nothing is loaded */
+    public void notifyReviewLike(User actor, String actorName, User reviewAuthor, Book book, String bookTitle, Long reviewId) {
+        if (actor.getId().equals(reviewAuthor.getId())) return; // Don't notify self
+
+        Notification notification = new Notification(
+            reviewAuthor, actor,
+            Notification.NotificationType.LIKE_REVIEW,
+            actorName + " liked your review of \"" + bookTitle + "\""
+        );
+        notification.setBook(book);
+        notification.setReviewId(reviewId);
+        save(notification);
     }
 
     /** Notify the parent comment author that someone replied */
@@ -174,7 +199,7 @@ public class NotificationService {
         notification.setBook(book);
         notification.setReviewId(reviewId);
         notification.setCommentId(commentId);
-        notificationRepository.save(notification);
+        save(notification);
     }
 
     /**
@@ -201,7 +226,7 @@ public class NotificationService {
                 notification.setBook(book);
                 notification.setReviewId(reviewId);
                 notification.setCommentId(commentId);
-                notificationRepository.save(notification);
+                save(notification);
             }
         }
 
@@ -225,7 +250,7 @@ public class NotificationService {
         );
         if (book != null) notification.setBook(book);
         notification.setReflectionId(reflectionId);
-        notificationRepository.save(notification);
+        save(notification);
     }
 
     /** Notify the parent comment author that someone replied on a reflection */
@@ -241,7 +266,7 @@ public class NotificationService {
         if (book != null) notification.setBook(book);
         notification.setReflectionId(reflectionId);
         notification.setCommentId(commentId);
-        notificationRepository.save(notification);
+        save(notification);
     }
 
     /** Parse @mentions from reflection comment content and create MENTION notifications */
@@ -265,13 +290,37 @@ public class NotificationService {
                 if (book != null) notification.setBook(book);
                 notification.setReflectionId(reflectionId);
                 notification.setCommentId(commentId);
-                notificationRepository.save(notification);
+                save(notification);
             }
         }
 
         return mentionedUsernames;
     }
 
+    // ============================================
+    // Persistence & metrics
+    // ============================================
+
+    /** Save and count one notification (notifications.created{type}) */
+    private void save(Notification notification) {
+        notificationRepository.save(notification);
+        meterRegistry.counter("notifications.created", "type", notification.getType().name()).increment();
+    }
+
+    /** notifications.fanout{type}: time to notify every follower; recipients per fan-out */
+    private void recordFanOut(Timer.Sample sample, Notification.NotificationType type, int recipients) {
+        sample.stop(Timer.builder("notifications.fanout")
+                .description("Time to create one notification per follower")
+                .tag("type", type.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        DistributionSummary.builder("notifications.fanout.recipients")
+                .description("Followers notified per fan-out")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .record(recipients);
+    }
+
     // ============================================
     // Mapper
     // ============================================
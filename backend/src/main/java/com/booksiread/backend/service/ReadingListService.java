@@ -1,17 +1,28 @@
 package com.booksiread.backend.service;
 
+import com.booksiread.backend.counter.EngagementCounterBuffer.Field;
+import com.booksiread.backend.counter.EngagementCounterBuffer.Target;
 import com.booksiread.backend.dto.AddListItemRequest;
+import com.booksiread.backend.dto.EngagementResponse;
 import com.booksiread.backend.dto.ReadingListRequest;
 import com.booksiread.backend.dto.ReadingListResponse;
 import com.booksiread.backend.entity.*;
+import com.booksiread.backend.event.UserCounterEvent;
+import com.booksiread.backend.exception.ResourceNotFoundException;
 import com.booksiread.backend.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,6 +47,15 @@ public class ReadingListService {
     @Autowired
     private UserFollowRepository userFollowRepository;
 
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EngagementCounterService engagementCounters;
+
     // ─── CRUD ────────────────────────────────────────────────────
 
     public ReadingListResponse createList(Long userId, ReadingListRequest request) {
@@ -55,8 +75,10 @@ public class ReadingListService {
         list.setBooksCount(0);
         list.setLikesCount(0);
 
-        list = readingListRepository.save(list);
-        return ReadingListResponse.fromEntity(list, false, true);
+        list = readingListRepository.saveAndFlush(list);
+        searchIndexService.reindexList(list.getId());
+        eventPublisher.publishEvent(UserCounterEvent.increment(userId, UserCounterEvent.Counter.LISTS));
+        return toResponse(list, false, true);
     }
 
     public ReadingListResponse updateList(Long userId, Long listId, ReadingListRequest request) {
@@ -77,8 +99,9 @@ public class ReadingListService {
             list.setCoverEmoji(request.getCoverEmoji());
         }
 
-        list = readingListRepository.save(list);
-        return ReadingListResponse.fromEntity(list, false, true);
+        list = readingListRepository.saveAndFlush(list);
+        searchIndexService.reindexList(list.getId());
+        return toResponse(list, false, true);
     }
 
     public void deleteList(Long userId, Long listId) {
@@ -88,6 +111,7 @@ public class ReadingListService {
             throw new RuntimeException("Not authorized");
         }
         readingListRepository.delete(list);
+        eventPublisher.publishEvent(UserCounterEvent.decrement(userId, UserCounterEvent.Counter.LISTS));
     }
 
     // ─── Get Lists ──────────────────────────────────────────────
@@ -109,13 +133,13 @@ public class ReadingListService {
         }
 
         boolean liked = readingListLikeRepository.existsByReadingListIdAndUserId(listId, viewerId);
-        return ReadingListResponse.fromEntity(list, liked, isOwner);
+        return toResponse(list, liked, isOwner);
     }
 
     @Transactional(readOnly = true)
     public List<ReadingListResponse> getMyLists(Long userId) {
         return readingListRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
-                .map(list -> ReadingListResponse.fromEntity(list, false, true))
+                .map(list -> toResponse(list, false, true))
                 .collect(Collectors.toList());
     }
 
@@ -128,7 +152,7 @@ public class ReadingListService {
         return readingListRepository.findByUserIdAndIsPublicTrueOrderByCreatedAtDesc(userId).stream()
                 .map(list -> {
                     boolean liked = readingListLikeRepository.existsByReadingListIdAndUserId(list.getId(), viewerId);
-                    return ReadingListResponse.fromEntity(list, liked, false);
+                    return toResponse(list, liked, false);
                 })
                 .collect(Collectors.toList());
     }
@@ -139,17 +163,42 @@ public class ReadingListService {
         return lists.map(list -> {
             boolean liked = readingListLikeRepository.existsByReadingListIdAndUserId(list.getId(), viewerId);
             boolean isOwner = list.getUser().getId().equals(viewerId);
-            return ReadingListResponse.fromEntity(list, liked, isOwner);
+            return toResponse(list, liked, isOwner);
         });
     }
 
+    /**
+     * Search public lists by name, description and the books in them.
+     * Uses the full-text index (relevance blended with likes) when available.
+     */
     @Transactional(readOnly = true)
     public Page<ReadingListResponse> searchLists(String query, Long viewerId, int page) {
-        Page<ReadingList> lists = readingListRepository.searchPublicLists(query, PageRequest.of(page, 12));
+        return searchLists(query, viewerId, page, 12);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ReadingListResponse> searchLists(String query, Long viewerId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        Page<ReadingList> lists;
+        if (searchIndexService.isAvailable()) {
+            String tsQuery = SearchIndexService.toPrefixQuery(query);
+            if (tsQuery == null) {
+                return Page.empty(pageable);
+            }
+            List<SearchHit> hits = readingListRepository.fullTextSearch(
+                    tsQuery, pageable.getPageSize(), pageable.getOffset());
+            Map<Long, ReadingList> byId = readingListRepository.findAllById(hits.stream().map(SearchHit::getId).toList())
+                    .stream().collect(Collectors.toMap(ReadingList::getId, Function.identity()));
+            List<ReadingList> ordered = hits.stream().map(hit -> byId.get(hit.getId()))
+                    .filter(Objects::nonNull).collect(Collectors.toList());
+            lists = new PageImpl<>(ordered, pageable, readingListRepository.countFullTextSearch(tsQuery));
+        } else {
+            lists = readingListRepository.searchPublicLists(query, pageable);
+        }
         return lists.map(list -> {
             boolean liked = readingListLikeRepository.existsByReadingListIdAndUserId(list.getId(), viewerId);
             boolean isOwner = list.getUser().getId().equals(viewerId);
-            return ReadingListResponse.fromEntity(list, liked, isOwner);
+            return toResponse(list, liked, isOwner);
         });
     }
 
@@ -195,7 +244,8 @@ public class ReadingListService {
 
         // Update count
         list.setBooksCount((int) readingListItemRepository.countByReadingListId(listId));
-        readingListRepository.save(list);
+        readingListRepository.saveAndFlush(list);
+        searchIndexService.reindexList(listId);
 
         return getList(listId, userId);
     }
@@ -219,7 +269,8 @@ public class ReadingListService {
 
         // Update count
         list.setBooksCount((int) readingListItemRepository.countByReadingListId(listId));
-        readingListRepository.save(list);
+        readingListRepository.saveAndFlush(list);
+        searchIndexService.reindexList(listId);
 
         return getList(listId, userId);
     }
@@ -232,7 +283,7 @@ public class ReadingListService {
                 .map(ReadingListLike::getReadingList)
                 .filter(list -> !list.getUser().getId().equals(userId)) // exclude own lists
                 .distinct() // avoid duplicates from LEFT JOIN FETCH on items
-                .map(list -> ReadingListResponse.fromEntity(list, true, false))
+                .map(list -> toResponse(list, true, false))
                 .collect(Collectors.toList());
     }
 
@@ -242,23 +293,52 @@ public class ReadingListService {
         ReadingList list = readingListRepository.findById(listId)
                 .orElseThrow(() -> new RuntimeException("List not found"));
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
+        // Counter moves only by the rows actually changed - safe under concurrent toggles
         boolean liked;
-        var existingLike = readingListLikeRepository.findByReadingListIdAndUserId(listId, userId);
-        if (existingLike.isPresent()) {
-            readingListLikeRepository.delete(existingLike.get());
-            list.setLikesCount(Math.max(0, list.getLikesCount() - 1));
+        if (readingListLikeRepository.deleteLike(listId, userId) > 0) {
+            engagementCounters.record(Target.LIST, Field.LIKES, listId, -1);
             liked = false;
         } else {
-            readingListLikeRepository.save(new ReadingListLike(list, user));
-            list.setLikesCount(list.getLikesCount() + 1);
+            if (readingListLikeRepository.insertIfAbsent(listId, userId) > 0) {
+                engagementCounters.record(Target.LIST, Field.LIKES, listId, 1);
+            }
             liked = true;
         }
-        readingListRepository.save(list);
 
         boolean isOwner = list.getUser().getId().equals(userId);
-        return ReadingListResponse.fromEntity(list, liked, isOwner);
+        return toResponse(list, liked, isOwner);
+    }
+
+    /**
+     * Idempotent like (PUT): one counter read (also the existence check) plus one INSERT ... ON CONFLICT DO NOTHING
+     */
+    public EngagementResponse likeList(Long userId, Long listId) {
+        int persisted = readingListRepository.findLikesCount(listId)
+                .orElseThrow(() -> new ResourceNotFoundException("List not found"));
+        boolean changed = readingListLikeRepository.insertIfAbsent(listId, userId) > 0;
+        if (changed) {
+            engagementCounters.record(Target.LIST, Field.LIKES, listId, 1);
+        }
+        return new EngagementResponse(true, changed, engagementCounters.live(Target.LIST, Field.LIKES, listId, persisted));
+    }
+
+    /**
+     * Idempotent unlike (DELETE): one counter read plus one DELETE that reports whether a row existed
+     */
+    public EngagementResponse unlikeList(Long userId, Long listId) {
+        int persisted = readingListRepository.findLikesCount(listId)
+                .orElseThrow(() -> new ResourceNotFoundException("List not found"));
+        boolean changed = readingListLikeRepository.deleteLike(listId, userId) > 0;
+        if (changed) {
+            engagementCounters.record(Target.LIST, Field.LIKES, listId, -1);
+        }
+        return new EngagementResponse(false, changed, engagementCounters.live(Target.LIST, Field.LIKES, listId, persisted));
+    }
+
+    /** Response with the live likes count (persisted value plus buffered deltas) */
+    private ReadingListResponse toResponse(ReadingList list, boolean likedByViewer, boolean ownedByViewer) {
+        return ReadingListResponse.fromEntity(list,
+                engagementCounters.live(Target.LIST, Field.LIKES, list.getId(), list.getLikesCount()),
+                likedByViewer, ownedByViewer);
     }
 }
@@ -1,54 +1,202 @@
 package com.booksiread.backend.service;
 
+import com.booksiread.backend.cache.TtlCache;
+import com.booksiread.backend.cache.TtlCacheMetrics;
 import com.booksiread.backend.client.GeminiClient;
+import com.booksiread.backend.exception.ValidationException;
+import com.booksiread.backend.service.LibraryDigestService.LibraryDigest;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * RecommendationService - AI-powered book recommendations
+ *
+ * Results are cached by a normalized hash of the input (book list or preferences),
+ * so repeat clicks with the same library / same preferences skip the Gemini call.
+ * When Gemini has nothing for a user's library, the local collaborative-filtering
+ * model is used as a fallback.
  */
 @Service
 public class RecommendationService {
 
     private static final Logger logger = LoggerFactory.getLogger(RecommendationService.class);
 
+    /** Preference keys that influence the custom prompt (anything else is ignored for caching) */
+    private static final List<String> PREFERENCE_KEYS = List.of("genre", "mood", "length", "topics");
+
+    private static final int FALLBACK_LIMIT = 5;
+
     private final GeminiClient geminiClient;
+    private final LibraryDigestService libraryDigestService;
+    private final CollaborativeFilteringService collaborativeFilteringService;
     private final ObjectMapper objectMapper;
+    private final TtlCache<String, List<Map<String, String>>> recommendationCache;
 
-    public RecommendationService(GeminiClient geminiClient) {
+    public RecommendationService(GeminiClient geminiClient,
+                                 LibraryDigestService libraryDigestService,
+                                 CollaborativeFilteringService collaborativeFilteringService,
+                                 @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${recommendations.cache.max-size:500}") int cacheMaxSize,
+                                 @Value("${recommendations.cache.ttl:PT24H}") Duration cacheTtl,
+                                 @Value("${recommendations.cache.stale-window:PT12H}") Duration cacheStaleWindow) {
         this.geminiClient = geminiClient;
+        this.libraryDigestService = libraryDigestService;
+        this.collaborativeFilteringService = collaborativeFilteringService;
         this.objectMapper = new ObjectMapper();
+        this.recommendationCache = TtlCacheMetrics.monitor(meterRegistry, new TtlCache<>(
+                "recommendations", cacheMaxSize, cacheTtl, cacheStaleWindow, cacheRefreshExecutor));
     }
 
     /**
      * Get book recommendations based on user's reading library
      */
     public List<Map<String, String>> getLibraryBasedRecommendations(String bookList) {
-        logger.info("Generating library-based recommendations");
+        String cacheKey = "library:" + hash(normalizeBookList(bookList));
 
-        String prompt = buildLibraryPrompt(bookList);
-        String jsonResponse = geminiClient.generateRecommendations(prompt);
+        return cached(cacheKey, () -> {
+            logger.info("Generating library-based recommendations");
 
-        return parseRecommendations(jsonResponse);
+            String prompt = buildLibraryPrompt(bookList);
+            String jsonResponse = geminiClient.generateRecommendations(prompt);
+
+            return parseRecommendations(jsonResponse);
+        });
+    }
+
+    /**
+     * Get book recommendations for a user from a server-built digest of their library
+     * (top-rated, recent and favourite authors), so the client doesn't ship the whole list.
+     */
+    public List<Map<String, String>> getLibraryBasedRecommendations(Long userId) {
+        LibraryDigest digest = libraryDigestService.getDigest(userId);
+        if (digest.isEmpty()) {
+            throw new ValidationException(
+                "You need to have at least one book marked as \"Reading\" or \"Finished\" to get library-based recommendations.");
+        }
+
+        String cacheKey = "digest:" + hash(normalizeBookList(digest.bookList())
+                + "#" + normalizeText(String.join(",", digest.favouriteAuthors())));
+
+        List<Map<String, String>> recommendations = cached(cacheKey, () -> {
+            logger.info("Generating digest-based recommendations for user {}", userId);
+
+            String prompt = buildDigestPrompt(digest);
+            String jsonResponse = geminiClient.generateRecommendations(prompt);
+
+            return parseRecommendations(jsonResponse);
+        });
+
+        if (recommendations.isEmpty()) {
+            // Gemini unavailable or unparseable - fall back to what similar readers finished
+            logger.info("Falling back to collaborative-filtering recommendations for user {}", userId);
+            return new ArrayList<>(collaborativeFilteringService.getRecommendationMaps(userId, FALLBACK_LIMIT));
+        }
+        return recommendations;
     }
 
     /**
      * Get book recommendations based on custom preferences
      */
     public List<Map<String, String>> getCustomRecommendations(Map<String, String> preferences) {
-        logger.info("Generating custom recommendations with preferences: {}", preferences);
+        String cacheKey = "custom:" + hash(normalizePreferences(preferences));
+
+        return cached(cacheKey, () -> {
+            logger.info("Generating custom recommendations with preferences: {}", preferences);
+
+            String prompt = buildCustomPrompt(preferences);
+            String jsonResponse = geminiClient.generateRecommendations(prompt);
+
+            return parseRecommendations(jsonResponse);
+        });
+    }
+
+    /**
+     * Hit/miss counters for the recommendation cache
+     */
+    public Map<String, Object> getCacheStats() {
+        return recommendationCache.stats();
+    }
+
+    // ============================================
+    // Caching helpers
+    // ============================================
+
+    /**
+     * Serve from cache, only storing non-empty results (an empty list means Gemini failed
+     * or returned garbage, which we want to retry on the next click).
+     */
+    private List<Map<String, String>> cached(String key, Supplier<List<Map<String, String>>> loader) {
+        List<Map<String, String>> result = recommendationCache.get(key, () -> {
+            List<Map<String, String>> recommendations = loader.get();
+            return recommendations.isEmpty() ? null : List.copyOf(recommendations);
+        });
+        return result != null ? result : new ArrayList<>();
+    }
+
+    /**
+     * Normalize the client-built book list ("Title" by Author, "Title" by Author, ...)
+     * so ordering, casing and whitespace differences map to the same cache key.
+     */
+    private String normalizeBookList(String bookList) {
+        if (bookList == null) {
+            return "";
+        }
+        return Arrays.stream(bookList.split(",\\s*(?=\")"))
+                .map(this::normalizeText)
+                .filter(entry -> !entry.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining("|"));
+    }
 
-        String prompt = buildCustomPrompt(preferences);
-        String jsonResponse = geminiClient.generateRecommendations(prompt);
+    /**
+     * Normalize preferences into a stable "key=value" string over the keys the prompt uses.
+     */
+    private String normalizePreferences(Map<String, String> preferences) {
+        if (preferences == null) {
+            return "";
+        }
+        return PREFERENCE_KEYS.stream()
+                .map(key -> key + "=" + normalizeText(preferences.get(key)))
+                .collect(Collectors.joining("|"));
+    }
 
-        return parseRecommendations(jsonResponse);
+    private String normalizeText(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory on every JVM; fall back to the raw key just in case
+            return value;
+        }
     }
 
     /**
@@ -73,6 +221,35 @@ public class RecommendationService {
         );
     }
 
+    /**
+     * Build prompt for digest-based recommendations
+     */
+    private String buildDigestPrompt(LibraryDigest digest) {
+        StringBuilder promptBuilder = new StringBuilder();
+        promptBuilder.append("Here is a summary of my reading library.\n\n");
+        promptBuilder.append("Books I rated highest or read most recently (rating out of 5 where given): ")
+                .append(digest.bookList()).append("\n");
+        if (!digest.favouriteAuthors().isEmpty()) {
+            promptBuilder.append("Authors I read most: ")
+                    .append(String.join(", ", digest.favouriteAuthors())).append("\n");
+        }
+
+        promptBuilder.append("\nBased on my taste, recommend 5 new books I might like. ");
+        promptBuilder.append("Do not recommend any books already listed above.\n\n");
+        promptBuilder.append("CRITICAL: Return ONLY valid JSON. No markdown, no explanation, no code blocks.\n\n");
+        promptBuilder.append("Required JSON structure:\n");
+        promptBuilder.append("[\n");
+        promptBuilder.append("  {\n");
+        promptBuilder.append("    \"title\": \"Book Title\",\n");
+        promptBuilder.append("    \"author\": \"Author Name\",\n");
+        promptBuilder.append("    \"reason\": \"One short sentence explaining why this book matches my taste.\"\n");
+        promptBuilder.append("  }\n");
+        promptBuilder.append("]\n\n");
+        promptBuilder.append("Return exactly 5 recommendations as a valid JSON array.");
+
+        return promptBuilder.toString();
+    }
+
     /**
      * Build prompt for custom recommendations
      */
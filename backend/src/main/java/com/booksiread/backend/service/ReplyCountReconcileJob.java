@@ -0,0 +1,45 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.repository.ReflectionCommentRepository;
+import com.booksiread.backend.repository.ReviewCommentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * ReplyCountReconcileJob - Recomputes stored comment reply counters
+ *
+ * Adding and deleting a reply moves its parent's counter directly. Replies removed by
+ * cascades (a deleted review, reflection or account) don't, and comments written before
+ * the column existed start at zero; this job fixes both, touching only drifted rows.
+ */
+@Component
+public class ReplyCountReconcileJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplyCountReconcileJob.class);
+
+    private final ReviewCommentRepository reviewCommentRepository;
+    private final ReflectionCommentRepository reflectionCommentRepository;
+
+    public ReplyCountReconcileJob(ReviewCommentRepository reviewCommentRepository,
+                                  ReflectionCommentRepository reflectionCommentRepository) {
+        this.reviewCommentRepository = reviewCommentRepository;
+        this.reflectionCommentRepository = reflectionCommentRepository;
+    }
+
+    @Scheduled(initialDelayString = "${comments.replies.reconcile.initial-delay:PT1M}",
+               fixedDelayString = "${comments.replies.reconcile.interval:PT12H}")
+    public void run() {
+        try {
+            int reviews = reviewCommentRepository.reconcileRepliesCounts();
+            int reflections = reflectionCommentRepository.reconcileRepliesCounts();
+            if (reviews + reflections > 0) {
+                logger.info("Reply counters corrected: {} review comments, {} reflection comments",
+                        reviews, reflections);
+            }
+        } catch (Exception e) {
+            logger.error("Reply counter reconciliation failed: {}", e.getMessage());
+        }
+    }
+}
@@ -1,17 +1,30 @@
 package com.booksiread.backend.service;
 
 import com.booksiread.backend.dto.CreateReviewRequest;
+import com.booksiread.backend.dto.EngagementResponse;
+import com.booksiread.backend.dto.ReplyPageResponse;
+import com.booksiread.backend.counter.EngagementCounterBuffer.Field;
+import com.booksiread.backend.counter.EngagementCounterBuffer.Target;
 import com.booksiread.backend.dto.ReviewResponse;
 import com.booksiread.backend.entity.*;
+import com.booksiread.backend.event.UserCounterEvent;
+import com.booksiread.backend.exception.ResourceNotFoundException;
 import com.booksiread.backend.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -51,6 +64,30 @@ public class ReviewService {
     @Autowired
     private FeedRankingService feedRankingService;
 
+    @Autowired
+    private WorkService workService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EngagementCounterService engagementCounters;
+
+    @Autowired
+    private BulkDeleteService bulkDeleteService;
+
+    @Value("${comments.replies.preview-size:3}")
+    private int replyPreviewSize;
+
+    @Value("${comments.replies.page-size:20}")
+    private int replyPageSize;
+
+    @Value("${comments.replies.max-page-size:100}")
+    private int replyMaxPageSize;
+
     // ============================================
     // Reviews
     // ============================================
@@ -73,6 +110,9 @@ public class ReviewService {
         review.setContainsSpoilers(request.getContainsSpoilers() != null ? request.getContainsSpoilers() : false);
 
         BookReview savedReview = reviewRepository.save(review);
+        workService.recordReviewChange(bookId, 1, null, savedReview.getRating());
+        eventPublisher.publishEvent(UserCounterEvent.increment(userId, UserCounterEvent.Counter.REVIEWS));
+        searchIndexService.indexReview(savedReview);
 
         // Record activity
         try {
@@ -100,6 +140,7 @@ public class ReviewService {
             throw new RuntimeException("Not authorized to edit this review");
         }
 
+        Integer oldRating = review.getRating();
         review.setContent(request.getContent());
         if (request.getRating() != null) {
             review.setRating(request.getRating());
@@ -108,7 +149,11 @@ public class ReviewService {
             review.setContainsSpoilers(request.getContainsSpoilers());
         }
 
-        return mapToResponse(reviewRepository.save(review), userId);
+        BookReview savedReview = reviewRepository.save(review);
+        workService.recordReviewChange(review.getBook().getId(), 0, oldRating, savedReview.getRating());
+        searchIndexService.indexReview(savedReview);
+
+        return mapToResponse(savedReview, userId);
     }
 
     /**
@@ -122,11 +167,8 @@ public class ReviewService {
             throw new RuntimeException("Not authorized to delete this review");
         }
 
-        // Delete likes, comments, and saved bookmarks first
-        likeRepository.deleteByReviewId(reviewId);
-        commentRepository.deleteByReviewId(reviewId);
-        savedReviewRepository.deleteByReviewId(reviewId);
-        reviewRepository.delete(review);
+        // Likes, comments and saved bookmarks go with it (set-based, FK cascades)
+        bulkDeleteService.deleteReviews(List.of(reviewId));
     }
 
     /**
@@ -189,13 +231,36 @@ public class ReviewService {
     }
 
     /**
-     * Search reviews by content, book title, author, or reviewer name
+     * Search reviews by content, book title, author, or reviewer name.
+     * Uses the ranked full-text index (prefix matching, highlighted snippets) when available.
      */
     @Transactional(readOnly = true)
     public Page<ReviewResponse> searchReviews(String query, Long viewerId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<BookReview> reviews = reviewRepository.searchReviews(query.trim(), pageable);
-        return reviews.map(r -> mapToResponse(r, viewerId));
+        if (!searchIndexService.isAvailable()) {
+            Page<BookReview> reviews = reviewRepository.searchReviews(query.trim(), pageable);
+            return reviews.map(r -> mapToResponse(r, viewerId));
+        }
+
+        String tsQuery = SearchIndexService.toPrefixQuery(query);
+        if (tsQuery == null) {
+            return Page.empty(pageable);
+        }
+        List<SearchHit> hits = reviewRepository.fullTextSearch(
+                tsQuery, SearchIndexService.HEADLINE_OPTIONS, size, pageable.getOffset());
+        Map<Long, BookReview> byId = reviewRepository.findAllById(hits.stream().map(SearchHit::getId).toList())
+                .stream().collect(Collectors.toMap(BookReview::getId, Function.identity()));
+
+        List<ReviewResponse> results = new ArrayList<>();
+        for (SearchHit hit : hits) {
+            BookReview review = byId.get(hit.getId());
+            if (review != null) {
+                ReviewResponse response = mapToResponse(review, viewerId);
+                response.setHighlight(SearchIndexService.renderHighlight(hit));
+                results.add(response);
+            }
+        }
+        return new PageImpl<>(results, pageable, reviewRepository.countFullTextSearch(tsQuery));
     }
 
     // ============================================
@@ -203,36 +268,74 @@ public class ReviewService {
     // ============================================
 
     /**
-     * Toggle like on a review
+     * Toggle like on a review.
+     * The like row is deleted/inserted first and the counter only moves by the rows actually
+     * changed (buffered, see EngagementCounterService), so parallel or repeated requests can't
+     * lose or double count.
      */
     public boolean toggleLike(Long userId, Long reviewId) {
-        BookReview review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new RuntimeException("Review not found"));
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new RuntimeException("Review not found");
+        }
 
-        if (likeRepository.existsByReviewIdAndUserId(reviewId, userId)) {
+        if (likeRepository.deleteLike(reviewId, userId) > 0) {
             // Unlike
-            ReviewLike like = likeRepository.findByReviewIdAndUserId(reviewId, userId)
-                    .orElseThrow(() -> new RuntimeException("Like not found"));
-            likeRepository.delete(like);
-            review.setLikesCount(Math.max(0, review.getLikesCount() - 1));
-            reviewRepository.save(review);
+            engagementCounters.record(Target.REVIEW, Field.LIKES, reviewId, -1);
             return false;
-        } else {
-            // Like
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-            ReviewLike like = new ReviewLike(review, user);
-            likeRepository.save(like);
-            review.setLikesCount(review.getLikesCount() + 1);
-            reviewRepository.save(review);
-
-            // Notify review author
-            try {
-                notificationService.notifyComment(user, review.getUser(), review.getBook(), reviewId);
-            } catch (Exception e) {
-                // Don't fail
-            }
-            return true;
+        }
+
+        // Like (0 rows inserted = a concurrent request already liked it)
+        if (likeRepository.insertIfAbsent(reviewId, userId) > 0) {
+            engagementCounters.record(Target.REVIEW, Field.LIKES, reviewId, 1);
+            notifyLike(userId, reviewId);
+        }
+        return true;
+    }
+
+    /**
+     * Idempotent like (PUT): one counter read (also the existence check) plus one
+     * INSERT ... ON CONFLICT DO NOTHING. The author is only notified when the like is new.
+     */
+    public EngagementResponse likeReview(Long userId, Long reviewId) {
+        int persisted = reviewRepository.findLikesCount(reviewId)
+                .orElseThrow(() -> new ResourceNotFoundException("Review not found"));
+        boolean changed = likeRepository.insertIfAbsent(reviewId, userId) > 0;
+        if (changed) {
+            engagementCounters.record(Target.REVIEW, Field.LIKES, reviewId, 1);
+            notifyLike(userId, reviewId);
+        }
+        return new EngagementResponse(true, changed,
+                engagementCounters.live(Target.REVIEW, Field.LIKES, reviewId, persisted));
+    }
+
+    /**
+     * Idempotent unlike (DELETE): one counter read plus one DELETE that reports whether a row existed
+     */
+    public EngagementResponse unlikeReview(Long userId, Long reviewId) {
+        int persisted = reviewRepository.findLikesCount(reviewId)
+                .orElseThrow(() -> new ResourceNotFoundException("Review not found"));
+        boolean changed = likeRepository.deleteLike(reviewId, userId) > 0;
+        if (changed) {
+            engagementCounters.record(Target.REVIEW, Field.LIKES, reviewId, -1);
+        }
+        return new EngagementResponse(false, changed,
+                engagementCounters.live(Target.REVIEW, Field.LIKES, reviewId, persisted));
+    }
+
+    /**
+     * Notify the review author with a LIKE_REVIEW notification. One id/name query plus the
+     * insert - author, actor and book are passed as references rather than loaded.
+     */
+    private void notifyLike(Long userId, Long reviewId) {
+        try {
+            reviewRepository.findLikeNotificationRow(reviewId, userId).ifPresent(row ->
+                    notificationService.notifyReviewLike(
+                            userRepository.getReferenceById(userId), row.getActorName(),
+                            userRepository.getReferenceById(row.getAuthorId()),
+                            bookRepository.getReferenceById(row.getBookId()), row.getBookTitle(),
+                            reviewId));
+        } catch (Exception e) {
+            // Don't fail
         }
     }
 
@@ -248,23 +351,37 @@ public class ReviewService {
      * Toggle save (bookmark) on a review
      */
     public boolean toggleSave(Long userId, Long reviewId) {
-        BookReview review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new RuntimeException("Review not found"));
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new RuntimeException("Review not found");
+        }
 
-        if (savedReviewRepository.existsByUserIdAndReviewId(userId, reviewId)) {
-            // Unsave
-            SavedReview saved = savedReviewRepository.findByUserIdAndReviewId(userId, reviewId)
-                    .orElseThrow(() -> new RuntimeException("Saved review not found"));
-            savedReviewRepository.delete(saved);
-            return false;
-        } else {
-            // Save
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-            SavedReview saved = new SavedReview(user, review);
-            savedReviewRepository.save(saved);
-            return true;
+        if (savedReviewRepository.deleteSave(userId, reviewId) > 0) {
+            return false; // Unsaved
         }
+        savedReviewRepository.insertIfAbsent(userId, reviewId);
+        return true;
+    }
+
+    /**
+     * Idempotent save (PUT): existence check plus one INSERT ... ON CONFLICT DO NOTHING
+     */
+    public EngagementResponse saveReview(Long userId, Long reviewId) {
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new ResourceNotFoundException("Review not found");
+        }
+        boolean changed = savedReviewRepository.insertIfAbsent(userId, reviewId) > 0;
+        return new EngagementResponse(true, changed, null);
+    }
+
+    /**
+     * Idempotent unsave (DELETE): existence check plus one DELETE
+     */
+    public EngagementResponse unsaveReview(Long userId, Long reviewId) {
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new ResourceNotFoundException("Review not found");
+        }
+        boolean changed = savedReviewRepository.deleteSave(userId, reviewId) > 0;
+        return new EngagementResponse(false, changed, null);
     }
 
     /**
@@ -284,7 +401,7 @@ public class ReviewService {
     public int getLikesCount(Long reviewId) {
         BookReview review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new RuntimeException("Review not found"));
-        return review.getLikesCount();
+        return engagementCounters.live(Target.REVIEW, Field.LIKES, reviewId, review.getLikesCount());
     }
 
     // ============================================
@@ -312,8 +429,10 @@ public class ReviewService {
         ReviewComment savedComment = commentRepository.save(comment);
 
         // Update comment count
-        review.setCommentsCount(review.getCommentsCount() + 1);
-        reviewRepository.save(review);
+        engagementCounters.record(Target.REVIEW, Field.COMMENTS, reviewId, 1);
+        if (parentId != null) {
+            commentRepository.adjustRepliesCount(parentId, 1);
+        }
 
         // Notify review author (for top-level comments)
         try {
@@ -346,19 +465,30 @@ public class ReviewService {
     @Transactional(readOnly = true)
     public Page<ReviewResponse.CommentResponse> getComments(Long reviewId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        return commentRepository.findByReviewIdAndParentCommentIsNullOrderByCreatedAtAsc(reviewId, pageable)
-                .map(this::mapCommentToResponseWithReplies);
+        Page<ReviewComment> comments = commentRepository
+                .findByReviewIdAndParentCommentIsNullOrderByCreatedAtAsc(reviewId, pageable);
+        return new PageImpl<>(mapThread(comments.getContent()), pageable, comments.getTotalElements());
     }
 
     /**
-     * Get replies for a specific comment
+     * Get one page of replies for a comment, oldest first
+     *
+     * @param after cursor from the previous page (last reply id), or null for the first page
+     * @param limit page size, capped at comments.replies.max-page-size
      */
     @Transactional(readOnly = true)
-    public List<ReviewResponse.CommentResponse> getReplies(Long commentId) {
-        return commentRepository.findByParentCommentIdOrderByCreatedAtAsc(commentId)
-                .stream()
-                .map(this::mapCommentToResponse)
-                .collect(Collectors.toList());
+    public ReplyPageResponse<ReviewResponse.CommentResponse> getReplies(Long commentId, Long after, Integer limit) {
+        int size = Math.min(limit != null && limit > 0 ? limit : replyPageSize, replyMaxPageSize);
+        // One extra row tells whether another page exists
+        List<ReviewComment> replies = commentRepository.findReplyPage(
+                commentId, after != null ? after : 0L, PageRequest.of(0, size + 1));
+        Long nextCursor = null;
+        if (replies.size() > size) {
+            replies = replies.subList(0, size);
+            nextCursor = replies.get(size - 1).getId();
+        }
+        return new ReplyPageResponse<>(
+                replies.stream().map(this::mapCommentToResponse).collect(Collectors.toList()), nextCursor);
     }
 
     /**
@@ -373,11 +503,13 @@ public class ReviewService {
         }
 
         BookReview review = comment.getReview();
+        if (comment.getParentComment() != null) {
+            commentRepository.adjustRepliesCount(comment.getParentComment().getId(), -1);
+        }
         commentRepository.delete(comment);
 
         // Update count
-        review.setCommentsCount(Math.max(0, review.getCommentsCount() - 1));
-        reviewRepository.save(review);
+        engagementCounters.record(Target.REVIEW, Field.COMMENTS, review.getId(), -1);
     }
 
     // ============================================
@@ -385,15 +517,9 @@ public class ReviewService {
     // ============================================
 
     private ReviewResponse mapToResponse(BookReview review, Long viewerId) {
-        ReviewResponse response = new ReviewResponse();
-        response.setId(review.getId());
-        response.setContent(review.getContent());
-        response.setRating(review.getRating());
-        response.setContainsSpoilers(review.getContainsSpoilers());
-        response.setLikesCount(review.getLikesCount());
-        response.setCommentsCount(review.getCommentsCount());
-        response.setCreatedAt(review.getCreatedAt());
-        response.setUpdatedAt(review.getUpdatedAt());
+        ReviewResponse response = ReviewResponse.fromEntity(review,
+                engagementCounters.live(Target.REVIEW, Field.LIKES, review.getId(), review.getLikesCount()),
+                engagementCounters.live(Target.REVIEW, Field.COMMENTS, review.getId(), review.getCommentsCount()));
 
         // Is viewer liking this?
         if (viewerId != null) {
@@ -404,19 +530,6 @@ public class ReviewService {
             response.setSavedByViewer(false);
         }
 
-        // Author info
-        User author = review.getUser();
-        response.setAuthorId(author.getId());
-        response.setAuthorUsername(author.getUsername());
-        response.setAuthorDisplayName(author.getDisplayName() != null ? author.getDisplayName() : author.getUsername());
-        response.setAuthorProfilePictureUrl(author.getProfilePictureUrl());
-
-        // Book info
-        Book book = review.getBook();
-        response.setBookId(book.getId());
-        response.setBookTitle(book.getTitle());
-        response.setBookAuthor(book.getAuthor());
-
         // Load recent comments (first 3)
         List<ReviewComment> comments = commentRepository
                 .findByReviewIdOrderByCreatedAtAsc(review.getId(), PageRequest.of(0, 3))
@@ -429,33 +542,37 @@ public class ReviewService {
     }
 
     private ReviewResponse.CommentResponse mapCommentToResponse(ReviewComment comment) {
-        ReviewResponse.CommentResponse response = new ReviewResponse.CommentResponse();
-        response.setId(comment.getId());
-        response.setContent(comment.getContent());
-        response.setAuthorId(comment.getUser().getId());
-        response.setAuthorUsername(comment.getUser().getUsername());
-        response.setAuthorDisplayName(
-            comment.getUser().getDisplayName() != null 
-                ? comment.getUser().getDisplayName() 
-                : comment.getUser().getUsername()
-        );
-        response.setAuthorProfilePictureUrl(comment.getUser().getProfilePictureUrl());
-        response.setCreatedAt(comment.getCreatedAt());
-        response.setParentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null);
-        response.setReplyCount(comment.getReplies() != null ? comment.getReplies().size() : 0);
-        return response;
+        return ReviewResponse.CommentResponse.fromEntity(comment);
     }
 
-    private ReviewResponse.CommentResponse mapCommentToResponseWithReplies(ReviewComment comment) {
-        ReviewResponse.CommentResponse response = mapCommentToResponse(comment);
-        if (comment.getReplies() != null && !comment.getReplies().isEmpty()) {
-            response.setReplies(
-                comment.getReplies().stream()
-                    .map(this::mapCommentToResponse)
-                    .collect(Collectors.toList())
-            );
-            response.setReplyCount(comment.getReplies().size());
+    /**
+     * Top-level comments with a preview of their first replies attached. Reply counts are
+     * stored on each comment; the previews for the whole page come from two queries
+     * (ids of the first few replies per comment, then those replies with their authors),
+     * so a view costs the same however large its threads are. The rest is paged through
+     * getReplies.
+     */
+    private List<ReviewResponse.CommentResponse> mapThread(List<ReviewComment> topLevel) {
+        List<Long> parentIds = topLevel.stream()
+                .filter(c -> c.getRepliesCount() > 0)
+                .map(ReviewComment::getId)
+                .toList();
+        List<Long> previewIds = parentIds.isEmpty()
+                ? List.of()
+                : commentRepository.findReplyPreviewIds(parentIds, replyPreviewSize);
+        List<ReviewComment> previews = previewIds.isEmpty()
+                ? List.of()
+                : commentRepository.findWithAuthorsByIdIn(previewIds);
+
+        Map<Long, List<ReviewResponse.CommentResponse>> repliesByParent = new HashMap<>();
+        for (ReviewComment reply : previews) {
+            repliesByParent.computeIfAbsent(reply.getParentComment().getId(), k -> new ArrayList<>())
+                    .add(mapCommentToResponse(reply));
         }
-        return response;
+        return topLevel.stream().map(comment -> {
+            ReviewResponse.CommentResponse response = mapCommentToResponse(comment);
+            response.setReplies(repliesByParent.get(comment.getId()));
+            return response;
+        }).collect(Collectors.toList());
     }
 }
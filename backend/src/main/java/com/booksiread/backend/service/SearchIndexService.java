@@ -0,0 +1,249 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.entity.Book;
+import com.booksiread.backend.entity.BookReview;
+import com.booksiread.backend.entity.Reflection;
+import com.booksiread.backend.entity.User;
+import com.booksiread.backend.repository.SearchHit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * SearchIndexService - PostgreSQL full-text index for reviews, reflections and reading lists
+ *
+ * Each table gets a tsvector column (GIN-indexed) that the app maintains on write.
+ * Reviews / reflections:
+ * - weight A: book title + author
+ * - weight B: the review / reflection text
+ * - weight C: author's username + display name
+ * Reading lists:
+ * - weight A: list name
+ * - weight B: description
+ * - weight C: titles and authors of the books in the list
+ *
+ * Hibernate doesn't know about the column (ddl-auto can't declare GIN indexes), so it is
+ * created on startup and any NULL vectors are backfilled in batches. If that fails (e.g. the
+ * database isn't PostgreSQL) searches fall back to the old LIKE queries.
+ */
+@Service
+public class SearchIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexService.class);
+
+    /** Max query terms turned into tsquery clauses */
+    private static final int MAX_TERMS = 8;
+
+    /** Control characters used as highlight delimiters, swapped for <mark> after HTML-escaping */
+    private static final String MARK_START = "\u0002";
+    private static final String MARK_END = "\u0003";
+    public static final String HEADLINE_OPTIONS =
+            "StartSel=" + MARK_START + ", StopSel=" + MARK_END + ", MaxFragments=2, MaxWords=25, MinWords=8";
+
+    private static final String VECTOR_FROM_PARAMS = """
+        setweight(to_tsvector('english', ?), 'A') ||
+        setweight(to_tsvector('english', ?), 'B') ||
+        setweight(to_tsvector('english', ?), 'C')
+    """;
+
+    private static final String VECTOR_FROM_JOINS = """
+        setweight(to_tsvector('english', coalesce((SELECT b.title || ' ' || b.author FROM books b WHERE b.id = t.book_id), '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(t.content, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce((SELECT u.username || ' ' || coalesce(u.display_name, '') FROM users u WHERE u.id = t.user_id), '')), 'C')
+    """;
+
+    private static final String LIST_VECTOR_FROM_JOINS = """
+        setweight(to_tsvector('english', coalesce(t.name, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(t.description, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce((SELECT string_agg(i.book_title || ' ' || coalesce(i.book_author, ''), ' ')
+                                                   FROM reading_list_items i WHERE i.reading_list_id = t.id), '')), 'C')
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int backfillBatchSize;
+
+    private volatile boolean available = false;
+
+    public SearchIndexService(JdbcTemplate jdbcTemplate,
+                              @Value("${search.fulltext.enabled:true}") boolean enabled,
+                              @Value("${search.fulltext.backfill-batch-size:1000}") int backfillBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.backfillBatchSize = backfillBatchSize;
+    }
+
+    /**
+     * Create the tsvector columns and GIN indexes if missing, then backfill NULL vectors.
+     * Runs after Hibernate has created/updated the tables.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            logger.info("Full-text search disabled - using LIKE search");
+            return;
+        }
+        try {
+            for (String table : new String[]{"book_reviews", "reflections", "reading_lists"}) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN IF NOT EXISTS search_vector tsvector");
+                jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_search ON " + table
+                        + " USING GIN (search_vector)");
+            }
+            available = true;
+
+            int reviews = backfill("book_reviews", VECTOR_FROM_JOINS);
+            int reflections = backfill("reflections", VECTOR_FROM_JOINS);
+            int lists = backfill("reading_lists", LIST_VECTOR_FROM_JOINS);
+            if (reviews + reflections + lists > 0) {
+                logger.info("Full-text index backfilled: {} reviews, {} reflections, {} lists",
+                        reviews, reflections, lists);
+            }
+        } catch (Exception e) {
+            logger.warn("Full-text search unavailable, falling back to LIKE search: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * True once the columns and indexes exist - callers use the LIKE queries otherwise
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    // ============================================
+    // Index maintenance
+    // ============================================
+
+    /**
+     * (Re)index a review from the entity's in-memory state - safe before Hibernate flushes it
+     */
+    public void indexReview(BookReview review) {
+        if (!available || review.getId() == null) {
+            return;
+        }
+        jdbcTemplate.update("UPDATE book_reviews SET search_vector = " + VECTOR_FROM_PARAMS + " WHERE id = ?",
+                bookText(review.getBook()), nullToEmpty(review.getContent()), userText(review.getUser()), review.getId());
+    }
+
+    /**
+     * (Re)index a reflection from the entity's in-memory state
+     */
+    public void indexReflection(Reflection reflection) {
+        if (!available || reflection.getId() == null) {
+            return;
+        }
+        jdbcTemplate.update("UPDATE reflections SET search_vector = " + VECTOR_FROM_PARAMS + " WHERE id = ?",
+                bookText(reflection.getBook()), nullToEmpty(reflection.getContent()), userText(reflection.getUser()),
+                reflection.getId());
+    }
+
+    /**
+     * Re-index everything written about a book (after its title/author changed and was flushed)
+     */
+    public void reindexBook(Long bookId) {
+        if (!available) {
+            return;
+        }
+        reindexWhere("book_reviews", "t.book_id = ?", bookId);
+        reindexWhere("reflections", "t.book_id = ?", bookId);
+    }
+
+    /**
+     * Re-index everything a user wrote (after their username/display name changed and was flushed)
+     */
+    public void reindexUser(Long userId) {
+        if (!available) {
+            return;
+        }
+        reindexWhere("book_reviews", "t.user_id = ?", userId);
+        reindexWhere("reflections", "t.user_id = ?", userId);
+    }
+
+    /**
+     * Re-index a reading list from its name, description and items (after they were flushed)
+     */
+    public void reindexList(Long listId) {
+        if (!available) {
+            return;
+        }
+        jdbcTemplate.update("UPDATE reading_lists t SET search_vector = " + LIST_VECTOR_FROM_JOINS
+                + " WHERE t.id = ?", listId);
+    }
+
+    // ============================================
+    // Query helpers
+    // ============================================
+
+    /**
+     * Turn free user input into a prefix tsquery: "lord ring" -> "lord:* & ring:*".
+     * Only letters/digits survive, so the result is always valid tsquery syntax.
+     *
+     * @return null when the input has no searchable terms
+     */
+    public static String toPrefixQuery(String query) {
+        if (query == null) {
+            return null;
+        }
+        String tsQuery = Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_TERMS)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        return tsQuery.isEmpty() ? null : tsQuery;
+    }
+
+    /**
+     * HTML-escape a ts_headline snippet and turn the match delimiters into <mark> tags
+     */
+    public static String renderHighlight(SearchHit hit) {
+        if (hit.getHighlight() == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(hit.getHighlight())
+                .replace(MARK_START, "<mark>")
+                .replace(MARK_END, "</mark>");
+    }
+
+    // ============================================
+    // Internals
+    // ============================================
+
+    private int backfill(String table, String vectorExpression) {
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update("UPDATE " + table + " t SET search_vector = " + vectorExpression
+                    + " WHERE t.id IN (SELECT id FROM " + table + " WHERE search_vector IS NULL LIMIT ?)",
+                    backfillBatchSize);
+            total += updated;
+        } while (updated == backfillBatchSize);
+        return total;
+    }
+
+    private void reindexWhere(String table, String condition, Long id) {
+        jdbcTemplate.update("UPDATE " + table + " t SET search_vector = " + VECTOR_FROM_JOINS
+                + " WHERE " + condition, id);
+    }
+
+    private String bookText(Book book) {
+        return book == null ? "" : nullToEmpty(book.getTitle()) + " " + nullToEmpty(book.getAuthor());
+    }
+
+    private String userText(User user) {
+        return user == null ? "" : nullToEmpty(user.getUsername()) + " " + nullToEmpty(user.getDisplayName());
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,254 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.dto.ReadingListResponse;
+import com.booksiread.backend.dto.ReflectionResponse;
+import com.booksiread.backend.dto.ReviewResponse;
+import com.booksiread.backend.dto.SearchResponse;
+import com.booksiread.backend.dto.SearchResponse.Result;
+import com.booksiread.backend.dto.SearchResponse.ResultType;
+import com.booksiread.backend.dto.SearchResponse.SourceStatus;
+import com.booksiread.backend.dto.UserCardResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * SearchService - Unified search across users, reviews, reflections and reading lists
+ *
+ * Each source runs in parallel on the bounded searchExecutor with its own time budget.
+ * The budget starts when the source gets a thread (a source may first wait up to one budget
+ * in the queue) and is also set as the transaction's statement_timeout, so Postgres cancels a
+ * query that overruns instead of letting it hold a thread and a connection after we gave up.
+ * Sources that time out or fail are reported in the response and the rest are returned
+ * (partial results). Hits are merged with weighted reciprocal-rank fusion:
+ *   score = weight(source) / (RRF_K + position in source)
+ * so each source's own relevance order is kept and the top hits of every source interleave.
+ */
+@Service
+public class SearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchService.class);
+
+    private static final int RRF_K = 10;
+    private static final int MAX_LIMIT = 20;
+
+    private static final Map<ResultType, Double> SOURCE_WEIGHTS = Map.of(
+            ResultType.USER, 1.0,
+            ResultType.REVIEW, 0.9,
+            ResultType.LIST, 0.85,
+            ResultType.REFLECTION, 0.8
+    );
+
+    private final SocialService socialService;
+    private final ReviewService reviewService;
+    private final ReadingListService readingListService;
+    private final Executor searchExecutor;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<ResultType, Duration> budgets = new EnumMap<>(ResultType.class);
+
+    public SearchService(SocialService socialService,
+                         ReviewService reviewService,
+                         ReadingListService readingListService,
+                         @Qualifier("searchExecutor") Executor searchExecutor,
+                         JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${search.federated.budget.users:150ms}") Duration usersBudget,
+                         @Value("${search.federated.budget.reviews:400ms}") Duration reviewsBudget,
+                         @Value("${search.federated.budget.reflections:400ms}") Duration reflectionsBudget,
+                         @Value("${search.federated.budget.lists:400ms}") Duration listsBudget) {
+        this.socialService = socialService;
+        this.reviewService = reviewService;
+        this.readingListService = readingListService;
+        this.searchExecutor = searchExecutor;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        budgets.put(ResultType.USER, usersBudget);
+        budgets.put(ResultType.REVIEW, reviewsBudget);
+        budgets.put(ResultType.REFLECTION, reflectionsBudget);
+        budgets.put(ResultType.LIST, listsBudget);
+    }
+
+    /**
+     * Search every requested source in parallel and merge the results
+     *
+     * @param types sources to query (all when null/empty)
+     * @param limit max hits per source
+     */
+    public SearchResponse search(String query, Set<ResultType> types, int limit, Long viewerId) {
+        long start = System.nanoTime();
+        int perSource = Math.max(1, Math.min(limit, MAX_LIMIT));
+        Set<ResultType> requested = types == null || types.isEmpty() ? SOURCE_WEIGHTS.keySet() : types;
+
+        // Fan out
+        Map<ResultType, PendingSource> pending = new EnumMap<>(ResultType.class);
+        Map<ResultType, SourceStatus> statuses = new LinkedHashMap<>();
+        for (ResultType type : ResultType.values()) {
+            if (!requested.contains(type)) {
+                statuses.put(type, new SourceStatus("SKIPPED", 0, 0, 0));
+                continue;
+            }
+            try {
+                PendingSource source = new PendingSource();
+                source.future = CompletableFuture.supplyAsync(
+                        started(source, type, () -> runSource(type, query, perSource, viewerId)), searchExecutor);
+                pending.put(type, source);
+            } catch (RuntimeException e) {
+                // Executor saturated
+                statuses.put(type, new SourceStatus("ERROR", 0, 0, 0));
+            }
+        }
+
+        // Gather, each source bounded by its own budget measured from when it started running
+        List<Result> merged = new ArrayList<>();
+        boolean partial = false;
+        for (Map.Entry<ResultType, PendingSource> entry : pending.entrySet()) {
+            ResultType type = entry.getKey();
+            try {
+                SourceResult result = await(entry.getValue(), budgets.get(type).toNanos(), start);
+                merged.addAll(result.results());
+                statuses.put(type, new SourceStatus("OK", result.results().size(), result.total(), result.tookMs()));
+            } catch (TimeoutException e) {
+                // A source still queued is dropped by the cancel; a running one is stopped by its statement_timeout
+                entry.getValue().future.cancel(false);
+                statuses.put(type, new SourceStatus("TIMEOUT", 0, 0, budgets.get(type).toMillis()));
+                partial = true;
+            } catch (ExecutionException e) {
+                logger.warn("Search source {} failed: {}", type, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                statuses.put(type, new SourceStatus("ERROR", 0, 0, 0));
+                partial = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                statuses.put(type, new SourceStatus("ERROR", 0, 0, 0));
+                partial = true;
+            }
+        }
+        partial |= statuses.values().stream().anyMatch(s -> "ERROR".equals(s.getStatus()));
+
+        merged.sort(Comparator.comparingDouble(Result::getScore).reversed()
+                .thenComparing(r -> r.getType().ordinal()));
+
+        Map<String, SourceStatus> sources = new LinkedHashMap<>();
+        statuses.forEach((type, status) -> sources.put(type.name().toLowerCase(Locale.ROOT), status));
+
+        SearchResponse response = new SearchResponse();
+        response.setQuery(query);
+        response.setResults(merged);
+        response.setSources(sources);
+        response.setPartial(partial);
+        response.setTookMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return response;
+    }
+
+    // ============================================
+    // Sources
+    // ============================================
+
+    private SourceResult runSource(ResultType type, String query, int limit, Long viewerId) {
+        List<Result> results = new ArrayList<>();
+        long total;
+        switch (type) {
+            case USER -> {
+                Page<UserCardResponse> page = socialService.searchUsers(query, viewerId, 0, limit);
+                page.getContent().forEach(user -> results.add(result(type, user.getId(), results.size(), r -> r.setUser(user))));
+                total = page.getTotalElements();
+            }
+            case REVIEW -> {
+                Page<ReviewResponse> page = reviewService.searchReviews(query, viewerId, 0, limit);
+                page.getContent().forEach(review -> results.add(result(type, review.getId(), results.size(), r -> r.setReview(review))));
+                total = page.getTotalElements();
+            }
+            case REFLECTION -> {
+                Page<ReflectionResponse> page = socialService.searchReflections(query, viewerId, 0, limit);
+                page.getContent().forEach(reflection -> results.add(result(type, reflection.getId(), results.size(), r -> r.setReflection(reflection))));
+                total = page.getTotalElements();
+            }
+            case LIST -> {
+                Page<ReadingListResponse> page = readingListService.searchLists(query, viewerId, 0, limit);
+                page.getContent().forEach(list -> results.add(result(type, list.getId(), results.size(), r -> r.setList(list))));
+                total = page.getTotalElements();
+            }
+            default -> throw new IllegalArgumentException("Unknown search source: " + type);
+        }
+        return new SourceResult(results, total, 0);
+    }
+
+    private Result result(ResultType type, Long id, int position, Consumer<Result> payload) {
+        Result result = new Result();
+        result.setType(type);
+        result.setId(id);
+        result.setScore(Math.round(SOURCE_WEIGHTS.get(type) / (RRF_K + position) * 100000.0) / 100000.0);
+        payload.accept(result);
+        return result;
+    }
+
+    /**
+     * Wrap a source call so it records when it got a thread, runs in a read-only transaction
+     * whose statement_timeout is the source's budget, and reports its own duration
+     */
+    private Supplier<SourceResult> started(PendingSource pending, ResultType type, Supplier<SourceResult> source) {
+        long timeoutMs = Math.max(1, budgets.get(type).toMillis());
+        return () -> {
+            long start = System.nanoTime();
+            pending.startedNanos = start;
+            SourceResult result = readOnlyTransaction.execute(status -> {
+                jdbcTemplate.execute("SET LOCAL statement_timeout = " + timeoutMs);
+                return source.get();
+            });
+            return new SourceResult(result.results(), result.total(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        };
+    }
+
+    /**
+     * Wait for a source: budgetNanos from when it started running, or - while it is still
+     * queued - until one budget past the fan-out, after which it is reported as timed out
+     */
+    private SourceResult await(PendingSource source, long budgetNanos, long fanOutNanos)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        while (true) {
+            long started = source.startedNanos;
+            long deadline = started != 0 ? started + budgetNanos : fanOutNanos + budgetNanos;
+            try {
+                return source.future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (started != 0 || source.startedNanos == 0) {
+                    throw e;
+                }
+                // Picked up by a thread while we waited on the queue deadline; wait out its own budget
+            }
+        }
+    }
+
+    /** A submitted source; startedNanos stays 0 while the task is queued */
+    private static final class PendingSource {
+        private CompletableFuture<SourceResult> future;
+        private volatile long startedNanos;
+    }
+
+    private record SourceResult(List<Result> results, long total, long tookMs) {}
+}
@@ -1,20 +1,35 @@
 package com.booksiread.backend.service;
 
+import com.booksiread.backend.counter.EngagementCounterBuffer.Field;
+import com.booksiread.backend.counter.EngagementCounterBuffer.Target;
 import com.booksiread.backend.dto.*;
 import com.booksiread.backend.entity.*;
+import com.booksiread.backend.event.UserCounterEvent;
+import com.booksiread.backend.exception.ResourceNotFoundException;
 import com.booksiread.backend.repository.*;
+import com.booksiread.backend.search.UserTypeaheadIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * SocialService - Handles all social network features
@@ -67,6 +82,30 @@ public class SocialService {
     @Autowired
     private FeedRankingService feedRankingService;
 
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private UserTypeaheadService userTypeaheadService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EngagementCounterService engagementCounters;
+
+    @Autowired
+    private BulkDeleteService bulkDeleteService;
+
+    @Value("${comments.replies.preview-size:3}")
+    private int replyPreviewSize;
+
+    @Value("${comments.replies.page-size:20}")
+    private int replyPageSize;
+
+    @Value("${comments.replies.max-page-size:100}")
+    private int replyMaxPageSize;
+
     // ============================================
     // Profile Management
     // ============================================
@@ -95,6 +134,8 @@ public class SocialService {
     public UserProfileResponse updateProfile(Long userId, UpdateProfileRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        String oldUsername = user.getUsername();
+        String oldDisplayName = user.getDisplayName();
 
         // Handle username change
         if (request.getUsername() != null && !request.getUsername().isBlank()
@@ -120,8 +161,16 @@ public class SocialService {
         if (request.getFavoriteGenres() != null) {
             user.setFavoriteGenres(request.getFavoriteGenres());
         }
+        boolean nameChanged = !Objects.equals(oldUsername, user.getUsername())
+                || !Objects.equals(oldDisplayName, user.getDisplayName());
 
         User savedUser = userRepository.save(user);
+        if (nameChanged) {
+            // Names are part of the search index for everything this user wrote
+            userRepository.flush();
+            searchIndexService.reindexUser(userId);
+            userTypeaheadService.indexAfterCommit(savedUser);
+        }
         return mapToProfileResponse(savedUser, userId);
     }
 
@@ -185,6 +234,7 @@ public class SocialService {
             follower.setFollowingCount(Math.max(0, follower.getFollowingCount() - 1));
             userRepository.save(target);
             userRepository.save(follower);
+            userTypeaheadService.followersChangedAfterCommit(target);
         }
 
         // Also cancel any pending request
@@ -300,12 +350,27 @@ public class SocialService {
     // ============================================
 
     /**
-     * Search users by username or display name
+     * Search users by username or display name.
+     * Matching and ranking run on the in-memory typeahead index; the database is only
+     * used to hydrate the returned page.
      */
+    @Transactional(readOnly = true)
     public Page<UserCardResponse> searchUsers(String query, Long viewerId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<User> users = userRepository.searchUsers(query, pageable);
-        return users.map(u -> mapToUserCard(u, viewerId));
+        if (!userTypeaheadService.isReady()) {
+            Page<User> users = userRepository.searchUsers(query, pageable);
+            return users.map(u -> mapToUserCard(u, viewerId));
+        }
+
+        UserTypeaheadIndex.Result result = userTypeaheadService.search(query, page, size);
+        Map<Long, User> byId = userRepository.findAllById(result.ids()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<UserCardResponse> cards = result.ids().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(u -> mapToUserCard(u, viewerId))
+                .collect(Collectors.toList());
+        return new PageImpl<>(cards, pageable, result.total());
     }
 
     /**
@@ -339,7 +404,7 @@ public class SocialService {
                 ? currentUser.getFavoriteGenres().stream().map(String::toLowerCase).toList()
                 : List.of();
 
-        List<Book> myBooks = bookRepository.findByUser(currentUser);
+        List<BookRepository.TitleAuthorRow> myBooks = bookRepository.findTitleAuthorByUserId(userId);
         Set<String> myAuthors = myBooks.stream()
                 .map(b -> b.getAuthor().toLowerCase().trim())
                 .collect(Collectors.toSet());
@@ -369,7 +434,7 @@ public class SocialService {
             card.setSharedGenres(shared);
 
             // Compute shared authors
-            List<Book> theirBooks = bookRepository.findByUser(u).stream()
+            List<BookRepository.TitleAuthorRow> theirBooks = bookRepository.findTitleAuthorByUserId(u.getId()).stream()
                     .filter(b -> b.getIsPublic() == null || b.getIsPublic())
                     .toList();
             List<String> sharedAuthors = theirBooks.stream()
@@ -403,11 +468,11 @@ public class SocialService {
         if (followingIds.isEmpty()) {
             // If not following anyone, show public activities
             Page<UserActivity> activities = userActivityRepository.findPublicActivities(pageable);
-            return activities.map(a -> mapToActivityResponse(a, userId));
+            return mapActivities(activities, userId);
         }
         
         Page<UserActivity> activities = userActivityRepository.findFeedActivities(followingIds, pageable);
-        return activities.map(a -> mapToActivityResponse(a, userId));
+        return mapActivities(activities, userId);
     }
 
     /**
@@ -427,7 +492,7 @@ public class SocialService {
 
         Pageable pageable = PageRequest.of(page, size);
         Page<UserActivity> activities = userActivityRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
-        return activities.map(a -> mapToActivityResponse(a, viewerId));
+        return mapActivities(activities, viewerId);
     }
 
     /**
@@ -479,6 +544,8 @@ public class SocialService {
         }
 
         reflection = reflectionRepository.save(reflection);
+        searchIndexService.indexReflection(reflection);
+        eventPublisher.publishEvent(UserCounterEvent.increment(userId, UserCounterEvent.Counter.REFLECTIONS));
         return mapToReflectionResponse(reflection, userId);
     }
 
@@ -491,11 +558,8 @@ public class SocialService {
         if (!reflection.getUser().getId().equals(userId)) {
             throw new RuntimeException("Not authorized to delete this reflection");
         }
-        // Cascade delete related entities
-        reflectionLikeRepository.deleteByReflectionId(reflectionId);
-        reflectionCommentRepository.deleteByReflectionId(reflectionId);
-        savedReflectionRepository.deleteByReflectionId(reflectionId);
-        reflectionRepository.delete(reflection);
+        // Likes, comments and saves go with it (set-based, FK cascades)
+        bulkDeleteService.deleteReflections(List.of(reflectionId));
     }
 
     /**
@@ -518,8 +582,7 @@ public class SocialService {
      */
     public Page<ReflectionResponse> getFollowingReflections(Long userId, int page, int size, String sort) {
         if ("relevant".equalsIgnoreCase(sort)) {
-            return feedRankingService.getRankedFollowingReflections(userId, page, size)
-                    .map(r -> mapToReflectionResponse(r, userId));
+            return mapReflections(feedRankingService.getRankedFollowingReflections(userId, page, size), userId);
         }
         List<Long> followingIds = userFollowRepository.findFollowingIdsByUserId(userId);
         Pageable pageable = PageRequest.of(page, size);
@@ -527,7 +590,7 @@ public class SocialService {
             return Page.empty(pageable);
         }
         Page<Reflection> reflections = reflectionRepository.findFollowingFeed(followingIds, pageable);
-        return reflections.map(r -> mapToReflectionResponse(r, userId));
+        return mapReflections(reflections, userId);
     }
 
     /** Backward-compatible overload (defaults to relevant) */
@@ -541,8 +604,7 @@ public class SocialService {
      */
     public Page<ReflectionResponse> getEveryoneReflections(Long userId, int page, int size, String sort) {
         if ("relevant".equalsIgnoreCase(sort)) {
-            return feedRankingService.getRankedEveryoneReflections(userId, page, size)
-                    .map(r -> mapToReflectionResponse(r, userId));
+            return mapReflections(feedRankingService.getRankedEveryoneReflections(userId, page, size), userId);
         }
         List<Long> followingIds = userFollowRepository.findFollowingIdsByUserId(userId);
         Pageable pageable = PageRequest.of(page, size);
@@ -552,7 +614,7 @@ public class SocialService {
         } else {
             reflections = reflectionRepository.findEveryoneFeed(followingIds, pageable);
         }
-        return reflections.map(r -> mapToReflectionResponse(r, userId));
+        return mapReflections(reflections, userId);
     }
 
     /** Backward-compatible overload (defaults to relevant) */
@@ -575,28 +637,64 @@ public class SocialService {
     public Page<ReflectionResponse> getUserReflections(Long userId, Long viewerId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         Page<Reflection> reflections = reflectionRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
-        return reflections.map(r -> mapToReflectionResponse(r, viewerId));
+        return mapReflections(reflections, viewerId);
     }
 
     /**
-     * Search reflections by content, book title, author, or user name
+     * Search reflections by content, book title, author, or user name.
+     * Uses the ranked full-text index (prefix matching, highlighted snippets) when available.
      */
     @Transactional(readOnly = true)
     public Page<ReflectionResponse> searchReflections(String query, Long viewerId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Reflection> reflections = reflectionRepository.searchReflections(query.trim(), pageable);
-        return reflections.map(r -> mapToReflectionResponse(r, viewerId));
+        if (!searchIndexService.isAvailable()) {
+            Page<Reflection> reflections = reflectionRepository.searchReflections(query.trim(), pageable);
+            return mapReflections(reflections, viewerId);
+        }
+
+        String tsQuery = SearchIndexService.toPrefixQuery(query);
+        if (tsQuery == null) {
+            return Page.empty(pageable);
+        }
+        List<SearchHit> hits = reflectionRepository.fullTextSearch(
+                tsQuery, SearchIndexService.HEADLINE_OPTIONS, size, pageable.getOffset());
+        Map<Long, Reflection> byId = reflectionRepository.findAllById(hits.stream().map(SearchHit::getId).toList())
+                .stream().collect(Collectors.toMap(Reflection::getId, Function.identity()));
+
+        Map<Long, BookRepository.BookSummaryRow> books = loadBookSummaries(byId.values().stream().map(Reflection::getBook));
+
+        List<ReflectionResponse> results = new ArrayList<>();
+        for (SearchHit hit : hits) {
+            Reflection reflection = byId.get(hit.getId());
+            if (reflection != null) {
+                ReflectionResponse response = mapToReflectionResponse(reflection, viewerId, books);
+                response.setHighlight(SearchIndexService.renderHighlight(hit));
+                results.add(response);
+            }
+        }
+        return new PageImpl<>(results, pageable, reflectionRepository.countFullTextSearch(tsQuery));
+    }
+
+    private Page<ReflectionResponse> mapReflections(Page<Reflection> reflections, Long viewerId) {
+        Map<Long, BookRepository.BookSummaryRow> books =
+                loadBookSummaries(reflections.getContent().stream().map(Reflection::getBook));
+        return reflections.map(r -> mapToReflectionResponse(r, viewerId, books));
     }
 
     private ReflectionResponse mapToReflectionResponse(Reflection reflection, Long viewerId) {
+        return mapToReflectionResponse(reflection, viewerId, loadBookSummaries(Stream.of(reflection.getBook())));
+    }
+
+    private ReflectionResponse mapToReflectionResponse(Reflection reflection, Long viewerId,
+                                                       Map<Long, BookRepository.BookSummaryRow> books) {
         ReflectionResponse response = new ReflectionResponse();
         response.setId(reflection.getId());
         response.setContent(reflection.getContent());
         response.setUser(mapToUserCard(reflection.getUser(), viewerId));
         response.setVisibleToFollowersOnly(reflection.getVisibleToFollowersOnly());
-        response.setLikesCount(reflection.getLikesCount());
-        response.setCommentsCount(reflection.getCommentsCount());
-        response.setSavesCount(reflection.getSavesCount());
+        response.setLikesCount(engagementCounters.live(Target.REFLECTION, Field.LIKES, reflection.getId(), reflection.getLikesCount()));
+        response.setCommentsCount(engagementCounters.live(Target.REFLECTION, Field.COMMENTS, reflection.getId(), reflection.getCommentsCount()));
+        response.setSavesCount(engagementCounters.live(Target.REFLECTION, Field.SAVES, reflection.getId(), reflection.getSavesCount()));
         response.setCreatedAt(reflection.getCreatedAt());
 
         // Has the viewer liked / saved this reflection?
@@ -608,45 +706,75 @@ public class SocialService {
             response.setHasSaved(false);
         }
 
-        if (reflection.getBook() != null) {
+        BookRepository.BookSummaryRow book = reflection.getBook() != null ? books.get(reflection.getBook().getId()) : null;
+        if (book != null) {
             ReflectionResponse.BookSummary bookSummary = new ReflectionResponse.BookSummary();
-            bookSummary.setId(reflection.getBook().getId());
-            bookSummary.setTitle(reflection.getBook().getTitle());
-            bookSummary.setAuthor(reflection.getBook().getAuthor());
+            bookSummary.setId(book.getId());
+            bookSummary.setTitle(book.getTitle());
+            bookSummary.setAuthor(book.getAuthor());
             response.setBook(bookSummary);
         }
 
         // Load 3 most recent top-level comments with replies
         Page<ReflectionComment> recentPage = reflectionCommentRepository
                 .findByReflectionIdAndParentCommentIsNullOrderByCreatedAtAsc(reflection.getId(), PageRequest.of(0, 3));
-        List<ReflectionResponse.CommentResponse> recentComments = recentPage.getContent().stream()
-                .map(c -> mapToCommentResponseWithReplies(c, viewerId))
-                .collect(Collectors.toList());
-        response.setRecentComments(recentComments);
+        response.setRecentComments(mapCommentThread(recentPage.getContent(), viewerId));
 
         return response;
     }
 
-    private ReflectionResponse.CommentResponse mapToCommentResponse(ReflectionComment comment, Long viewerId) {
+    private ReflectionResponse.CommentResponse mapToCommentResponse(ReflectionComment comment, Long viewerId,
+                                                                   Relationships relationships) {
         ReflectionResponse.CommentResponse resp = new ReflectionResponse.CommentResponse();
         resp.setId(comment.getId());
         resp.setContent(comment.getContent());
-        resp.setUser(mapToUserCard(comment.getUser(), viewerId));
+        resp.setUser(mapToUserCard(comment.getUser(), viewerId, relationships));
         resp.setCreatedAt(comment.getCreatedAt());
         resp.setParentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null);
-        resp.setReplyCount(comment.getReplies() != null ? comment.getReplies().size() : 0);
+        resp.setReplyCount(comment.getRepliesCount());
         return resp;
     }
 
-    private ReflectionResponse.CommentResponse mapToCommentResponseWithReplies(ReflectionComment comment, Long viewerId) {
-        ReflectionResponse.CommentResponse resp = mapToCommentResponse(comment, viewerId);
-        if (comment.getReplies() != null && !comment.getReplies().isEmpty()) {
-            List<ReflectionResponse.CommentResponse> replies = comment.getReplies().stream()
-                    .map(r -> mapToCommentResponse(r, viewerId))
-                    .collect(Collectors.toList());
-            resp.setReplies(replies);
+    /**
+     * Map comments whose authors' follow state is loaded once for the whole list
+     */
+    private List<ReflectionResponse.CommentResponse> mapComments(List<ReflectionComment> comments, Long viewerId) {
+        Relationships relationships = loadRelationships(comments.stream().map(ReflectionComment::getUser), viewerId);
+        return comments.stream()
+                .map(c -> mapToCommentResponse(c, viewerId, relationships))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Top-level comments with a preview of their first replies attached. Reply counts are
+     * stored on each comment; the previews for the whole page come from two queries and the
+     * authors' follow state from one lookup, so a view costs the same however large its
+     * threads are. The rest is paged through getReflectionCommentReplies.
+     */
+    private List<ReflectionResponse.CommentResponse> mapCommentThread(List<ReflectionComment> topLevel, Long viewerId) {
+        List<Long> parentIds = topLevel.stream()
+                .filter(c -> c.getRepliesCount() > 0)
+                .map(ReflectionComment::getId)
+                .toList();
+        List<Long> previewIds = parentIds.isEmpty()
+                ? List.of()
+                : reflectionCommentRepository.findReplyPreviewIds(parentIds, replyPreviewSize);
+        List<ReflectionComment> previews = previewIds.isEmpty()
+                ? List.of()
+                : reflectionCommentRepository.findWithAuthorsByIdIn(previewIds);
+        Relationships relationships = loadRelationships(
+                Stream.concat(topLevel.stream(), previews.stream()).map(ReflectionComment::getUser), viewerId);
+
+        Map<Long, List<ReflectionResponse.CommentResponse>> repliesByParent = new HashMap<>();
+        for (ReflectionComment reply : previews) {
+            repliesByParent.computeIfAbsent(reply.getParentComment().getId(), k -> new ArrayList<>())
+                    .add(mapToCommentResponse(reply, viewerId, relationships));
         }
-        return resp;
+        return topLevel.stream().map(comment -> {
+            ReflectionResponse.CommentResponse resp = mapToCommentResponse(comment, viewerId, relationships);
+            resp.setReplies(repliesByParent.get(comment.getId()));
+            return resp;
+        }).collect(Collectors.toList());
     }
 
     // ============================================
@@ -660,19 +788,12 @@ public class SocialService {
         Reflection reflection = reflectionRepository.findById(reflectionId)
                 .orElseThrow(() -> new RuntimeException("Reflection not found"));
 
-        Optional<ReflectionLike> existing = reflectionLikeRepository.findByReflectionIdAndUserId(reflectionId, userId);
-        if (existing.isPresent()) {
-            // Unlike
-            reflectionLikeRepository.delete(existing.get());
-            reflection.setLikesCount(Math.max(0, reflection.getLikesCount() - 1));
-        } else {
-            // Like
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-            reflectionLikeRepository.save(new ReflectionLike(reflection, user));
-            reflection.setLikesCount(reflection.getLikesCount() + 1);
+        // Counter moves only by the rows actually changed - safe under concurrent toggles
+        if (reflectionLikeRepository.deleteLike(reflectionId, userId) > 0) {
+            engagementCounters.record(Target.REFLECTION, Field.LIKES, reflectionId, -1);
+        } else if (reflectionLikeRepository.insertIfAbsent(reflectionId, userId) > 0) {
+            engagementCounters.record(Target.REFLECTION, Field.LIKES, reflectionId, 1);
         }
-        reflection = reflectionRepository.save(reflection);
         return mapToReflectionResponse(reflection, userId);
     }
 
@@ -701,8 +822,10 @@ public class SocialService {
         ReflectionComment savedComment = reflectionCommentRepository.save(comment);
 
         // Update comments count
-        reflection.setCommentsCount(reflection.getCommentsCount() + 1);
-        reflectionRepository.save(reflection);
+        engagementCounters.record(Target.REFLECTION, Field.COMMENTS, reflectionId, 1);
+        if (parentId != null) {
+            reflectionCommentRepository.adjustRepliesCount(parentId, 1);
+        }
 
         // Notifications
         if (parentId != null) {
@@ -715,7 +838,7 @@ public class SocialService {
         // Process @mentions
         notificationService.processReflectionMentions(user, content, reflection.getBook(), reflectionId, savedComment.getId());
 
-        return mapToCommentResponse(savedComment, userId);
+        return mapToCommentResponse(savedComment, userId, Relationships.NONE);
     }
 
     /** Backward-compatible overload */
@@ -730,15 +853,27 @@ public class SocialService {
         Pageable pageable = PageRequest.of(page, size);
         Page<ReflectionComment> comments = reflectionCommentRepository
                 .findByReflectionIdAndParentCommentIsNullOrderByCreatedAtAsc(reflectionId, pageable);
-        return comments.map(c -> mapToCommentResponseWithReplies(c, viewerId));
+        return new PageImpl<>(mapCommentThread(comments.getContent(), viewerId), pageable, comments.getTotalElements());
     }
 
     /**
-     * Get replies for a specific comment.
+     * Get one page of replies for a comment, oldest first.
+     *
+     * @param after cursor from the previous page (last reply id), or null for the first page
+     * @param limit page size, capped at comments.replies.max-page-size
      */
-    public List<ReflectionResponse.CommentResponse> getReflectionCommentReplies(Long commentId, Long viewerId) {
-        List<ReflectionComment> replies = reflectionCommentRepository.findByParentCommentIdOrderByCreatedAtAsc(commentId);
-        return replies.stream().map(c -> mapToCommentResponse(c, viewerId)).collect(Collectors.toList());
+    public ReplyPageResponse<ReflectionResponse.CommentResponse> getReflectionCommentReplies(
+            Long commentId, Long viewerId, Long after, Integer limit) {
+        int size = Math.min(limit != null && limit > 0 ? limit : replyPageSize, replyMaxPageSize);
+        // One extra row tells whether another page exists
+        List<ReflectionComment> replies = reflectionCommentRepository.findReplyPage(
+                commentId, after != null ? after : 0L, PageRequest.of(0, size + 1));
+        Long nextCursor = null;
+        if (replies.size() > size) {
+            replies = replies.subList(0, size);
+            nextCursor = replies.get(size - 1).getId();
+        }
+        return new ReplyPageResponse<>(mapComments(replies, viewerId), nextCursor);
     }
 
     /**
@@ -753,12 +888,13 @@ public class SocialService {
         if (!isCommentOwner && !isReflectionOwner) {
             throw new RuntimeException("Not authorized to delete this comment");
         }
+        if (comment.getParentComment() != null) {
+            reflectionCommentRepository.adjustRepliesCount(comment.getParentComment().getId(), -1);
+        }
         reflectionCommentRepository.delete(comment);
 
         // Update comments count
-        Reflection reflection = comment.getReflection();
-        reflection.setCommentsCount(Math.max(0, reflection.getCommentsCount() - 1));
-        reflectionRepository.save(reflection);
+        engagementCounters.record(Target.REFLECTION, Field.COMMENTS, comment.getReflection().getId(), -1);
     }
 
     // ============================================
@@ -772,31 +908,76 @@ public class SocialService {
         Reflection reflection = reflectionRepository.findById(reflectionId)
                 .orElseThrow(() -> new RuntimeException("Reflection not found"));
 
-        Optional<SavedReflection> existing = savedReflectionRepository.findByUserIdAndReflectionId(userId, reflectionId);
-        if (existing.isPresent()) {
-            // Unsave
-            savedReflectionRepository.delete(existing.get());
-            reflection.setSavesCount(Math.max(0, reflection.getSavesCount() - 1));
-        } else {
-            // Save
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-            savedReflectionRepository.save(new SavedReflection(user, reflection));
-            reflection.setSavesCount(reflection.getSavesCount() + 1);
+        if (savedReflectionRepository.deleteSave(userId, reflectionId) > 0) {
+            engagementCounters.record(Target.REFLECTION, Field.SAVES, reflectionId, -1);
+        } else if (savedReflectionRepository.insertIfAbsent(userId, reflectionId) > 0) {
+            engagementCounters.record(Target.REFLECTION, Field.SAVES, reflectionId, 1);
         }
-        reflection = reflectionRepository.save(reflection);
         return mapToReflectionResponse(reflection, userId);
     }
 
+    // ============================================
+    // Idempotent like/save (PUT = on, DELETE = off)
+    // Each is one counter read (also the existence check) plus one INSERT ... ON CONFLICT
+    // DO NOTHING / DELETE whose row count says whether anything changed.
+    // ============================================
+
+    public EngagementResponse likeReflection(Long reflectionId, Long userId) {
+        int persisted = reflectionRepository.findLikesCount(reflectionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Reflection not found"));
+        boolean changed = reflectionLikeRepository.insertIfAbsent(reflectionId, userId) > 0;
+        if (changed) {
+            engagementCounters.record(Target.REFLECTION, Field.LIKES, reflectionId, 1);
+        }
+        return new EngagementResponse(true, changed,
+                engagementCounters.live(Target.REFLECTION, Field.LIKES, reflectionId, persisted));
+    }
+
+    public EngagementResponse unlikeReflection(Long reflectionId, Long userId) {
+        int persisted = reflectionRepository.findLikesCount(reflectionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Reflection not found"));
+        boolean changed = reflectionLikeRepository.deleteLike(reflectionId, userId) > 0;
+        if (changed) {
+            engagementCounters.record(Target.REFLECTION, Field.LIKES, reflectionId, -1);
+        }
+        return new EngagementResponse(false, changed,
+                engagementCounters.live(Target.REFLECTION, Field.LIKES, reflectionId, persisted));
+    }
+
+    public EngagementResponse saveReflection(Long reflectionId, Long userId) {
+        int persisted = reflectionRepository.findSavesCount(reflectionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Reflection not found"));
+        boolean changed = savedReflectionRepository.insertIfAbsent(userId, reflectionId) > 0;
+        if (changed) {
+            engagementCounters.record(Target.REFLECTION, Field.SAVES, reflectionId, 1);
+        }
+        return new EngagementResponse(true, changed,
+                engagementCounters.live(Target.REFLECTION, Field.SAVES, reflectionId, persisted));
+    }
+
+    public EngagementResponse unsaveReflection(Long reflectionId, Long userId) {
+        int persisted = reflectionRepository.findSavesCount(reflectionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Reflection not found"));
+        boolean changed = savedReflectionRepository.deleteSave(userId, reflectionId) > 0;
+        if (changed) {
+            engagementCounters.record(Target.REFLECTION, Field.SAVES, reflectionId, -1);
+        }
+        return new EngagementResponse(false, changed,
+                engagementCounters.live(Target.REFLECTION, Field.SAVES, reflectionId, persisted));
+    }
+
     /**
      * Get all reflections saved/bookmarked by a user (paginated).
      */
     @Transactional(readOnly = true)
     public Page<ReflectionResponse> getSavedReflections(Long userId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        return savedReflectionRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
+        Page<SavedReflection> saves = savedReflectionRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
+        Map<Long, BookRepository.BookSummaryRow> books =
+                loadBookSummaries(saves.getContent().stream().map(saved -> saved.getReflection().getBook()));
+        return saves
                 .map(saved -> {
-                    ReflectionResponse response = mapToReflectionResponse(saved.getReflection(), userId);
+                    ReflectionResponse response = mapToReflectionResponse(saved.getReflection(), userId, books);
                     response.setSavedAt(saved.getCreatedAt());
                     return response;
                 });
@@ -815,6 +996,7 @@ public class SocialService {
         follower.setFollowingCount(follower.getFollowingCount() + 1);
         userRepository.save(target);
         userRepository.save(follower);
+        userTypeaheadService.followersChangedAfterCommit(target);
 
         // Record activity
         UserActivity activity = new UserActivity(follower, UserActivity.ActivityType.FOLLOWED_USER, target);
@@ -852,22 +1034,24 @@ public class SocialService {
         response.setIsPublic(user.getIsPublic());
         response.setFollowersCount(user.getFollowersCount());
         response.setFollowingCount(user.getFollowingCount());
+        // Denormalized counters maintained by UserCounterService - no COUNT queries per view
         boolean isOwn = user.getId().equals(viewerId);
-        response.setBooksCount((int) (isOwn ? bookRepository.countByUserId(user.getId()) : bookRepository.countByUserIdAndIsPublicTrue(user.getId())));
-        response.setReviewsCount((int) bookReviewRepository.countByUserId(user.getId()));
-        response.setListsCount((int) readingListRepository.countByUserId(user.getId()));
-        response.setReflectionsCount((int) reflectionRepository.countByUserId(user.getId()));
-        response.setFavoriteGenres(user.getFavoriteGenres());
+        response.setBooksCount(isOwn ? user.getBooksCount() : user.getPublicBooksCount());
+        response.setReviewsCount(user.getReviewsCount());
+        response.setListsCount(user.getListsCount());
+        response.setReflectionsCount(user.getReflectionsCount());
+        // Copied: the lazy collection can't be serialized once the transaction has closed
+        response.setFavoriteGenres(user.getFavoriteGenres() != null ? new ArrayList<>(user.getFavoriteGenres()) : null);
         response.setCreatedAt(user.getCreatedAt());
 
         // Relationship status
         response.setIsOwnProfile(user.getId().equals(viewerId));
         
         if (viewerId != null && !user.getId().equals(viewerId)) {
-            response.setIsFollowing(userFollowRepository.existsByFollowerIdAndFollowingId(viewerId, user.getId()));
-            response.setIsFollowedBy(userFollowRepository.existsByFollowerIdAndFollowingId(user.getId(), viewerId));
-            response.setHasPendingRequest(followRequestRepository.existsByRequesterIdAndTargetIdAndStatus(
-                    viewerId, user.getId(), FollowRequest.RequestStatus.PENDING));
+            UserRepository.RelationshipRow relationship = userRepository.findRelationship(user.getId(), viewerId);
+            response.setIsFollowing(relationship.getFollowing() > 0);
+            response.setIsFollowedBy(relationship.getFollowedBy() > 0);
+            response.setHasPendingRequest(relationship.getPendingRequest() > 0);
         } else {
             response.setIsFollowing(false);
             response.setIsFollowedBy(false);
@@ -877,6 +1061,45 @@ public class SocialService {
         return response;
     }
 
+    /**
+     * Viewer's follow state towards a set of users, loaded with one query each for
+     * follows and pending requests instead of one relationship lookup per user
+     */
+    private record Relationships(Set<Long> following, Set<Long> pending) {
+        static final Relationships NONE = new Relationships(Set.of(), Set.of());
+    }
+
+    private Relationships loadRelationships(Stream<User> users, Long viewerId) {
+        if (viewerId == null) {
+            return Relationships.NONE;
+        }
+        Set<Long> userIds = users.map(User::getId)
+                .filter(id -> !id.equals(viewerId))
+                .collect(Collectors.toSet());
+        if (userIds.isEmpty()) {
+            return Relationships.NONE;
+        }
+        return new Relationships(
+                new HashSet<>(userRepository.findFollowedAmong(viewerId, userIds)),
+                new HashSet<>(userRepository.findPendingRequestTargetsAmong(viewerId, userIds)));
+    }
+
+    private UserCardResponse mapToUserCard(User user, Long viewerId, Relationships relationships) {
+        UserCardResponse card = new UserCardResponse();
+        card.setId(user.getId());
+        card.setUsername(user.getUsername());
+        card.setDisplayName(user.getDisplayName() != null ? user.getDisplayName() : user.getUsername());
+        card.setProfilePictureUrl(user.getProfilePictureUrl());
+        card.setBio(user.getBio());
+        card.setIsPublic(user.getIsPublic());
+        card.setFollowersCount(user.getFollowersCount());
+        boolean isOwn = viewerId != null && user.getId().equals(viewerId);
+        card.setBooksCount(isOwn ? user.getBooksCount() : user.getPublicBooksCount());
+        card.setIsFollowing(relationships.following().contains(user.getId()));
+        card.setHasPendingRequest(relationships.pending().contains(user.getId()));
+        return card;
+    }
+
     private UserCardResponse mapToUserCard(User user, Long viewerId) {
         UserCardResponse card = new UserCardResponse();
         card.setId(user.getId());
@@ -887,12 +1110,12 @@ public class SocialService {
         card.setIsPublic(user.getIsPublic());
         card.setFollowersCount(user.getFollowersCount());
         boolean isOwn = viewerId != null && user.getId().equals(viewerId);
-        card.setBooksCount((int) (isOwn ? bookRepository.countByUserId(user.getId()) : bookRepository.countByUserIdAndIsPublicTrue(user.getId())));
+        card.setBooksCount(isOwn ? user.getBooksCount() : user.getPublicBooksCount());
 
         if (viewerId != null && !user.getId().equals(viewerId)) {
-            card.setIsFollowing(userFollowRepository.existsByFollowerIdAndFollowingId(viewerId, user.getId()));
-            card.setHasPendingRequest(followRequestRepository.existsByRequesterIdAndTargetIdAndStatus(
-                    viewerId, user.getId(), FollowRequest.RequestStatus.PENDING));
+            UserRepository.RelationshipRow relationship = userRepository.findRelationship(user.getId(), viewerId);
+            card.setIsFollowing(relationship.getFollowing() > 0);
+            card.setHasPendingRequest(relationship.getPendingRequest() > 0);
         } else {
             card.setIsFollowing(false);
             card.setHasPendingRequest(false);
@@ -910,7 +1133,14 @@ public class SocialService {
         return response;
     }
 
-    private ActivityResponse mapToActivityResponse(UserActivity activity, Long viewerId) {
+    private Page<ActivityResponse> mapActivities(Page<UserActivity> activities, Long viewerId) {
+        Map<Long, BookRepository.BookSummaryRow> books =
+                loadBookSummaries(activities.getContent().stream().map(UserActivity::getBook));
+        return activities.map(a -> mapToActivityResponse(a, viewerId, books));
+    }
+
+    private ActivityResponse mapToActivityResponse(UserActivity activity, Long viewerId,
+                                                   Map<Long, BookRepository.BookSummaryRow> books) {
         ActivityResponse response = new ActivityResponse();
         response.setId(activity.getId());
         response.setActivityType(activity.getActivityType().name());
@@ -918,13 +1148,14 @@ public class SocialService {
         response.setMetadata(activity.getMetadata());
         response.setCreatedAt(activity.getCreatedAt());
 
-        if (activity.getBook() != null) {
+        BookRepository.BookSummaryRow book = activity.getBook() != null ? books.get(activity.getBook().getId()) : null;
+        if (book != null) {
             ActivityResponse.BookSummary bookSummary = new ActivityResponse.BookSummary();
-            bookSummary.setId(activity.getBook().getId());
-            bookSummary.setTitle(activity.getBook().getTitle());
-            bookSummary.setAuthor(activity.getBook().getAuthor());
-            bookSummary.setRating(activity.getBook().getRating());
-            bookSummary.setStatus(activity.getBook().getStatus().name());
+            bookSummary.setId(book.getId());
+            bookSummary.setTitle(book.getTitle());
+            bookSummary.setAuthor(book.getAuthor());
+            bookSummary.setRating(book.getRating());
+            bookSummary.setStatus(book.getStatus() != null ? book.getStatus().name() : null);
             response.setBook(bookSummary);
         }
 
@@ -934,4 +1165,18 @@ public class SocialService {
 
         return response;
     }
+
+    /**
+     * Title/author/rating/status for the books referenced by a page of activities or
+     * reflections, in one narrow query. Only the proxies' ids are read, so the Book rows
+     * (AI note texts, tags) are never hydrated.
+     */
+    private Map<Long, BookRepository.BookSummaryRow> loadBookSummaries(Stream<Book> books) {
+        Set<Long> ids = books.filter(Objects::nonNull).map(Book::getId).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return bookRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(BookRepository.BookSummaryRow::getId, Function.identity()));
+    }
 }
@@ -0,0 +1,73 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.event.UserCounterEvent;
+import com.booksiread.backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * UserCounterService - Keeps the denormalized profile counters on users in step
+ *
+ * Write path: services publish a UserCounterEvent and it is applied here as an atomic
+ * "count = count + delta" UPDATE in the publisher's transaction, so the counter commits
+ * or rolls back together with the row it counts.
+ *
+ * Safety net: a periodic reconciliation recomputes every counter from the source tables
+ * (covers rows written before the columns existed and any path that bypasses the events).
+ */
+@Service
+public class UserCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserCounterService.class);
+
+    private final UserRepository userRepository;
+    private final int reconcileBatchSize;
+
+    public UserCounterService(UserRepository userRepository,
+                              @Value("${counters.reconcile.batch-size:1000}") int reconcileBatchSize) {
+        this.userRepository = userRepository;
+        this.reconcileBatchSize = Math.max(1, reconcileBatchSize);
+    }
+
+    @EventListener
+    @Transactional
+    public void onCounterChanged(UserCounterEvent event) {
+        if (event.userId() == null || event.delta() == 0) {
+            return;
+        }
+        int d = event.delta();
+        switch (event.counter()) {
+            case BOOKS -> userRepository.applyCounterDeltas(event.userId(), d, 0, 0, 0, 0);
+            case PUBLIC_BOOKS -> userRepository.applyCounterDeltas(event.userId(), 0, d, 0, 0, 0);
+            case REVIEWS -> userRepository.applyCounterDeltas(event.userId(), 0, 0, d, 0, 0);
+            case LISTS -> userRepository.applyCounterDeltas(event.userId(), 0, 0, 0, d, 0);
+            case REFLECTIONS -> userRepository.applyCounterDeltas(event.userId(), 0, 0, 0, 0, d);
+        }
+    }
+
+    /**
+     * Recompute all counters from the source tables, one set-based UPDATE per id range.
+     * Each batch commits on its own, so row locks are held for one batch rather than for the
+     * whole users table, and a failure keeps the batches already committed.
+     */
+    @Scheduled(initialDelayString = "${counters.reconcile.initial-delay:PT30S}",
+               fixedDelayString = "${counters.reconcile.interval:PT12H}")
+    public void reconcile() {
+        try {
+            long start = System.currentTimeMillis();
+            long maxId = userRepository.findMaxId();
+            int users = 0;
+            for (long fromId = 1; fromId <= maxId; fromId += reconcileBatchSize) {
+                users += userRepository.reconcileCounters(fromId, fromId + reconcileBatchSize);
+            }
+            logger.info("Profile counters reconciled for {} users in {}ms", users, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("Profile counter reconciliation failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.entity.User;
+import com.booksiread.backend.repository.UserRepository;
+import com.booksiread.backend.search.UserTypeaheadIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * UserTypeaheadService - Keeps the in-memory user search index in step with the users table
+ *
+ * - full load on startup, plus a periodic rebuild as a safety net
+ * - incremental updates on registration, profile edits and follower count changes
+ *   (applied after commit so a rolled-back change never shows up in search)
+ * - updates that arrive while a rebuild is loading are also recorded and replayed onto the
+ *   fresh index before it is swapped in, so the swap can't drop them
+ */
+@Service
+public class UserTypeaheadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserTypeaheadService.class);
+
+    private final UserRepository userRepository;
+    private volatile UserTypeaheadIndex index = new UserTypeaheadIndex();
+
+    /** Guards index swaps against incremental updates */
+    private final Object updateLock = new Object();
+    /** Updates seen while a rebuild is loading; null when no rebuild is running (guarded by updateLock) */
+    private List<Consumer<UserTypeaheadIndex>> updatesDuringRebuild;
+
+    private volatile boolean ready = false;
+
+    public UserTypeaheadService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuild();
+    }
+
+    /**
+     * Build a fresh index from every user and swap it in - catches anything written
+     * outside the hooks below (including deleted users)
+     */
+    @Scheduled(initialDelayString = "${search.typeahead.rebuild-interval:PT30M}",
+               fixedDelayString = "${search.typeahead.rebuild-interval:PT30M}")
+    public synchronized void rebuild() {
+        synchronized (updateLock) {
+            updatesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            long start = System.currentTimeMillis();
+            var rows = userRepository.findAllForTypeahead();
+            UserTypeaheadIndex fresh = new UserTypeaheadIndex();
+            for (UserRepository.TypeaheadRow row : rows) {
+                fresh.put(row.getId(), row.getUsername(), row.getDisplayName(),
+                        row.getFollowersCount() != null ? row.getFollowersCount() : 0);
+            }
+            synchronized (updateLock) {
+                // Replay what committed while we were loading (the rows may predate it)
+                updatesDuringRebuild.forEach(update -> update.accept(fresh));
+                index = fresh;
+            }
+            ready = true;
+            logger.info("User typeahead index loaded: {} users in {} ms", rows.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("Failed to build user typeahead index: {}", e.getMessage());
+        } finally {
+            synchronized (updateLock) {
+                updatesDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * True once the initial load finished - callers use the database search until then
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Top matching user ids by follower count
+     */
+    public UserTypeaheadIndex.Result search(String query, int page, int size) {
+        return index.search(query, page * size, size);
+    }
+
+    /**
+     * (Re)index a user after the current transaction commits
+     */
+    public void indexAfterCommit(User user) {
+        long id = user.getId();
+        String username = user.getUsername();
+        String displayName = user.getDisplayName();
+        int followers = user.getFollowersCount() != null ? user.getFollowersCount() : 0;
+        afterCommit(() -> apply(target -> target.put(id, username, displayName, followers)));
+    }
+
+    /**
+     * Update a user's ranking signal after the current transaction commits
+     */
+    public void followersChangedAfterCommit(User user) {
+        long id = user.getId();
+        int followers = user.getFollowersCount() != null ? user.getFollowersCount() : 0;
+        afterCommit(() -> apply(target -> target.updateFollowers(id, followers)));
+    }
+
+    /** Apply an update to the live index, and remember it for the fresh one if a rebuild is loading */
+    private void apply(Consumer<UserTypeaheadIndex> update) {
+        synchronized (updateLock) {
+            update.accept(index);
+            if (updatesDuringRebuild != null) {
+                updatesDuringRebuild.add(update);
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
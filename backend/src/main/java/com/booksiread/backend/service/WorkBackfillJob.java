@@ -0,0 +1,47 @@
+package com.booksiread.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * WorkBackfillJob - Links books that have no Work yet
+ *
+ * Covers rows created before the catalog existed (and anything written through a path
+ * that bypasses BookService). Each batch runs in its own transaction.
+ */
+@Component
+public class WorkBackfillJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkBackfillJob.class);
+
+    private final WorkService workService;
+    private final int batchSize;
+
+    public WorkBackfillJob(WorkService workService,
+                           @Value("${works.backfill.batch-size:500}") int batchSize) {
+        this.workService = workService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${works.backfill.initial-delay:PT10S}",
+               fixedDelayString = "${works.backfill.interval:PT6H}")
+    public void run() {
+        try {
+            int total = 0;
+            int linked;
+            do {
+                linked = workService.backfillBatch(batchSize);
+                total += linked;
+            } while (linked == batchSize);
+
+            if (total > 0) {
+                logger.info("Work backfill complete: {} books linked", total);
+            }
+        } catch (Exception e) {
+            logger.error("Work backfill failed: {}", e.getMessage());
+        }
+    }
+}
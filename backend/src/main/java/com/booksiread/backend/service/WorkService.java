@@ -0,0 +1,244 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.cache.TtlCache;
+import com.booksiread.backend.cache.TtlCacheMetrics;
+import com.booksiread.backend.entity.Book;
+import com.booksiread.backend.entity.Work;
+import com.booksiread.backend.exception.ResourceNotFoundException;
+import com.booksiread.backend.repository.BookRepository;
+import com.booksiread.backend.repository.BookReviewRepository;
+import com.booksiread.backend.repository.WorkRepository;
+import com.booksiread.backend.util.BookKeyNormalizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * WorkService - Canonical work catalog
+ *
+ * Handles:
+ * - Matching a book's title/author to its Work (get-or-create by normalized key)
+ * - Keeping Work aggregates (readers, reviews, rating sum/count/histogram) in step with
+ *   books and reviews - review writes apply deltas, book moves recompute
+ * - Serving community stats through a read-through cache keyed by work
+ * - Linking pre-existing books in batches (see WorkBackfillJob)
+ */
+@Service
+@Transactional
+public class WorkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkService.class);
+
+    private final WorkRepository workRepository;
+    private final BookRepository bookRepository;
+    private final BookReviewRepository bookReviewRepository;
+    private final TtlCache<Long, CommunityStats> statsCache;
+
+    public WorkService(WorkRepository workRepository, BookRepository bookRepository,
+                       BookReviewRepository bookReviewRepository,
+                       @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+                       MeterRegistry meterRegistry,
+                       @Value("${works.stats-cache.max-size:5000}") int cacheMaxSize,
+                       @Value("${works.stats-cache.ttl:PT1H}") Duration cacheTtl) {
+        this.workRepository = workRepository;
+        this.bookRepository = bookRepository;
+        this.bookReviewRepository = bookReviewRepository;
+        // No stale window: entries are evicted whenever the stats row changes
+        this.statsCache = TtlCacheMetrics.monitor(meterRegistry,
+                new TtlCache<>("community-stats", cacheMaxSize, cacheTtl, Duration.ZERO, cacheRefreshExecutor));
+    }
+
+    /**
+     * Find or create the Work for a title/author pair
+     */
+    public Work resolveWork(String title, String author) {
+        String key = BookKeyNormalizer.key(title, author);
+        return workRepository.findByNormalizedKey(key).orElseGet(() -> {
+            workRepository.insertIfAbsent(key, title.trim(), author.trim());
+            return workRepository.findByNormalizedKey(key)
+                    .orElseThrow(() -> new IllegalStateException("Work not found after insert: " + key));
+        });
+    }
+
+    /**
+     * Point a book at the Work matching its current title/author.
+     *
+     * @return id of the work the book was previously linked to, if it changed (so the caller
+     *         can refresh its aggregates too), otherwise null
+     */
+    public Long linkBook(Book book) {
+        String key = BookKeyNormalizer.key(book.getTitle(), book.getAuthor());
+        Work current = book.getWork();
+        if (current != null && key.equals(current.getNormalizedKey())) {
+            return null;
+        }
+        book.setWork(resolveWork(book.getTitle(), book.getAuthor()));
+        return current != null ? current.getId() : null;
+    }
+
+    /**
+     * Recompute aggregates for one or more works (nulls are ignored)
+     */
+    public void refreshAggregates(Long... workIds) {
+        for (Long workId : workIds) {
+            if (workId != null) {
+                workRepository.refreshAggregates(workId);
+                evictStats(workId);
+            }
+        }
+    }
+
+    /**
+     * Recompute aggregates for a set of works in one statement (bulk deletes)
+     */
+    public void refreshAggregates(Collection<Long> workIds) {
+        List<Long> ids = workIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        workRepository.refreshAggregatesIn(ids);
+        ids.forEach(this::evictStats);
+    }
+
+    /**
+     * Apply a review change to the work's running stats.
+     * Pass null for oldRating on create and null for newRating on delete.
+     *
+     * @param reviewsDelta +1 for create, -1 for delete, 0 for update
+     */
+    public void recordReviewChange(Long bookId, int reviewsDelta, Integer oldRating, Integer newRating) {
+        if (reviewsDelta == 0 && Objects.equals(oldRating, newRating)) {
+            return; // content-only edit, stats unchanged
+        }
+        Long workId = bookRepository.findWorkIdByBookId(bookId);
+        if (workId == null) {
+            return; // not linked yet - the backfill recomputes from scratch
+        }
+
+        int[] histogram = new int[6];
+        long ratingSum = 0;
+        int ratingCount = 0;
+        if (isRating(oldRating)) {
+            histogram[oldRating]--;
+            ratingSum -= oldRating;
+            ratingCount--;
+        }
+        if (isRating(newRating)) {
+            histogram[newRating]++;
+            ratingSum += newRating;
+            ratingCount++;
+        }
+        workRepository.applyReviewDelta(workId, reviewsDelta, ratingSum, ratingCount,
+                histogram[1], histogram[2], histogram[3], histogram[4], histogram[5]);
+        evictStats(workId);
+    }
+
+    /**
+     * Community stats for a book, aggregated across every user's copy of the same work.
+     * Served from the cached stats row; falls back to the book's own reviews while it
+     * hasn't been linked yet.
+     */
+    @Transactional(readOnly = true)
+    public CommunityStats getCommunityStats(Long bookId) {
+        if (!bookRepository.existsById(bookId)) {
+            throw new ResourceNotFoundException("Book not found with id: " + bookId);
+        }
+        Long workId = bookRepository.findWorkIdByBookId(bookId);
+        if (workId != null) {
+            CommunityStats stats = statsCache.get(workId, () -> workRepository.findById(workId)
+                    .map(CommunityStats::fromWork)
+                    .orElse(null));
+            if (stats != null) {
+                return stats;
+            }
+        }
+
+        Double avgRating = bookReviewRepository.getAverageRatingForBook(bookId);
+        return new CommunityStats(null,
+                avgRating != null ? Math.round(avgRating * 10.0) / 10.0 : null,
+                bookReviewRepository.countByBookId(bookId), null, null);
+    }
+
+    public Map<String, Object> getCacheStats() {
+        return statsCache.stats();
+    }
+
+    /**
+     * Link one batch of unlinked books to their works and refresh the touched aggregates.
+     *
+     * @return number of books linked (0 when the backfill is complete)
+     */
+    public int backfillBatch(int batchSize) {
+        List<BookRepository.UnlinkedRow> rows = bookRepository.findUnlinkedToWork(PageRequest.of(0, batchSize));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // Group by key so each work is resolved and linked with one statement
+        Map<String, List<BookRepository.UnlinkedRow>> byKey = new LinkedHashMap<>();
+        for (BookRepository.UnlinkedRow row : rows) {
+            byKey.computeIfAbsent(BookKeyNormalizer.key(row.getTitle(), row.getAuthor()), k -> new ArrayList<>()).add(row);
+        }
+
+        List<Long> touchedWorks = new ArrayList<>();
+        for (List<BookRepository.UnlinkedRow> group : byKey.values()) {
+            BookRepository.UnlinkedRow first = group.get(0);
+            Work work = resolveWork(first.getTitle(), first.getAuthor());
+            bookRepository.linkToWork(work, group.stream().map(BookRepository.UnlinkedRow::getId).toList());
+            touchedWorks.add(work.getId());
+        }
+        touchedWorks.stream().filter(Objects::nonNull).distinct().forEach(this::refreshAggregates);
+
+        logger.info("Linked {} books to {} works", rows.size(), byKey.size());
+        return rows.size();
+    }
+
+    private boolean isRating(Integer rating) {
+        return rating != null && rating >= 1 && rating <= 5;
+    }
+
+    /**
+     * Drop cached stats now and again after commit, so a concurrent read can't re-cache
+     * the pre-commit row.
+     */
+    private void evictStats(Long workId) {
+        statsCache.invalidate(workId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    statsCache.invalidate(workId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Immutable community stats for a work (workId/readers/distribution are null for unlinked books)
+     */
+    public record CommunityStats(Long workId, Double averageRating, long reviewCount,
+                                 Integer readersCount, Map<Integer, Integer> ratingDistribution) {
+
+        static CommunityStats fromWork(Work work) {
+            return new CommunityStats(work.getId(), work.getAverageRating(), work.getReviewsCount(),
+                    work.getReadersCount(), Collections.unmodifiableMap(work.getRatingDistribution()));
+        }
+    }
+}
@@ -13,6 +13,7 @@ import com.booksiread.backend.repository.PasswordResetTokenRepository;
 import com.booksiread.backend.security.JwtUtil;
 import com.booksiread.backend.service.AuthService;
 import com.booksiread.backend.service.EmailService;
+import com.booksiread.backend.service.UserTypeaheadService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -64,6 +65,9 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private UserTypeaheadService userTypeaheadService;
+
     @Override
     public AuthResponse register(RegisterRequest request) {
         // Validate username uniqueness
@@ -89,6 +93,7 @@ public class AuthServiceImpl implements AuthService {
 
         // Save user
         User savedUser = userRepository.save(user);
+        userTypeaheadService.indexAfterCommit(savedUser);
 
         // Load UserDetails and generate JWT token
         UserDetails userDetails = userDetailsService.loadUserByUsername(savedUser.getUsername());
@@ -1,22 +1,30 @@
 package com.booksiread.backend.service.impl;
 
+import com.booksiread.backend.dto.BookChangesResponse;
 import com.booksiread.backend.dto.BookRequest;
 import com.booksiread.backend.dto.BookResponse;
+import com.booksiread.backend.dto.BookSummaryResponse;
 import com.booksiread.backend.entity.Book;
 import com.booksiread.backend.entity.User;
 import com.booksiread.backend.entity.UserActivity;
 import com.booksiread.backend.exception.ResourceNotFoundException;
 import com.booksiread.backend.exception.ValidationException;
 import com.booksiread.backend.entity.ReadingActivity;
+import com.booksiread.backend.event.UserCounterEvent;
 import com.booksiread.backend.repository.BookRepository;
 import com.booksiread.backend.repository.ReadingActivityRepository;
-import com.booksiread.backend.repository.UserActivityRepository;
 import com.booksiread.backend.security.CustomUserDetailsService;
 import com.booksiread.backend.service.AiNotesService;
 import com.booksiread.backend.service.BookService;
+import com.booksiread.backend.service.BookSyncService;
+import com.booksiread.backend.service.BulkDeleteService;
+import com.booksiread.backend.service.LibraryDigestService;
 import com.booksiread.backend.service.ReadingGoalService;
+import com.booksiread.backend.service.SearchIndexService;
 import com.booksiread.backend.service.SocialService;
+import com.booksiread.backend.service.WorkService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -24,7 +32,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -44,10 +55,15 @@ public class BookServiceImpl implements BookService {
     private final BookRepository bookRepository;
     private final CustomUserDetailsService userDetailsService;
     private final ReadingActivityRepository readingActivityRepository;
-    private final UserActivityRepository userActivityRepository;
     private final AiNotesService aiNotesService;
     private final SocialService socialService;
     private final ReadingGoalService readingGoalService;
+    private final LibraryDigestService libraryDigestService;
+    private final WorkService workService;
+    private final SearchIndexService searchIndexService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BulkDeleteService bulkDeleteService;
+    private final BookSyncService bookSyncService;
     
     // IST timezone for activity tracking
     private static final ZoneId IST_ZONE = ZoneId.of("Asia/Kolkata");
@@ -56,17 +72,27 @@ public class BookServiceImpl implements BookService {
     public BookServiceImpl(BookRepository bookRepository, 
                           CustomUserDetailsService userDetailsService,
                           ReadingActivityRepository readingActivityRepository,
-                          UserActivityRepository userActivityRepository,
                           AiNotesService aiNotesService,
                           SocialService socialService,
-                          ReadingGoalService readingGoalService) {
+                          ReadingGoalService readingGoalService,
+                          LibraryDigestService libraryDigestService,
+                          WorkService workService,
+                          SearchIndexService searchIndexService,
+                          ApplicationEventPublisher eventPublisher,
+                          BulkDeleteService bulkDeleteService,
+                          BookSyncService bookSyncService) {
         this.bookRepository = bookRepository;
         this.userDetailsService = userDetailsService;
         this.readingActivityRepository = readingActivityRepository;
-        this.userActivityRepository = userActivityRepository;
         this.aiNotesService = aiNotesService;
         this.socialService = socialService;
         this.readingGoalService = readingGoalService;
+        this.libraryDigestService = libraryDigestService;
+        this.workService = workService;
+        this.searchIndexService = searchIndexService;
+        this.eventPublisher = eventPublisher;
+        this.bulkDeleteService = bulkDeleteService;
+        this.bookSyncService = bookSyncService;
     }
 
     /**
@@ -124,12 +150,20 @@ public class BookServiceImpl implements BookService {
         // Set initial AI status to PENDING
         book.setAiStatus(Book.AiStatus.PENDING);
 
+        // Link to the canonical work catalog
+        workService.linkBook(book);
+
         // Save to database and flush to ensure transaction commits
         Book savedBook = bookRepository.saveAndFlush(book);
+        workService.refreshAggregates(savedBook.getWork().getId());
 
         // Trigger async AI notes generation AFTER book is committed
         aiNotesService.generateNotesAsync(savedBook.getId());
 
+        // Library changed - rebuild the recommendation digest on next request
+        libraryDigestService.invalidate(currentUser.getId());
+        publishBookCounters(currentUser.getId(), savedBook.getIsPublic(), 1);
+
         // Record social activity: book added (only for public books)
         try {
             if (savedBook.getIsPublic() == null || savedBook.getIsPublic()) {
@@ -138,9 +172,6 @@ public class BookServiceImpl implements BookService {
                     savedBook.getId(), null
                 );
             }
-            // Update books count
-            currentUser.setBooksCount((currentUser.getBooksCount() != null ? currentUser.getBooksCount() : 0) + 1);
-            // Note: user is managed entity, will be saved with transaction
         } catch (Exception e) {
             // Don't fail book creation if activity recording fails
         }
@@ -162,6 +193,28 @@ public class BookServiceImpl implements BookService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookSummaryResponse> getLibrarySummaries() {
+        User currentUser = getCurrentUser();
+
+        // Two narrow queries instead of hydrating every Book (and its tags, one query each)
+        Map<Long, List<String>> tagsByBook = new HashMap<>();
+        for (Object[] row : bookRepository.findTagsByUserId(currentUser.getId())) {
+            tagsByBook.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+        return bookRepository.findLibraryRows(currentUser.getId()).stream()
+                .map(row -> BookSummaryResponse.fromRow(row, tagsByBook.getOrDefault(row.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookChangesResponse getChanges(String since) {
+        User currentUser = getCurrentUser();
+        return bookSyncService.getChanges(currentUser.getId(), since);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public BookResponse getBookById(Long id) {
@@ -196,6 +249,9 @@ public class BookServiceImpl implements BookService {
         Book.ReadingStatus oldStatus = book.getStatus();
         Integer oldRating = book.getRating();
         String oldReview = book.getReview();
+        boolean wasPublic = !Boolean.FALSE.equals(book.getIsPublic());
+        boolean titleOrAuthorChanged = !book.getTitle().equals(request.getTitle())
+                || !book.getAuthor().equals(request.getAuthor());
 
         // Update fields
         book.setTitle(request.getTitle());
@@ -233,8 +289,19 @@ public class BookServiceImpl implements BookService {
             book.setIsPublic(request.getIsPublic());
         }
 
+        // Title/author may have changed - re-link to the matching work
+        Long previousWorkId = workService.linkBook(book);
+
         // Save updated book
         Book updatedBook = bookRepository.save(book);
+        libraryDigestService.invalidate(currentUser.getId());
+        publishVisibilityChange(currentUser.getId(), wasPublic, updatedBook.getIsPublic());
+        workService.refreshAggregates(updatedBook.getWork().getId(), previousWorkId);
+        if (titleOrAuthorChanged) {
+            // Reviews/reflections about this book are indexed with its title and author
+            bookRepository.flush();
+            searchIndexService.reindexBook(updatedBook.getId());
+        }
 
         // Record reading activity if pages were updated
         if (pagesChanged && newPagesRead > 0) {
@@ -309,8 +376,10 @@ public class BookServiceImpl implements BookService {
         User currentUser = getCurrentUser();
         Book book = bookRepository.findByIdAndUser(id, currentUser)
                 .orElseThrow(() -> new ResourceNotFoundException("Book not found with id: " + id));
-        book.setIsPublic(isPublic != null ? isPublic : !Boolean.FALSE.equals(book.getIsPublic()));
+        boolean wasPublic = !Boolean.FALSE.equals(book.getIsPublic());
+        book.setIsPublic(isPublic != null ? isPublic : !wasPublic);
         Book saved = bookRepository.save(book);
+        publishVisibilityChange(currentUser.getId(), wasPublic, saved.getIsPublic());
         return BookResponse.fromEntity(saved);
     }
 
@@ -319,18 +388,12 @@ public class BookServiceImpl implements BookService {
         // Get current user
         User currentUser = getCurrentUser();
         
-        // Check if book exists and belongs to current user
-        Book book = bookRepository.findByIdAndUser(id, currentUser)
-                .orElseThrow(() -> new ResourceNotFoundException("Book not found with id: " + id));
-
-        // Delete associated user activities first (social feed entries)
-        userActivityRepository.deleteByBookId(id);
-        
-        // Delete associated reading activities
-        readingActivityRepository.deleteByBookId(id);
-        
-        // Then delete the book
-        bookRepository.delete(book);
+        // Ownership check, dependent rows (activities, reviews, tags...), counters and
+        // work aggregates are all handled set-based by the bulk delete
+        if (bulkDeleteService.deleteBooks(currentUser.getId(), List.of(id)) == 0) {
+            throw new ResourceNotFoundException("Book not found with id: " + id);
+        }
+        libraryDigestService.invalidate(currentUser.getId());
     }
 
     @Override
@@ -340,14 +403,28 @@ public class BookServiceImpl implements BookService {
             return;
         }
         
-        // Delete each book individually (ensures proper validation and cascade deletes)
-        for (Long bookId : bookIds) {
-            try {
-                deleteBook(bookId);
-            } catch (ResourceNotFoundException e) {
-                // Skip books that don't exist or don't belong to user
-                // Could log this if needed, but we'll silently skip
-            }
+        // One set-based delete; books that don't exist or don't belong to the user are skipped
+        User currentUser = getCurrentUser();
+        if (bulkDeleteService.deleteBooks(currentUser.getId(), bookIds) > 0) {
+            libraryDigestService.invalidate(currentUser.getId());
+        }
+    }
+
+    /**
+     * Book added/removed: total count always, public count only for public books
+     */
+    private void publishBookCounters(Long userId, Boolean isPublic, int delta) {
+        eventPublisher.publishEvent(new UserCounterEvent(userId, UserCounterEvent.Counter.BOOKS, delta));
+        if (!Boolean.FALSE.equals(isPublic)) {
+            eventPublisher.publishEvent(new UserCounterEvent(userId, UserCounterEvent.Counter.PUBLIC_BOOKS, delta));
+        }
+    }
+
+    private void publishVisibilityChange(Long userId, boolean wasPublic, Boolean isPublic) {
+        boolean nowPublic = !Boolean.FALSE.equals(isPublic);
+        if (wasPublic != nowPublic) {
+            eventPublisher.publishEvent(new UserCounterEvent(userId, UserCounterEvent.Counter.PUBLIC_BOOKS,
+                    nowPublic ? 1 : -1));
         }
     }
 
@@ -4,6 +4,7 @@ import com.booksiread.backend.service.EmailService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -14,6 +15,9 @@ import java.util.Map;
 
 /**
  * EmailServiceImpl - Email service implementation using Brevo API
+ *
+ * Uses a RestTemplate from Boot's builder so Brevo calls are traced and timed
+ * (http.client.requests) like other outgoing HTTP.
  */
 @Service
 public class EmailServiceImpl implements EmailService {
@@ -21,7 +25,7 @@ public class EmailServiceImpl implements EmailService {
     private static final Logger logger = LoggerFactory.getLogger(EmailServiceImpl.class);
     private static final String BREVO_API_URL = "https://api.brevo.com/v3/smtp/email";
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
 
     @Value("${app.frontend.url:http://localhost:5173}")
     private String frontendUrl;
@@ -35,6 +39,10 @@ public class EmailServiceImpl implements EmailService {
     @Value("${brevo.api.key}")
     private String brevoApiKey;
 
+    public EmailServiceImpl(RestTemplateBuilder restTemplateBuilder) {
+        this.restTemplate = restTemplateBuilder.build();
+    }
+
     @Override
     public void sendPasswordResetEmail(String toEmail, String username, String resetToken) {
         try {
@@ -0,0 +1,58 @@
+package com.booksiread.backend.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * BookKeyNormalizer - Turns free-text title/author pairs into a stable matching key
+ *
+ * Every Book row is a per-user copy, so "The Hobbit" / "J.R.R. Tolkien" and
+ * "the hobbit " / "J. R. R. Tolkien" must collapse to the same key before we can
+ * aggregate across users.
+ *
+ * Rules: strip accents, lowercase, drop punctuation, collapse whitespace,
+ * drop a leading English article from the title and any subtitle after ':'.
+ */
+public final class BookKeyNormalizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALNUM = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern LEADING_ARTICLE = Pattern.compile("^(the|a|an) ");
+
+    private BookKeyNormalizer() {
+    }
+
+    /**
+     * Normalized "title|author" key
+     */
+    public static String key(String title, String author) {
+        return normalizeTitle(title) + "|" + normalizeAuthor(author);
+    }
+
+    public static String normalizeTitle(String title) {
+        if (title == null) {
+            return "";
+        }
+        String main = title;
+        int subtitle = main.indexOf(':');
+        if (subtitle > 0) {
+            main = main.substring(0, subtitle);
+        }
+        String normalized = normalize(main);
+        return LEADING_ARTICLE.matcher(normalized).replaceFirst("");
+    }
+
+    public static String normalizeAuthor(String author) {
+        if (author == null) {
+            return "";
+        }
+        // "J.R.R. Tolkien" and "J. R. R. Tolkien" -> "j r r tolkien"
+        return normalize(author.replace(".", ". "));
+    }
+
+    private static String normalize(String value) {
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALNUM.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,44 @@
+package com.booksiread.backend.observability;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration-test helper: run code against the instrumented DataSource and assert how
+ * many SQL statements it took. Counts everything executed on the calling thread, so the
+ * code under test must not hand its queries to another executor.
+ *
+ * <pre>
+ * Page&lt;...&gt; page = QueryBudget.assertAtMost(3, () -&gt; reviewService.getComments(id, 0, 20));
+ * </pre>
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {}
+
+    /** Statements, rows and database time used by the action */
+    public static QueryStats measure(Runnable action) {
+        QueryStats stats = QueryStats.begin();
+        try {
+            action.run();
+        } finally {
+            stats.end();
+        }
+        return stats;
+    }
+
+    /** Run the action, failing if it executes more than maxStatements statements */
+    public static <T> T assertAtMost(int maxStatements, Supplier<T> action) {
+        QueryStats stats = QueryStats.begin();
+        T result;
+        try {
+            result = action.get();
+        } finally {
+            stats.end();
+        }
+        assertTrue(stats.getStatements() <= maxStatements,
+                "Query budget of " + maxStatements + " statements exceeded: " + stats);
+        return result;
+    }
+}
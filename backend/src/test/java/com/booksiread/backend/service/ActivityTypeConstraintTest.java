@@ -0,0 +1,81 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.entity.User;
+import com.booksiread.backend.entity.UserActivity;
+import com.booksiread.backend.repository.UserActivityRepository;
+import com.booksiread.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A database whose activity_type constraint predates IMPORTED_LIBRARY accepts (and shows)
+ * import activities once the startup fix-up has run
+ */
+@SpringBootTest
+class ActivityTypeConstraintTest {
+
+    /** The constraint as Hibernate generated it before IMPORTED_LIBRARY was added */
+    private static final String OLD_VALUES = "'STARTED_READING', 'FINISHED_BOOK', 'PROGRESS_UPDATE', 'ADDED_BOOK', "
+            + "'RATED_BOOK', 'WROTE_REVIEW', 'FOLLOWED_USER', 'JOINED_PLATFORM'";
+
+    @Autowired
+    private LibraryImportService libraryImportService;
+
+    @Autowired
+    private SocialService socialService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserActivityRepository activityRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User("import_" + run, "import_" + run + "@test.local", "x");
+        user.setIsPublic(true);
+        userId = userRepository.save(user).getId();
+
+        jdbcTemplate.execute("ALTER TABLE user_activities DROP CONSTRAINT IF EXISTS user_activities_activity_type_check");
+        jdbcTemplate.execute("ALTER TABLE user_activities ADD CONSTRAINT user_activities_activity_type_check "
+                + "CHECK (activity_type IN (" + OLD_VALUES + "))");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM user_activities WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        libraryImportService.initialize();
+    }
+
+    @Test
+    void oldConstraintIsWidenedAtStartup() {
+        libraryImportService.initialize();
+
+        socialService.recordActivity(userId, UserActivity.ActivityType.IMPORTED_LIBRARY, null, null,
+                "{\"count\":3,\"source\":\"goodreads\"}");
+
+        Integer stored = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_activities WHERE user_id = ? AND activity_type = 'IMPORTED_LIBRARY'",
+                Integer.class, userId);
+        assertEquals(1, stored);
+        assertTrue(activityRepository.findPublicActivities(PageRequest.of(0, 50)).getContent().stream()
+                .anyMatch(activity -> activity.getUser().getId().equals(userId)));
+    }
+}
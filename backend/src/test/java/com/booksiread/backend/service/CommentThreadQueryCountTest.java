@@ -0,0 +1,133 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.dto.ReplyPageResponse;
+import com.booksiread.backend.dto.ReviewResponse;
+import com.booksiread.backend.entity.Book;
+import com.booksiread.backend.entity.BookReview;
+import com.booksiread.backend.entity.ReviewComment;
+import com.booksiread.backend.entity.User;
+import com.booksiread.backend.observability.QueryBudget;
+import com.booksiread.backend.repository.BookRepository;
+import com.booksiread.backend.repository.BookReviewRepository;
+import com.booksiread.backend.repository.ReviewCommentRepository;
+import com.booksiread.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A page of comments and their replies costs a fixed number of queries; longer threads
+ * are paged by cursor
+ */
+@SpringBootTest
+class CommentThreadQueryCountTest {
+
+    private static final int COMMENTS = 10;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewCommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> commentIds = new ArrayList<>();
+    private Long bookId;
+    private Long reviewId;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i <= COMMENTS; i++) {
+            User user = userRepository.save(
+                    new User("thread_" + run + "_" + i, "thread_" + run + "_" + i + "@test.local", "x"));
+            users.add(user);
+            userIds.add(user.getId());
+        }
+
+        Book book = new Book("Threads", "Test Author", 100, 100);
+        book.setUser(users.get(0));
+        bookId = bookRepository.save(book).getId();
+        BookReview review = reviewRepository.save(new BookReview(users.get(0), book, "A review", 5));
+        reviewId = review.getId();
+
+        for (int i = 1; i <= COMMENTS; i++) {
+            ReviewComment comment = commentRepository.save(new ReviewComment(review, users.get(i), "Comment " + i));
+            ReviewComment reply = new ReviewComment(review, users.get(0), "Reply " + i);
+            reply.setParentComment(comment);
+            commentRepository.save(reply);
+            comment.setRepliesCount(1);
+            commentRepository.save(comment);
+            commentIds.add(comment.getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM notifications WHERE actor_id = ?", userIds.get(0));
+        jdbcTemplate.update("DELETE FROM review_comments WHERE review_id = ? AND parent_id IS NOT NULL", reviewId);
+        jdbcTemplate.update("DELETE FROM review_comments WHERE review_id = ?", reviewId);
+        jdbcTemplate.update("DELETE FROM book_reviews WHERE id = ?", reviewId);
+        jdbcTemplate.update("DELETE FROM books WHERE id = ?", bookId);
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        }
+    }
+
+    @Test
+    void commentPageWithRepliesUsesFixedQueryCount() {
+        // top-level page, preview reply ids, preview replies with authors
+        Page<ReviewResponse.CommentResponse> comments =
+                QueryBudget.assertAtMost(3, () -> reviewService.getComments(reviewId, 0, COMMENTS + 5));
+
+        assertEquals(COMMENTS, comments.getNumberOfElements());
+        ReviewResponse.CommentResponse first = comments.getContent().get(0);
+        assertEquals(1, first.getReplyCount());
+        assertEquals("Reply 1", first.getReplies().get(0).getContent());
+    }
+
+    @Test
+    void repliesArePagedByCursor() {
+        Long parentId = commentIds.get(0);
+        for (int i = 0; i < 4; i++) {
+            reviewService.addComment(userIds.get(0), reviewId, "More " + i, parentId);
+        }
+        assertEquals(5, commentRepository.findById(parentId).orElseThrow().getRepliesCount());
+
+        List<String> seen = new ArrayList<>();
+        Long cursor = null;
+        int pages = 0;
+        do {
+            ReplyPageResponse<ReviewResponse.CommentResponse> page = reviewService.getReplies(parentId, cursor, 2);
+            page.getReplies().forEach(r -> seen.add(r.getContent()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(List.of("Reply 1", "More 0", "More 1", "More 2", "More 3"), seen);
+    }
+}
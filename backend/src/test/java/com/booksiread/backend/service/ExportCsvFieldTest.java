@@ -0,0 +1,47 @@
+package com.booksiread.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * CSV field encoding for exports: RFC 4180 quoting plus spreadsheet formula escaping
+ */
+class ExportCsvFieldTest {
+
+    @Test
+    void plainValuesAreWrittenAsIs() {
+        assertEquals("", ExportService.csvField(null));
+        assertEquals("", ExportService.csvField(""));
+        assertEquals("Dune", ExportService.csvField("Dune"));
+        assertEquals("412", ExportService.csvField(412));
+        assertEquals("true", ExportService.csvField(true));
+    }
+
+    @Test
+    void separatorsAndQuotesAreQuoted() {
+        assertEquals("\"Herbert, Frank\"", ExportService.csvField("Herbert, Frank"));
+        assertEquals("\"The \"\"Spice\"\" Must Flow\"", ExportService.csvField("The \"Spice\" Must Flow"));
+    }
+
+    @Test
+    void embeddedLineBreaksAreQuoted() {
+        assertEquals("\"first line\nsecond line\"", ExportService.csvField("first line\nsecond line"));
+        assertEquals("\"first line\r\nsecond line\"", ExportService.csvField("first line\r\nsecond line"));
+    }
+
+    @Test
+    void formulaPrefixesAreEscaped() {
+        assertEquals("\"'=HYPERLINK(\"\"http://x\"\")\"", ExportService.csvField("=HYPERLINK(\"http://x\")"));
+        assertEquals("'+1", ExportService.csvField("+1"));
+        assertEquals("'-2+3", ExportService.csvField("-2+3"));
+        assertEquals("'@SUM(A1)", ExportService.csvField("@SUM(A1)"));
+        assertEquals("'\tcmd", ExportService.csvField("\tcmd"));
+        assertEquals("\"'=1,2\"", ExportService.csvField("=1,2"));
+    }
+
+    @Test
+    void negativeNumbersStayNumeric() {
+        assertEquals("-5", ExportService.csvField(-5));
+    }
+}
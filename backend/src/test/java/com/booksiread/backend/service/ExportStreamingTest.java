@@ -0,0 +1,107 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.entity.Book;
+import com.booksiread.backend.entity.User;
+import com.booksiread.backend.repository.BookRepository;
+import com.booksiread.backend.repository.BookReviewRepository;
+import com.booksiread.backend.repository.ReadingActivityRepository;
+import com.booksiread.backend.repository.ReadingGoalRepository;
+import com.booksiread.backend.repository.ReflectionRepository;
+import com.booksiread.backend.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A streamed CSV export writes the header and one line per book, across several flushes
+ */
+@SpringBootTest
+class ExportStreamingTest {
+
+    private static final int BOOKS = 25;
+    private static final int FLUSH_EVERY_ROWS = 10;
+
+    private static final String BOOK_HEADER = "id,title,author,status,totalPages,pagesRead,rating,startDate,"
+            + "completeDate,isPublic,tags,review,notes,createdAt,updatedAt";
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookReviewRepository reviewRepository;
+
+    @Autowired
+    private ReflectionRepository reflectionRepository;
+
+    @Autowired
+    private ReadingActivityRepository activityRepository;
+
+    @Autowired
+    private ReadingGoalRepository goalRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ExportService exportService;
+    private Long userId;
+    private final List<Long> bookIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Small flush interval so the export flushes mid-stream
+        exportService = new ExportService(bookRepository, reviewRepository, reflectionRepository,
+                activityRepository, goalRepository, objectMapper, transactionManager, FLUSH_EVERY_ROWS);
+
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(new User("export_" + run, "export_" + run + "@test.local", "x"));
+        userId = user.getId();
+        for (int i = 0; i < BOOKS; i++) {
+            Book book = new Book("Book " + i, "Author " + i, 100, 10);
+            book.setUser(user);
+            bookIds.add(bookRepository.save(book).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long bookId : bookIds) {
+            jdbcTemplate.update("DELETE FROM books WHERE id = ?", bookId);
+        }
+        jdbcTemplate.update("DELETE FROM book_tombstones WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    void csvExportStreamsHeaderAndEveryRow() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(userId, ExportService.Format.CSV, Set.of(ExportService.Section.BOOKS), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(BOOK_HEADER, lines[0]);
+        assertEquals(BOOKS, lines.length - 1);
+        assertEquals(String.valueOf(bookIds.get(0)), lines[1].substring(0, lines[1].indexOf(',')));
+    }
+}
@@ -0,0 +1,166 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.dto.BookResponse;
+import com.booksiread.backend.dto.ReviewResponse;
+import com.booksiread.backend.dto.UserCardResponse;
+import com.booksiread.backend.dto.UserProfileResponse;
+import com.booksiread.backend.entity.Book;
+import com.booksiread.backend.entity.BookReview;
+import com.booksiread.backend.entity.ReviewComment;
+import com.booksiread.backend.entity.User;
+import com.booksiread.backend.repository.BookRepository;
+import com.booksiread.backend.repository.BookReviewRepository;
+import com.booksiread.backend.repository.ReviewCommentRepository;
+import com.booksiread.backend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Users and books are loaded all over the feed; their element collections must not
+ * cost a query per row
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class LazyCollectionQueryCountTest {
+
+    private static final int ROWS = 12;
+    private static final String GENRES = User.class.getName() + ".favoriteGenres";
+    private static final String TAGS = Book.class.getName() + ".tags";
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private SocialService socialService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewCommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> bookIds = new ArrayList<>();
+    private String genre;
+    private Long reviewId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        genre = "genre-" + run;
+        for (int i = 0; i <= ROWS; i++) {
+            User user = new User("lazy_" + run + "_" + i, "lazy_" + run + "_" + i + "@test.local", "x");
+            user.setFavoriteGenres(new ArrayList<>(List.of(genre, "other-" + run)));
+            userIds.add(userRepository.save(user).getId());
+        }
+        User owner = userRepository.findById(userIds.get(0)).orElseThrow();
+
+        Book reviewed = null;
+        for (int i = 0; i < ROWS; i++) {
+            Book book = new Book("Lazy " + i, "Test Author", 100, 10);
+            book.setUser(owner);
+            book.setTags(new ArrayList<>(List.of("tag-a", "tag-b")));
+            reviewed = bookRepository.save(book);
+            bookIds.add(reviewed.getId());
+        }
+        BookReview review = reviewRepository.save(new BookReview(owner, reviewed, "A review", 4));
+        reviewId = review.getId();
+        for (Long commenterId : userIds.subList(1, userIds.size())) {
+            User commenter = userRepository.findById(commenterId).orElseThrow();
+            commentRepository.save(new ReviewComment(review, commenter, "A comment"));
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        jdbcTemplate.update("DELETE FROM review_comments WHERE review_id = ?", reviewId);
+        jdbcTemplate.update("DELETE FROM book_reviews WHERE id = ?", reviewId);
+        for (Long bookId : bookIds) {
+            jdbcTemplate.update("DELETE FROM book_tags WHERE book_id = ?", bookId);
+            jdbcTemplate.update("DELETE FROM books WHERE id = ?", bookId);
+        }
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM user_favorite_genres WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        }
+    }
+
+    @Test
+    void commentAuthorsDoNotLoadGenres() {
+        Page<ReviewResponse.CommentResponse> comments = reviewService.getComments(reviewId, 0, ROWS);
+
+        assertEquals(ROWS, comments.getNumberOfElements());
+        assertEquals(0, fetches(GENRES));
+    }
+
+    @Test
+    void libraryLoadsTagsWithTheBooks() {
+        String username = userRepository.findById(userIds.get(0)).orElseThrow().getUsername();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+        statistics.clear();
+
+        List<BookResponse> books = bookService.getAllBooks();
+
+        assertEquals(ROWS, books.size());
+        assertEquals(List.of("tag-a", "tag-b"), books.get(0).getTags());
+        assertEquals(0, fetches(TAGS));
+    }
+
+    @Test
+    void similarUsersLoadGenresInBatches() {
+        Page<UserCardResponse> similar = socialService.getSimilarUsers(userIds.get(0), 0, ROWS);
+
+        assertTrue(similar.getContent().stream().anyMatch(card -> card.getSharedGenres().contains(genre)));
+        // One query for the viewer's genres, one batch for the whole page of candidates
+        assertTrue(fetches(GENRES) <= 2, "genre fetches: " + fetches(GENRES));
+    }
+
+    @Test
+    void profileStillReturnsGenres() {
+        UserProfileResponse profile = socialService.getProfileById(userIds.get(1), userIds.get(0));
+
+        assertEquals(List.of(genre, genre.replace("genre-", "other-")), profile.getFavoriteGenres());
+    }
+
+    /** Separate SELECTs issued to initialize the given collection role */
+    private long fetches(String role) {
+        return statistics.getCollectionStatistics(role).getFetchCount();
+    }
+}
@@ -0,0 +1,166 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.entity.Book;
+import com.booksiread.backend.entity.BookReview;
+import com.booksiread.backend.entity.Reflection;
+import com.booksiread.backend.entity.User;
+import com.booksiread.backend.repository.BookRepository;
+import com.booksiread.backend.repository.BookReviewRepository;
+import com.booksiread.backend.repository.ReflectionRepository;
+import com.booksiread.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Parallel likes, saves and comments must never lose counter updates
+ */
+@SpringBootTest
+class LikeCounterConcurrencyTest {
+
+    private static final int LIKERS = 16;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private SocialService socialService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookReviewRepository reviewRepository;
+
+    @Autowired
+    private ReflectionRepository reflectionRepository;
+
+    @Autowired
+    private EngagementCounterService engagementCounters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long bookId;
+    private Long reviewId;
+    private Long reflectionId;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i <= LIKERS; i++) {
+            User user = new User("likes_" + run + "_" + i, "likes_" + run + "_" + i + "@test.local", "x");
+            userIds.add(userRepository.save(user).getId());
+        }
+        User author = userRepository.findById(userIds.get(0)).orElseThrow();
+
+        Book book = new Book("Concurrency", "Test Author", 100, 100);
+        book.setUser(author);
+        bookId = bookRepository.save(book).getId();
+        reviewId = reviewRepository.save(new BookReview(author, book, "A review", 5)).getId();
+        reflectionId = reflectionRepository.save(new Reflection(author, "A reflection")).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM review_likes WHERE review_id = ?", reviewId);
+        jdbcTemplate.update("DELETE FROM reflection_likes WHERE reflection_id = ?", reflectionId);
+        jdbcTemplate.update("DELETE FROM saved_reflections WHERE reflection_id = ?", reflectionId);
+        jdbcTemplate.update("DELETE FROM review_comments WHERE review_id = ?", reviewId);
+        jdbcTemplate.update("DELETE FROM reflection_comments WHERE reflection_id = ?", reflectionId);
+        jdbcTemplate.update("DELETE FROM book_reviews WHERE id = ?", reviewId);
+        jdbcTemplate.update("DELETE FROM reflections WHERE id = ?", reflectionId);
+        jdbcTemplate.update("DELETE FROM books WHERE id = ?", bookId);
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM notifications WHERE actor_id = ? OR recipient_id = ?", userId, userId);
+        }
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        }
+    }
+
+    @Test
+    void parallelReviewLikesAreAllCounted() throws Exception {
+        runInParallel(userId -> reviewService.toggleLike(userId, reviewId));
+        engagementCounters.flush();
+
+        assertEquals(LIKERS, reviewRepository.findById(reviewId).orElseThrow().getLikesCount());
+    }
+
+    @Test
+    void parallelReflectionLikesAreAllCounted() throws Exception {
+        runInParallel(userId -> socialService.toggleLikeReflection(reflectionId, userId));
+        engagementCounters.flush();
+
+        assertEquals(LIKERS, reflectionRepository.findById(reflectionId).orElseThrow().getLikesCount());
+    }
+
+    @Test
+    void parallelReflectionSavesAreAllCounted() throws Exception {
+        runInParallel(userId -> socialService.toggleSaveReflection(reflectionId, userId));
+        engagementCounters.flush();
+
+        assertEquals(LIKERS, reflectionRepository.findById(reflectionId).orElseThrow().getSavesCount());
+    }
+
+    @Test
+    void parallelReviewCommentsAreAllCounted() throws Exception {
+        runInParallel(userId -> reviewService.addComment(userId, reviewId, "Comment from " + userId));
+        engagementCounters.flush();
+
+        assertEquals(LIKERS, reviewRepository.findById(reviewId).orElseThrow().getCommentsCount());
+    }
+
+    @Test
+    void parallelReflectionCommentsAreAllCounted() throws Exception {
+        runInParallel(userId -> socialService.addReflectionComment(reflectionId, userId, "Comment from " + userId));
+        engagementCounters.flush();
+
+        assertEquals(LIKERS, reflectionRepository.findById(reflectionId).orElseThrow().getCommentsCount());
+    }
+
+    private void runInParallel(LikeAction action) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(LIKERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (Long userId : userIds.subList(1, userIds.size())) {
+                Callable<Object> task = () -> {
+                    start.await();
+                    action.like(userId);
+                    return null;
+                };
+                results.add(pool.submit(task));
+            }
+            start.countDown();
+            for (Future<Object> result : results) {
+                result.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface LikeAction {
+        void like(Long userId);
+    }
+}
@@ -0,0 +1,129 @@
+package com.booksiread.backend;
+
+import com.booksiread.backend.counter.EngagementCounterBuffer.Field;
+import com.booksiread.backend.counter.EngagementCounterBuffer.Target;
+import com.booksiread.backend.entity.Book;
+import com.booksiread.backend.entity.BookReview;
+import com.booksiread.backend.entity.Reflection;
+import com.booksiread.backend.entity.ReviewComment;
+import com.booksiread.backend.entity.User;
+import com.booksiread.backend.service.EngagementCounterService;
+import org.springframework.util.ReflectionUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fixtures - Detached entities with realistic field values for the benchmarks
+ *
+ * Seeded, so every run (and every fork) scores the same data.
+ */
+public final class Fixtures {
+
+    public static final int AUTHORS = 500;
+
+    private final Random random = new Random(42);
+    private final List<User> users = new ArrayList<>();
+
+    public Fixtures() {
+        for (long id = 1; id <= AUTHORS; id++) {
+            User user = new User("reader" + id, "reader" + id + "@example.com", "x");
+            user.setId(id);
+            user.setDisplayName(id % 3 == 0 ? null : "Reader " + id);
+            users.add(user);
+        }
+    }
+
+    public User user(long id) {
+        return users.get((int) (id - 1));
+    }
+
+    public User randomUser() {
+        return users.get(random.nextInt(users.size()));
+    }
+
+    public Book book(long id) {
+        Book book = new Book("Book title " + id, "Author " + (id % 97), 320, random.nextInt(320));
+        book.setId(id);
+        book.setUser(randomUser());
+        book.setTags(new ArrayList<>(List.of("fiction", "classic", "tag" + (id % 13))));
+        book.setCreatedAt(ago(random.nextInt(60 * 24 * 365)));
+        return book;
+    }
+
+    /** Reviews spread over the last week with skewed engagement, as in a real feed */
+    public List<BookReview> reviews(int count) {
+        List<BookReview> reviews = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            BookReview review = new BookReview(randomUser(), book(id),
+                    "A thoughtful review of book " + id + ". ".repeat(20), 1 + random.nextInt(5));
+            review.setId(id);
+            review.setLikesCount(skewed(200));
+            review.setCommentsCount(skewed(40));
+            review.setCreatedAt(ago(random.nextInt(60 * 24 * 7)));
+            reviews.add(review);
+        }
+        return reviews;
+    }
+
+    public List<Reflection> reflections(int count) {
+        List<Reflection> reflections = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            Reflection reflection = new Reflection(randomUser(), "Reflection " + id);
+            reflection.setId(id);
+            reflection.setLikesCount(skewed(200));
+            reflection.setCommentsCount(skewed(40));
+            reflection.setSavesCount(skewed(30));
+            reflection.setCreatedAt(ago(random.nextInt(60 * 24 * 7)));
+            reflections.add(reflection);
+        }
+        return reflections;
+    }
+
+    public List<ReviewComment> comments(BookReview review, int count) {
+        List<ReviewComment> comments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ReviewComment comment = new ReviewComment(review, randomUser(), "Comment " + i + " on the review");
+            comment.setId(review.getId() * 100 + i);
+            comment.setCreatedAt(review.getCreatedAt().plusMinutes(i + 1));
+            comments.add(comment);
+        }
+        return comments;
+    }
+
+    /**
+     * Counter service with nothing behind it but the in-memory buffer, holding pending
+     * deltas for about a tenth of the given ids (as between two flushes)
+     */
+    public EngagementCounterService engagementCounters(int ids) {
+        EngagementCounterService counters = new EngagementCounterService(
+                null, null, 200, Duration.ofMinutes(1), Duration.ofSeconds(10));
+        for (long id = 1; id <= ids; id += 10) {
+            counters.record(Target.REVIEW, Field.LIKES, id, 1 + random.nextInt(5));
+            counters.record(Target.REFLECTION, Field.LIKES, id, 1 + random.nextInt(5));
+        }
+        return counters;
+    }
+
+    /** Set a field that Spring would normally inject */
+    public static void inject(Object target, String fieldName, Object value) {
+        java.lang.reflect.Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException(target.getClass().getSimpleName() + " has no field " + fieldName);
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+    private int skewed(int max) {
+        double r = random.nextDouble();
+        return (int) (max * r * r * r);
+    }
+
+    private static LocalDateTime ago(int minutes) {
+        return LocalDateTime.now().minusMinutes(minutes);
+    }
+}
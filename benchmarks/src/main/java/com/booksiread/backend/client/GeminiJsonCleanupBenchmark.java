@@ -0,0 +1,44 @@
+package com.booksiread.backend.client;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GeminiClient.extractAndCleanJson on a fenced notes response, small and large
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GeminiJsonCleanupBenchmark {
+
+    /** Highlights in the response; 10 is typical, 100 approaches maxOutputTokens */
+    @Param({"10", "100"})
+    private int highlights;
+
+    private String response;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("```json\n{\n  \"summary\": \"")
+                .append("A sweeping story about memory, loss and the books we carry with us. ".repeat(8))
+                .append("\",\n  \"highlights\": [\n");
+        for (int i = 0; i < highlights; i++) {
+            json.append("    \"Highlight ").append(i)
+                    .append(": the narrator\\'s  voice shifts   as the second part begins.\"")
+                    .append(i < highlights - 1 ? ",\n" : "\n");
+        }
+        json.append("  ],\n  \"overallOpinion\": \"")
+                .append("Worth reading slowly.\r\n ".repeat(4))
+                .append("\"\n}\n```");
+        response = json.toString();
+    }
+
+    @Benchmark
+    public String extractAndCleanJson() {
+        return GeminiClient.extractAndCleanJson(response);
+    }
+}
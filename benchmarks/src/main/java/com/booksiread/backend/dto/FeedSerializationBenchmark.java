@@ -0,0 +1,70 @@
+package com.booksiread.backend.dto;
+
+import com.booksiread.backend.Fixtures;
+import com.booksiread.backend.entity.BookReview;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of feed pages as the controllers return them (Page<ReviewResponse>
+ * with recent comments, Page<BookResponse>), using an ObjectMapper configured like Boot's
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FeedSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<ReviewResponse> reviewPage;
+    private Page<BookResponse> bookPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        Fixtures fixtures = new Fixtures();
+        List<ReviewResponse> reviews = new ArrayList<>();
+        for (BookReview review : fixtures.reviews(pageSize)) {
+            ReviewResponse response = ReviewResponse.fromEntity(review, review.getLikesCount(), review.getCommentsCount());
+            response.setLikedByViewer(false);
+            response.setSavedByViewer(false);
+            response.setRecentComments(fixtures.comments(review, 3).stream()
+                    .map(ReviewResponse.CommentResponse::fromEntity).toList());
+            reviews.add(response);
+        }
+        reviewPage = new PageImpl<>(reviews, PageRequest.of(0, pageSize), 10_000);
+
+        List<BookResponse> books = new ArrayList<>();
+        for (long id = 1; id <= pageSize; id++) {
+            books.add(BookResponse.fromEntity(fixtures.book(id)));
+        }
+        bookPage = new PageImpl<>(books, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public byte[] reviewFeedPage() throws Exception {
+        return objectMapper.writeValueAsBytes(reviewPage);
+    }
+
+    @Benchmark
+    public byte[] libraryPage() throws Exception {
+        return objectMapper.writeValueAsBytes(bookPage);
+    }
+}
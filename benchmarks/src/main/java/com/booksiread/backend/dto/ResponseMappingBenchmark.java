@@ -0,0 +1,63 @@
+package com.booksiread.backend.dto;
+
+import com.booksiread.backend.Fixtures;
+import com.booksiread.backend.entity.Book;
+import com.booksiread.backend.entity.BookReview;
+import com.booksiread.backend.entity.ReviewComment;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping for one page: BookResponse.fromEntity (library) and
+ * ReviewResponse.fromEntity with three recent comments each (review feed)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResponseMappingBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private List<Book> books;
+    private List<BookReview> reviews;
+    private List<List<ReviewComment>> comments;
+
+    @Setup
+    public void setUp() {
+        Fixtures fixtures = new Fixtures();
+        books = new ArrayList<>();
+        for (long id = 1; id <= pageSize; id++) {
+            books.add(fixtures.book(id));
+        }
+        reviews = fixtures.reviews(pageSize);
+        comments = reviews.stream().map(review -> fixtures.comments(review, 3)).toList();
+    }
+
+    @Benchmark
+    public List<BookResponse> bookResponses() {
+        List<BookResponse> page = new ArrayList<>(books.size());
+        for (Book book : books) {
+            page.add(BookResponse.fromEntity(book));
+        }
+        return page;
+    }
+
+    @Benchmark
+    public List<ReviewResponse> reviewResponses() {
+        List<ReviewResponse> page = new ArrayList<>(reviews.size());
+        for (int i = 0; i < reviews.size(); i++) {
+            BookReview review = reviews.get(i);
+            ReviewResponse response = ReviewResponse.fromEntity(review, review.getLikesCount(), review.getCommentsCount());
+            response.setRecentComments(comments.get(i).stream().map(ReviewResponse.CommentResponse::fromEntity).toList());
+            page.add(response);
+        }
+        return page;
+    }
+}
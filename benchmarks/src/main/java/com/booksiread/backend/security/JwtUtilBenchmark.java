@@ -0,0 +1,60 @@
+package com.booksiread.backend.security;
+
+import com.booksiread.backend.Fixtures;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil costs paid on every authenticated request (validate + parse) and on login (generate)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+
+        jwtUtil = new JwtUtil();
+        Fixtures.inject(jwtUtil, "jwtSecret", Base64.getEncoder().encodeToString(secret));
+        Fixtures.inject(jwtUtil, "jwtExpirationMs", 86_400_000);
+
+        userDetails = User.withUsername("reader1").password("x").roles("USER").build();
+        token = jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUserNameFromJwtToken() {
+        return jwtUtil.getUserNameFromJwtToken(token);
+    }
+
+    /** What JwtAuthenticationFilter does per request */
+    @Benchmark
+    public String validateThenParse() {
+        return jwtUtil.validateToken(token) ? jwtUtil.getUserNameFromJwtToken(token) : null;
+    }
+}
@@ -0,0 +1,94 @@
+package com.booksiread.backend.service;
+
+import com.booksiread.backend.Fixtures;
+import com.booksiread.backend.entity.BookReview;
+import com.booksiread.backend.entity.Reflection;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * FeedRankingService scoring and sorting over candidate pools of 200 to 10k
+ *
+ * rankReviews / rankReflections are the production sort, whose comparator scores both
+ * sides on every comparison. scoreReviews scores each candidate once, and
+ * rankReviewsScoredOnce sorts on those precomputed scores; the gap between them and
+ * rankReviews is what the comparator's re-scoring costs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FeedRankingBenchmark {
+
+    @Param({"200", "1000", "10000"})
+    private int candidates;
+
+    private FeedRankingService service;
+    private List<BookReview> reviews;
+    private List<Reflection> reflections;
+    private Set<Long> followingIds;
+
+    @Setup
+    public void setUp() {
+        Fixtures fixtures = new Fixtures();
+        service = new FeedRankingService();
+        Fixtures.inject(service, "engagementCounters", fixtures.engagementCounters(candidates));
+
+        reviews = fixtures.reviews(candidates);
+        reflections = fixtures.reflections(candidates);
+        // Viewer follows a fifth of the authors
+        followingIds = LongStream.rangeClosed(1, Fixtures.AUTHORS / 5).boxed().collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public List<BookReview> rankReviews() {
+        return service.rankReviews(reviews, followingIds);
+    }
+
+    @Benchmark
+    public List<Reflection> rankReflections() {
+        return service.rankReflections(reflections, followingIds);
+    }
+
+    @Benchmark
+    public void scoreReviews(Blackhole blackhole) {
+        for (BookReview review : reviews) {
+            blackhole.consume(service.scoreReview(review, followingIds));
+        }
+    }
+
+    @Benchmark
+    public void recencyMultiplier(Blackhole blackhole) {
+        for (BookReview review : reviews) {
+            blackhole.consume(service.recencyMultiplier(review.getCreatedAt()));
+        }
+    }
+
+    @Benchmark
+    public BookReview[] rankReviewsScoredOnce() {
+        int n = reviews.size();
+        double[] scores = new double[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            scores[i] = service.scoreReview(reviews.get(i), followingIds);
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble((Integer i) -> scores[i]).reversed());
+
+        BookReview[] ranked = new BookReview[n];
+        for (int i = 0; i < n; i++) {
+            ranked[i] = reviews.get(order[i]);
+        }
+        return ranked;
+    }
+}
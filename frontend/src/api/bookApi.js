@@ -11,13 +11,48 @@ import axiosClient from './axiosClient';
  * - Add statistics: getBookStats()
  */
 
+// Delta-sync state behind getAllBooks: the last sync token and the library it produced.
+// Tied to the auth token so a different login starts again from a full load.
+let librarySync = { authToken: null, since: null, books: new Map() };
+
 const bookApi = {
   /**
    * Get all books
+   * Synced through GET /books/changes: the first call (or a server reset) loads the whole
+   * library, later calls only fetch books changed or deleted since the previous call.
    * @returns {Promise} Array of books
    */
   getAllBooks: async () => {
-    const response = await axiosClient.get('/books');
+    const authToken = localStorage.getItem('token');
+    if (librarySync.authToken !== authToken) {
+      librarySync = { authToken, since: null, books: new Map() };
+    }
+    const changes = await bookApi.getBookChanges(librarySync.since);
+    const books = changes.reset ? new Map() : new Map(librarySync.books);
+    changes.changed.forEach((book) => books.set(book.id, book));
+    changes.deleted.forEach((id) => books.delete(id));
+    librarySync = { authToken, since: changes.since, books };
+    return Array.from(books.values());
+  },
+
+  /**
+   * Get books changed and deleted since a sync token
+   * @param {string|null} since - token from the previous response, null for a full load
+   * @returns {Promise} {since, reset, changed, deleted}
+   */
+  getBookChanges: async (since = null) => {
+    const response = await axiosClient.get('/books/changes', {
+      params: since ? { since } : {},
+    });
+    return response.data;
+  },
+
+  /**
+   * Get the library as slim rows (no notes, review or AI notes) for pickers and grids
+   * @returns {Promise} Array of book summaries
+   */
+  getBookSummaries: async () => {
+    const response = await axiosClient.get('/books/summary');
     return response.data;
   },
 
@@ -76,9 +76,11 @@ const reviewApi = {
   getComments: (reviewId, page = 0, size = 20) =>
     axiosClient.get(`/reviews/${reviewId}/comments`, { params: { page, size } }),
 
-  /** Get replies for a specific comment */
-  getReplies: (commentId) =>
-    axiosClient.get(`/reviews/comments/${commentId}/replies`),
+  /** Get one page of replies for a comment ({ replies, nextCursor }; pass nextCursor as after) */
+  getReplies: (commentId, after = null, limit = 20) =>
+    axiosClient.get(`/reviews/comments/${commentId}/replies`, {
+      params: { ...(after != null && { after }), limit },
+    }),
 
   /** Delete a comment */
   deleteComment: (commentId) =>
@@ -338,12 +338,16 @@ const socialApi = {
   },
 
   /**
-   * Get replies for a specific comment
+   * Get one page of replies for a comment, oldest first
    * @param {number} commentId
-   * @returns {Promise} - List<CommentResponse>
-   */
-  getReflectionCommentReplies: (commentId) => {
-    return axiosClient.get(`/social/reflections/comments/${commentId}/replies`);
+   * @param {number|null} after - nextCursor from the previous page (null for the first page)
+   * @param {number} limit
+   * @returns {Promise} - { replies: CommentResponse[], nextCursor }
+   */
+  getReflectionCommentReplies: (commentId, after = null, limit = 20) => {
+    return axiosClient.get(`/social/reflections/comments/${commentId}/replies`, {
+      params: { ...(after != null && { after }), limit },
+    });
   },
 
   /**
@@ -119,11 +119,8 @@ function RecommendationModal({ onClose, userBooks, onAddToWishlist }) {
         return;
       }
 
-      const bookList = relevantBooks.map(book => `"${book.title}" by ${book.author}`).join(', ');
-
-      const response = await axiosClient.post('/ai/recommendations/library', {
-        books: bookList
-      });
+      // The server builds a compact digest of the library itself
+      const response = await axiosClient.get('/ai/recommendations/library');
 
       setRecommendations(response.data.recommendations || []);
     } catch (err) {
@@ -7,6 +7,7 @@ import bookApi from '../api/bookApi';
 import {
   addReplyToCache,
   addTopLevelCommentToCache,
+  flattenReplyPages,
   reflectionCommentKeys,
   removeCommentFromCache,
   updateReflectionCommentCountCaches,
@@ -363,17 +364,19 @@ const ReflectionCommentItem = ({ comment, reflectionId, depth, onReply, onDelete
   const [showReplies, setShowReplies] = useState(false);
   const [confirmingDelete, setConfirmingDelete] = useState(false);
   const maxDepth = 2;
-  const repliesQuery = useQuery({
+  const repliesQuery = useInfiniteQuery({
     queryKey: reflectionCommentKeys.replies(comment.id),
-    queryFn: async () => {
-      const res = await socialApi.getReflectionCommentReplies(comment.id);
-      return res.data || [];
+    queryFn: async ({ pageParam }) => {
+      const res = await socialApi.getReflectionCommentReplies(comment.id, pageParam);
+      return res.data;
     },
+    initialPageParam: null,
+    getNextPageParam: (lastPage) => lastPage?.nextCursor ?? undefined,
     enabled: showReplies && (comment.replyCount > 0 || (comment.replies || []).length > 0),
     staleTime: 1000 * 60 * 5,
   });
 
-  const replies = repliesQuery.data || comment.replies || [];
+  const replies = repliesQuery.data ? flattenReplyPages(repliesQuery.data) : (comment.replies || []);
   const loadingReplies = repliesQuery.isLoading;
 
   const handleToggleReplies = () => {
@@ -499,6 +502,15 @@ const ReflectionCommentItem = ({ comment, reflectionId, depth, onReply, onDelete
                 formatDate={formatDate}
               />
             ))}
+            {repliesQuery.hasNextPage && (
+              <button
+                className="bg-transparent border-none text-[0.78rem] font-bold text-slate-400 cursor-pointer py-1.5 transition-colors duration-150 hover:text-violet-700 dark:text-[var(--color-text-light)] dark:hover:text-[var(--color-primary)]"
+                onClick={() => repliesQuery.fetchNextPage()}
+                disabled={repliesQuery.isFetchingNextPage}
+              >
+                {repliesQuery.isFetchingNextPage ? 'Loading...' : 'View more replies'}
+              </button>
+            )}
           </div>
         )}
       </div>
@@ -703,8 +715,8 @@ const FeedPage = () => {
   });
 
   const myBooksQuery = useQuery({
-    queryKey: ['books', 'all'],
-    queryFn: () => bookApi.getAllBooks(),
+    queryKey: ['books', 'summary'],
+    queryFn: () => bookApi.getBookSummaries(),
     enabled: showComposer,
     staleTime: 1000 * 60 * 10,
   });
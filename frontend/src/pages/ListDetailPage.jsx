@@ -48,8 +48,8 @@ export default function ListDetailPage() {
   });
 
   const libraryBooksQuery = useQuery({
-    queryKey: ['books', 'all'],
-    queryFn: () => bookApi.getAllBooks(),
+    queryKey: ['books', 'summary'],
+    queryFn: () => bookApi.getBookSummaries(),
     staleTime: 1000 * 60 * 5,
   });
 
@@ -167,12 +167,12 @@ export default function ListDetailPage() {
         pagesRead: 0,
       });
       toast.success(`"${item.bookTitle}" added to your library!`);
-      await queryClient.invalidateQueries({ queryKey: ['books', 'all'] });
+      await queryClient.invalidateQueries({ queryKey: ['books'] });
     } catch (err) {
       const msg = err?.response?.data?.message || err?.response?.data || '';
       if (typeof msg === 'string' && msg.toLowerCase().includes('already')) {
         toast.error('This book is already in your library');
-        await queryClient.invalidateQueries({ queryKey: ['books', 'all'] });
+        await queryClient.invalidateQueries({ queryKey: ['books'] });
       } else {
         toast.error('Failed to add book');
       }
@@ -7,6 +7,7 @@ import socialApi from '../api/socialApi';
 import {
   addReplyToCache,
   addTopLevelCommentToCache,
+  flattenReplyPages,
   reflectionCommentKeys,
   removeCommentFromCache,
   updateReflectionCaches,
@@ -382,17 +383,19 @@ const ReflectionCommentItem = ({ comment, reflectionId, depth, onReply, onDelete
   const [replyingTo, setReplyingTo] = useState(false);
   const [confirmingDelete, setConfirmingDelete] = useState(false);
 
-  const repliesQuery = useQuery({
+  const repliesQuery = useInfiniteQuery({
     queryKey: reflectionCommentKeys.replies(comment.id),
-    queryFn: async () => {
-      const res = await socialApi.getReflectionCommentReplies(comment.id);
-      return res.data || [];
+    queryFn: async ({ pageParam }) => {
+      const res = await socialApi.getReflectionCommentReplies(comment.id, pageParam);
+      return res.data;
     },
+    initialPageParam: null,
+    getNextPageParam: (lastPage) => lastPage?.nextCursor ?? undefined,
     enabled: showReplies && (comment.replyCount > 0 || (comment.replies || []).length > 0),
     staleTime: 1000 * 60 * 5,
   });
 
-  const replies = repliesQuery.data || comment.replies || [];
+  const replies = repliesQuery.data ? flattenReplyPages(repliesQuery.data) : (comment.replies || []);
   const loadingReplies = repliesQuery.isLoading;
 
   const handleToggleReplies = () => {
@@ -499,6 +502,15 @@ const ReflectionCommentItem = ({ comment, reflectionId, depth, onReply, onDelete
               />
             ))
           )}
+          {repliesQuery.hasNextPage && (
+            <button
+              className={`${metaBtnCls} font-semibold pl-10 py-1`}
+              onClick={() => repliesQuery.fetchNextPage()}
+              disabled={repliesQuery.isFetchingNextPage}
+            >
+              {repliesQuery.isFetchingNextPage ? 'Loading replies...' : 'View more replies'}
+            </button>
+          )}
         </div>
       )}
     </div>
@@ -23,7 +23,7 @@ const { socialApiMock, bookApiMock } = vi.hoisted(() => ({
     searchUsers: vi.fn(),
   },
   bookApiMock: {
-    getAllBooks: vi.fn(),
+    getBookSummaries: vi.fn(),
   },
 }));
 
@@ -116,7 +116,7 @@ describe('Comment flows', () => {
     }));
 
     socialApiMock.getReflectionCommentReplies.mockImplementation(async (commentId) => ({
-      data: repliesByParent[Number(commentId)] || [],
+      data: { replies: repliesByParent[Number(commentId)] || [], nextCursor: null },
     }));
 
     socialApiMock.addReflectionComment.mockImplementation(async (_reflectionId, text, parentId) => {
@@ -173,7 +173,7 @@ describe('Comment flows', () => {
       data: { hasSaved: true, savesCount: 1 },
     });
 
-    bookApiMock.getAllBooks.mockResolvedValue([]);
+    bookApiMock.getBookSummaries.mockResolvedValue([]);
   });
 
   it('supports add and reply in feed comments', async () => {
@@ -42,6 +42,28 @@ export const updateReflectionCaches = (queryClient, reflectionId, updater) => {
   ));
 };
 
+/**
+ * Reply caches hold cursor pages: { pages: [{ replies, nextCursor }], pageParams }.
+ * Flattened oldest first, without the duplicates a reply added locally can cause.
+ */
+export const flattenReplyPages = (data) => {
+  const seen = new Set();
+  return (data?.pages || [])
+    .flatMap((page) => page?.replies || [])
+    .filter((reply) => !seen.has(reply.id) && seen.add(reply.id));
+};
+
+const updateReplyPages = (data, transform) => {
+  if (!data?.pages) return data;
+  return {
+    ...data,
+    pages: data.pages.map((page, index) => ({
+      ...page,
+      replies: transform(page.replies || [], index === data.pages.length - 1),
+    })),
+  };
+};
+
 const updateInfiniteContent = (data, transform) => {
   if (!data?.pages) return data;
   return {
@@ -82,8 +104,13 @@ export const addTopLevelCommentToCache = (queryClient, reflectionId, comment) =>
 
 export const addReplyToCache = (queryClient, reflectionId, parentId, reply) => {
   queryClient.setQueryData(reflectionCommentKeys.replies(parentId), (oldData) => {
-    const replies = oldData || [];
-    return [...replies.filter((item) => item.id !== reply.id), reply];
+    if (!oldData?.pages) {
+      return { pages: [{ replies: [reply], nextCursor: null }], pageParams: [null] };
+    }
+    return updateReplyPages(oldData, (replies, isLast) => {
+      const others = replies.filter((item) => item.id !== reply.id);
+      return isLast ? [...others, reply] : others;
+    });
   });
 
   queryClient.setQueryData(reflectionCommentKeys.comments(reflectionId), (oldData) => (
@@ -102,7 +129,7 @@ export const addReplyToCache = (queryClient, reflectionId, parentId, reply) => {
 export const removeCommentFromCache = (queryClient, reflectionId, commentId, parentId = null) => {
   if (parentId) {
     queryClient.setQueryData(reflectionCommentKeys.replies(parentId), (oldData) => (
-      (oldData || []).filter((item) => item.id !== Number(commentId))
+      updateReplyPages(oldData, (replies) => replies.filter((item) => item.id !== Number(commentId)))
     ));
 
     queryClient.setQueryData(reflectionCommentKeys.comments(reflectionId), (oldData) => (
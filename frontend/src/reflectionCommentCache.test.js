@@ -3,6 +3,7 @@ import { QueryClient } from '@tanstack/react-query';
 import {
   addReplyToCache,
   addTopLevelCommentToCache,
+  flattenReplyPages,
   reflectionCommentKeys,
   removeCommentFromCache,
   updateReflectionCaches,
@@ -78,7 +79,7 @@ describe('reflectionCommentCache helpers', () => {
     const replies = queryClient.getQueryData(reflectionCommentKeys.replies(parentComment.id));
     const detail = queryClient.getQueryData(reflectionCommentKeys.detail(reflection.id));
 
-    expect(replies).toEqual([reply]);
+    expect(flattenReplyPages(replies)).toEqual([reply]);
     expect(comments.pages[0].content[0].replyCount).toBe(1);
     expect(comments.pages[0].content[0].replies).toEqual([reply]);
     expect(detail.commentsCount).toBe(2);
@@ -100,7 +101,10 @@ describe('reflectionCommentCache helpers', () => {
       pages: [{ content: [parentComment], page: { number: 0, totalPages: 1 } }],
       pageParams: [0],
     });
-    queryClient.setQueryData(reflectionCommentKeys.replies(parentComment.id), [reply]);
+    queryClient.setQueryData(reflectionCommentKeys.replies(parentComment.id), {
+      pages: [{ replies: [reply], nextCursor: null }],
+      pageParams: [null],
+    });
 
     removeCommentFromCache(queryClient, reflection.id, reply.id, parentComment.id);
     updateReflectionCommentCountCaches(queryClient, reflection.id, -1);
@@ -112,7 +116,7 @@ describe('reflectionCommentCache helpers', () => {
     const replies = queryClient.getQueryData(reflectionCommentKeys.replies(parentComment.id));
     const detail = queryClient.getQueryData(reflectionCommentKeys.detail(reflection.id));
 
-    expect(replies).toEqual([]);
+    expect(flattenReplyPages(replies)).toEqual([]);
     expect(comments.pages[0].content).toEqual([]);
     expect(detail.commentsCount).toBe(0);
   });